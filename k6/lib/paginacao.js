@@ -0,0 +1,80 @@
+// Chamadas aos endpoints de paginação, com tags (endpoint, store, depth) em cada requisição
+// para que os thresholds e o resumo separem latência por banco e por profundidade.
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+export const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+export const PAGE_SIZE = parseInt(__ENV.PAGE_SIZE || '50');
+export const FROM = __ENV.FROM || '2020-01-01';
+export const TO = __ENV.TO || '2030-12-31';
+
+// Latência da página por profundidade: a pergunta central da POC.
+export const pageLatency = new Trend('pagina_latencia', true);
+
+// Faixas de profundidade em linhas já percorridas (offset ou páginas seguidas * tamanho).
+export const DEPTHS = ['0-1k', '1k-10k', '10k-100k', '100k+'];
+
+export function depthOf(rows) {
+    if (rows < 1_000) return DEPTHS[0];
+    if (rows < 10_000) return DEPTHS[1];
+    if (rows < 100_000) return DEPTHS[2];
+    return DEPTHS[3];
+}
+
+function get(endpoint, store, rows, url, expectedStatuses) {
+    const tags = { endpoint, store, depth: depthOf(rows) };
+    const params = { tags };
+    if (expectedStatuses) {
+        params.responseCallback = http.expectedStatuses(...expectedStatuses);
+    }
+    const res = http.get(url, params);
+    pageLatency.add(res.timings.duration, tags);
+    return res;
+}
+
+function body(res) {
+    return res.status === 200 ? res.json() : null;
+}
+
+export function offsetPage(store, page) {
+    const rows = (page - 1) * PAGE_SIZE;
+    // Firestore rejeita páginas fundas (400) em vez de reescrever para keyset: esperado, não é falha
+    const expected = store === 'firestore' ? [200, 400] : null;
+    const res = get('offset', store, rows,
+        `${BASE_URL}/paginacao/offset?page=${page}&size=${PAGE_SIZE}&store=${store}`, expected);
+    check(res, { 'offset respondeu': (r) => r.status === 200 || (expected && r.status === 400) }, { endpoint: 'offset', store });
+    return body(res);
+}
+
+export function cursorPage(store, cursor, rows) {
+    const token = cursor ? `&cursor=${encodeURIComponent(cursor)}` : '';
+    const res = get('cursor', store, rows,
+        `${BASE_URL}/paginacao/cursor?limit=${PAGE_SIZE}&store=${store}${token}`);
+    check(res, { 'cursor respondeu': (r) => r.status === 200 }, { endpoint: 'cursor', store });
+    return body(res);
+}
+
+export function timePage(store, cursor, rows) {
+    const token = cursor ? `&cursor=${encodeURIComponent(cursor)}` : '';
+    const res = get('time', store, rows,
+        `${BASE_URL}/paginacao/time?from=${FROM}&to=${TO}&limit=${PAGE_SIZE}&store=${store}${token}`);
+    check(res, { 'time respondeu': (r) => r.status === 200 }, { endpoint: 'time', store });
+    return body(res);
+}
+
+/**
+ * Segue os 'nextCursor' a partir da primeira página. maxPages = 0 percorre a massa inteira.
+ * Retorna o número de páginas lidas.
+ */
+export function walk(fetchPage, store, maxPages) {
+    let cursor = null;
+    let pages = 0;
+    do {
+        const page = fetchPage(store, cursor, pages * PAGE_SIZE);
+        if (!page) break;
+        pages++;
+        cursor = page.hasNext ? page.nextCursor : null;
+    } while (cursor && (maxPages === 0 || pages < maxPages));
+    return pages;
+}
@@ -0,0 +1,43 @@
+// Exporta o resumo do k6 em JSON (completo) e em um formato compacto, estável entre execuções:
+// uma linha por submétrica com tags (endpoint/store/depth) e seus percentis.
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.0.2/index.js';
+
+const RESULTS_DIR = __ENV.RESULTS_DIR || 'k6/results';
+const RUN_ID = __ENV.RUN_ID || new Date().toISOString().replace(/[:.]/g, '-');
+
+function compact(data) {
+    const rows = [];
+    for (const [name, metric] of Object.entries(data.metrics)) {
+        if (!name.includes('{') || metric.type !== 'trend') continue;
+        const v = metric.values;
+        rows.push({
+            metric: name,
+            count: v.count || 0,
+            avg: v.avg,
+            p50: v.med,
+            p90: v['p(90)'],
+            p95: v['p(95)'],
+            p99: v['p(99)'],
+            max: v.max,
+            thresholdsOk: Object.values(metric.thresholds || {}).every((t) => t.ok),
+        });
+    }
+    rows.sort((a, b) => a.metric.localeCompare(b.metric));
+    return {
+        runId: RUN_ID,
+        scenarios: __ENV.SCENARIOS || 'todos',
+        stores: __ENV.STORES || 'postgres,mongo,firestore',
+        pageSize: __ENV.PAGE_SIZE || '50',
+        rate: __ENV.RATE || '20',
+        duration: __ENV.DURATION || '1m',
+        metrics: rows,
+    };
+}
+
+export function exportSummary(data) {
+    return {
+        stdout: textSummary(data, { indent: ' ', enableColors: true }),
+        [`${RESULTS_DIR}/${RUN_ID}.json`]: JSON.stringify(data, null, 2),
+        [`${RESULTS_DIR}/${RUN_ID}-compacto.json`]: JSON.stringify(compact(data), null, 2),
+    };
+}
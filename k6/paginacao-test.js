@@ -1,33 +1,129 @@
-import http from 'k6/http';
-import { sleep, check } from 'k6';
-
-export const options = {
-    stages: [
-        { duration: '10s', target: 10 }, // ramp-up
-        { duration: '30s', target: 10 }, // carga constante
-        { duration: '10s', target: 0 }   // ramp-down
-    ],
-    thresholds: {
-        http_req_duration: ['p(95)<500'], // 95% das requisições abaixo de 500ms
-        http_req_failed: ['rate<0.01'],   // menos de 1% de falhas
-    },
+// Suíte de cenários de paginação. Seleção por variáveis de ambiente:
+//   SCENARIOS  cenários separados por vírgula (padrão: todos)
+//              offset_shallow, offset_deep, cursor_walk, cursor_rate, time_walk, mixed_stores
+//              (na stack reativa, profile 'reactive', só existem cursor_walk e cursor_rate)
+//   STORES     bancos (padrão: postgres,mongo,firestore)
+//   RATE       requisições/s nos cenários de taxa constante (padrão 20)
+//   DURATION   duração dos cenários de taxa constante (padrão 1m)
+//   MAX_PAGE   maior página sorteada no offset_deep (padrão 4000)
+//   WALKERS    cursores percorrendo a massa em paralelo, por banco (padrão 4)
+//   WALK_PAGES páginas por caminhada; 0 = a massa inteira (padrão 200)
+//   RATE_PAGES páginas seguidas por iteração no cursor_rate (padrão 5)
+//   PAGE_SIZE, BASE_URL, FROM, TO, RUN_ID, RESULTS_DIR
+import { cursorPage, DEPTHS, offsetPage, timePage, walk } from './lib/paginacao.js';
+import { exportSummary } from './lib/summary.js';
+
+const STORES = (__ENV.STORES || 'postgres,mongo,firestore').split(',');
+const CURSOR_STORES = STORES;
+const RATE = parseInt(__ENV.RATE || '20');
+const DURATION = __ENV.DURATION || '1m';
+const MAX_PAGE = parseInt(__ENV.MAX_PAGE || '4000');
+const WALKERS = parseInt(__ENV.WALKERS || '4');
+const WALK_PAGES = parseInt(__ENV.WALK_PAGES || '200');
+const RATE_PAGES = parseInt(__ENV.RATE_PAGES || '5');
+
+function constantRate(exec, extra = {}) {
+    return {
+        executor: 'constant-arrival-rate',
+        exec,
+        rate: RATE,
+        timeUnit: '1s',
+        duration: DURATION,
+        preAllocatedVUs: Math.max(RATE, 10),
+        maxVUs: RATE * 10,
+        ...extra,
+    };
+}
+
+function walkers(exec, store) {
+    return {
+        executor: 'per-vu-iterations',
+        exec,
+        vus: WALKERS,
+        iterations: 1,
+        maxDuration: __ENV.WALK_MAX_DURATION || '30m',
+        env: { STORE: store },
+        tags: { store },
+    };
+}
+
+const ALL_SCENARIOS = {};
+for (const store of STORES) {
+    ALL_SCENARIOS[`offset_shallow_${store}`] = constantRate('offsetShallow', { env: { STORE: store }, tags: { store } });
+    ALL_SCENARIOS[`offset_deep_${store}`] = constantRate('offsetDeep', { env: { STORE: store }, tags: { store } });
+    ALL_SCENARIOS[`time_walk_${store}`] = walkers('timeWalk', store);
+}
+for (const store of CURSOR_STORES) {
+    ALL_SCENARIOS[`cursor_walk_${store}`] = walkers('cursorWalk', store);
+    ALL_SCENARIOS[`cursor_rate_${store}`] = constantRate('cursorRate', { env: { STORE: store }, tags: { store } });
+}
+ALL_SCENARIOS.mixed_stores = constantRate('mixedStores');
+
+const SELECTED = (__ENV.SCENARIOS || '').split(',').filter((s) => s);
+const scenarios = Object.fromEntries(Object.entries(ALL_SCENARIOS)
+    .filter(([name]) => SELECTED.length === 0 || SELECTED.some((s) => name === s || name.startsWith(`${s}_`))));
+
+// Thresholds por endpoint e banco (e por profundidade na métrica de página), o que também
+// faz o k6 publicar essas submétricas no resumo exportado.
+const thresholds = {
+    http_req_failed: ['rate<0.01'],
 };
+for (const store of STORES) {
+    thresholds[`http_req_duration{endpoint:offset,store:${store}}`] = ['p(95)<1500'];
+    thresholds[`http_req_duration{endpoint:time,store:${store}}`] = ['p(95)<800'];
+    for (const depth of DEPTHS) {
+        thresholds[`pagina_latencia{endpoint:offset,store:${store},depth:${depth}}`] = [];
+        thresholds[`pagina_latencia{endpoint:time,store:${store},depth:${depth}}`] = [];
+    }
+}
+for (const store of CURSOR_STORES) {
+    thresholds[`http_req_duration{endpoint:cursor,store:${store}}`] = ['p(95)<500'];
+    for (const depth of DEPTHS) {
+        thresholds[`pagina_latencia{endpoint:cursor,store:${store},depth:${depth}}`] = [];
+    }
+}
+
+export const options = { scenarios, thresholds };
+
+function randomInt(min, max) {
+    return min + Math.floor(Math.random() * (max - min + 1));
+}
+
+export function offsetShallow() {
+    offsetPage(__ENV.STORE, 1);
+}
+
+export function offsetDeep() {
+    // sorteio log-uniforme: cobre todas as faixas de profundidade, não só as páginas fundas
+    const page = Math.max(1, Math.round(Math.exp(Math.random() * Math.log(MAX_PAGE))));
+    offsetPage(__ENV.STORE, page);
+}
+
+export function cursorWalk() {
+    walk(cursorPage, __ENV.STORE, WALK_PAGES);
+}
+
+// taxa de chegada constante no keyset: compara a latência de cauda das stacks bloqueante e reativa
+export function cursorRate() {
+    walk(cursorPage, __ENV.STORE, RATE_PAGES);
+}
+
+export function timeWalk() {
+    walk(timePage, __ENV.STORE, WALK_PAGES);
+}
+
+export function mixedStores() {
+    const store = STORES[randomInt(0, STORES.length - 1)];
+    const pick = Math.random();
+    if (pick < 0.4) {
+        offsetPage(store, randomInt(1, 20));
+    } else if (pick < 0.7 && CURSOR_STORES.includes(store)) {
+        cursorPage(store, null, 0);
+    } else {
+        timePage(store, null, 0);
+    }
+}
 
-const BASE_URL = 'http://localhost:8080';
-
-export default function () {
-    const endpoints = [
-        `${BASE_URL}/paginacao/offset?page=1&size=10`,
-        `${BASE_URL}/paginacao/cursor?lastId=1000&limit=10`,
-        `${BASE_URL}/paginacao/time?from=2024-01-01&to=2024-12-31&limit=10`
-    ];
-
-    endpoints.forEach(url => {
-        const res = http.get(url);
-        check(res, {
-            'status é 200': (r) => r.status === 200,
-            'resposta abaixo de 500ms': (r) => r.timings.duration < 500,
-        });
-        sleep(1);
-    });
+export function handleSummary(data) {
+    return exportSummary(data);
 }
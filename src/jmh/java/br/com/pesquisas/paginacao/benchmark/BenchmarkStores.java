@@ -0,0 +1,119 @@
+package br.com.pesquisas.paginacao.benchmark;
+
+import br.com.pesquisas.paginacao.adapters.out.repository.firestore.FirestoreCursorPaginationAdapter;
+import br.com.pesquisas.paginacao.adapters.out.repository.firestore.FirestoreOffsetPaginationAdapter;
+import br.com.pesquisas.paginacao.adapters.out.repository.firestore.FirestorePageQuery;
+import br.com.pesquisas.paginacao.adapters.out.repository.firestore.FirestoreTimeWindowPaginationAdapter;
+import br.com.pesquisas.paginacao.adapters.out.repository.mongo.MongoCursorPaginationAdapter;
+import br.com.pesquisas.paginacao.adapters.out.repository.mongo.MongoIndexAdvisor;
+import br.com.pesquisas.paginacao.adapters.out.repository.mongo.MongoOffsetPaginationAdapter;
+import br.com.pesquisas.paginacao.adapters.out.repository.mongo.MongoPageQuery;
+import br.com.pesquisas.paginacao.adapters.out.repository.mongo.MongoTimeWindowPaginationAdapter;
+import br.com.pesquisas.paginacao.adapters.out.repository.postgres.PostgresCursorPaginationAdapter;
+import br.com.pesquisas.paginacao.adapters.out.repository.postgres.PostgresIndexAdvisor;
+import br.com.pesquisas.paginacao.adapters.out.repository.postgres.PostgresOffsetPaginationAdapter;
+import br.com.pesquisas.paginacao.adapters.out.repository.postgres.PostgresPageQuery;
+import br.com.pesquisas.paginacao.adapters.out.repository.postgres.PostgresTimeWindowPaginationAdapter;
+import br.com.pesquisas.paginacao.application.port.out.CursorPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.OffsetPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.application.port.out.TimeWindowPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.infra.metrics.MicrometerPaginationMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.cloud.NoCredentials;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreOptions;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Monta os adaptadores reais de um banco sem subir o contexto Spring, apontando para os
+ * serviços locais do docker-compose (PostgreSQL, MongoDB e emulador do Firestore).
+ *
+ * Endereços sobrescrevíveis por variável de ambiente, herdada pelos forks do JMH:
+ * BENCH_POSTGRES_URL/USER/PASSWORD, BENCH_MONGO_URI/DATABASE, FIRESTORE_EMULATOR_HOST e BENCH_FIRESTORE_PROJECT.
+ */
+final class BenchmarkStores implements AutoCloseable {
+
+    /** Mesmas métricas da aplicação (o custo de registrar faz parte da página), sem amostragem de plano. */
+    private static final PaginationMetricsPort METRICS = new MicrometerPaginationMetrics(new SimpleMeterRegistry(), 0);
+
+    final OffsetPaginationPort offset;
+    final TimeWindowPaginationPort timeWindow;
+    final CursorPaginationPort cursor;
+
+    private final AutoCloseable client;
+
+    private BenchmarkStores(OffsetPaginationPort offset, TimeWindowPaginationPort timeWindow,
+                            CursorPaginationPort cursor, AutoCloseable client) {
+        this.offset = offset;
+        this.timeWindow = timeWindow;
+        this.cursor = cursor;
+        this.client = client;
+    }
+
+    static BenchmarkStores open(DatabaseType store) {
+        return switch (store) {
+            case POSTGRES -> postgres();
+            case MONGO -> mongo();
+            case FIRESTORE -> firestore();
+        };
+    }
+
+    private static BenchmarkStores postgres() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(env("BENCH_POSTGRES_URL", "jdbc:postgresql://localhost:5432/paginacao_db"));
+        dataSource.setUsername(env("BENCH_POSTGRES_USER", "postgres"));
+        dataSource.setPassword(env("BENCH_POSTGRES_PASSWORD", "postgres"));
+        dataSource.setMaximumPoolSize(4);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        PostgresPageQuery pageQuery = new PostgresPageQuery(jdbcTemplate, new ObjectMapper(), METRICS,
+                new PostgresIndexAdvisor(jdbcTemplate, new ObjectMapper(), false, 0));
+        return new BenchmarkStores(
+                new PostgresOffsetPaginationAdapter(jdbcTemplate, pageQuery),
+                new PostgresTimeWindowPaginationAdapter(pageQuery),
+                new PostgresCursorPaginationAdapter(jdbcTemplate, pageQuery),
+                dataSource);
+    }
+
+    private static BenchmarkStores mongo() {
+        MongoClient client = MongoClients.create(env("BENCH_MONGO_URI", "mongodb://localhost:27017"));
+        MongoTemplate mongoTemplate = new MongoTemplate(client, env("BENCH_MONGO_DATABASE", "paginacao_db"));
+        MongoPageQuery pageQuery = new MongoPageQuery(mongoTemplate, METRICS, new MongoIndexAdvisor(mongoTemplate, false, 0));
+        return new BenchmarkStores(
+                new MongoOffsetPaginationAdapter(mongoTemplate, pageQuery),
+                new MongoTimeWindowPaginationAdapter(pageQuery),
+                new MongoCursorPaginationAdapter(mongoTemplate, pageQuery),
+                client);
+    }
+
+    private static BenchmarkStores firestore() {
+        Firestore firestore = FirestoreOptions.newBuilder()
+                .setProjectId(env("BENCH_FIRESTORE_PROJECT", "pocs-estudos-gerais"))
+                .setEmulatorHost(env("FIRESTORE_EMULATOR_HOST", "localhost:8081"))
+                .setCredentials(NoCredentials.getInstance())
+                .build()
+                .getService();
+        FirestorePageQuery pageQuery = new FirestorePageQuery(METRICS);
+        return new BenchmarkStores(
+                new FirestoreOffsetPaginationAdapter(firestore, pageQuery),
+                new FirestoreTimeWindowPaginationAdapter(firestore, pageQuery),
+                new FirestoreCursorPaginationAdapter(firestore, pageQuery),
+                firestore);
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value == null || value.isBlank() ? fallback : value;
+    }
+
+    @Override
+    public void close() throws Exception {
+        client.close();
+    }
+}
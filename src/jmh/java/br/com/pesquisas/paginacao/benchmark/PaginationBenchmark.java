@@ -0,0 +1,95 @@
+package br.com.pesquisas.paginacao.benchmark;
+
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência de uma página (offset, keyset e janela de tempo) por banco, em posições
+ * rasa, média e funda da ordenação. Rodar com '-prof gc' para a taxa de alocação por página.
+ *
+ * Pré-requisito: a massa carregada nos bancos (ver 'bootstrap.bulk-load'), com pelo menos
+ * 'position' + 'pageSize' exames. A chave de cada posição é resolvida uma vez no setup, pela
+ * própria paginação offset, para que keyset e janela leiam a mesma região dos dados.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class PaginationBenchmark {
+
+    /** Largura da janela no benchmark de janela de tempo. */
+    private static final Duration WINDOW = Duration.ofDays(1);
+
+    @Param({"postgres", "mongo", "firestore"})
+    public String store;
+
+    @Param({"0", "10000", "100000"})
+    public long position;
+
+    @Param({"50"})
+    public int pageSize;
+
+    private final ExamFilter filter = ExamFilter.none();
+
+    private BenchmarkStores stores;
+    private KeysetCursor createdAtKey;
+    private KeysetCursor coletaKey;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stores = BenchmarkStores.open(DatabaseType.from(store));
+        List<Exam> anchor = stores.offset.findPage(filter, position, 1);
+        if (anchor.isEmpty()) {
+            throw new IllegalStateException("Banco " + store + " tem menos de " + (position + 1)
+                    + " exames; carregue a massa antes de rodar o benchmark");
+        }
+        Exam exam = anchor.get(0);
+        createdAtKey = new KeysetCursor(exam.getCreatedAt(), exam.getId());
+        coletaKey = new KeysetCursor(exam.getDataColeta(), exam.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        stores.close();
+    }
+
+    @Benchmark
+    public List<Exam> offsetPage() {
+        return stores.offset.findPage(filter, position, pageSize);
+    }
+
+    @Benchmark
+    public CursorPage keysetPage() {
+        return stores.cursor.findPage(filter, position == 0 ? null : createdAtKey, pageSize);
+    }
+
+    @Benchmark
+    public List<Exam> timeWindowPage() {
+        Instant to = coletaKey.timestamp();
+        return stores.timeWindow.findWindow(TimeField.DATA_COLETA, filter, to.minus(WINDOW), to, null, pageSize);
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.pesquisas.paginacao.adapters.in.rest;
+
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Escreve os exames exportados direto no stream da resposta, em NDJSON ou CSV.
+ *
+ * O único buffer é o do gerador (tamanho fixo); quando ele enche, a escrita bloqueia no
+ * socket e a leitura do banco, na mesma thread, espera junto. Nada é acumulado em heap.
+ */
+final class ExamExportWriter implements Consumer<Exam>, Closeable {
+
+    enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson")),
+        CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+        final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return NDJSON;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidPaginationRequestException("Formato de exportação inválido: " + value, e);
+            }
+        }
+    }
+
+    static final String CSV_HEADER =
+            "id,paciente_id,nome_paciente,tipo_exame,status_exame,valor_resultado,data_coleta,data_resultado,laboratorio,created_at";
+
+    private final Format format;
+    private final JsonGenerator generator;
+    private final ObjectWriter jsonWriter;
+
+    /**
+     * O gerador do Jackson escreve com buffer próprio; FLUSH_AFTER_WRITE_VALUE desligado
+     * para não descarregar o socket a cada exame.
+     */
+    ExamExportWriter(Format format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        this.format = format;
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.setRootValueSeparator(null); // separador de linha é o '\n' escrito em accept()
+        this.jsonWriter = objectMapper.writerFor(Exam.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        if (format == Format.CSV) {
+            generator.writeRaw(CSV_HEADER);
+            generator.writeRaw('\n');
+        }
+    }
+
+    @Override
+    public void accept(Exam exam) {
+        try {
+            if (format == Format.NDJSON) {
+                jsonWriter.writeValue(generator, exam);
+            } else {
+                writeCsv(exam);
+            }
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsv(Exam exam) throws IOException {
+        field(exam.getId());
+        field(exam.getPacienteId());
+        field(exam.getNomePaciente());
+        field(exam.getTipoExame());
+        field(exam.getStatusExame());
+        field(exam.getValorResultado() != null ? exam.getValorResultado().toString() : null);
+        field(instant(exam.getDataColeta()));
+        field(instant(exam.getDataResultado()));
+        field(exam.getLaboratorio());
+        generator.writeRaw(csvValue(instant(exam.getCreatedAt())));
+    }
+
+    private void field(String value) throws IOException {
+        generator.writeRaw(csvValue(value));
+        generator.writeRaw(',');
+    }
+
+    private static String instant(Instant instant) {
+        return instant != null ? instant.toString() : null;
+    }
+
+    static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,207 @@
+package br.com.pesquisas.paginacao.adapters.in.rest;
+
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec;
+import br.com.pesquisas.paginacao.application.service.PaginationAdapterRouter;
+import br.com.pesquisas.paginacao.application.service.StoreAdapters;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.ExamsWrittenEvent;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Cache em processo das respostas de página, já serializadas em JSON: um acerto não
+ * consulta o banco nem passa pelo Jackson.
+ *
+ * Chave (banco, estratégia, filtro, posição, tamanho), onde a posição é o token de cursor,
+ * a página ou o intervalo pedido. O Caffeine limita o cache por bytes com admissão W-TinyLFU,
+ * então as páginas quentes (as primeiras, pacientes mais consultados) ficam e as de uma
+ * caminhada única saem primeiro.
+ *
+ * Invalidação pela marca d'água de created_at: cada entrada guarda o maior created_at que a
+ * página pode conter ('upperBound': o timestamp do cursor de uma página keyset; nulo = página
+ * de topo, offset ou janela de tempo, afetadas por qualquer inserção). Quando o created_at mais recente de um banco avança (consultado a cada
+ * 'paginacao.cache.watermark-interval') ou uma carga deste processo avisa por
+ * {@link ExamsWrittenEvent}, saem as entradas que podem conter as linhas novas; páginas keyset
+ * mais fundas continuam válidas. 'paginacao.cache.ttl' cobre o que a marca d'água não vê
+ * (updates, deletes e inserções retroativas de outros processos).
+ */
+@Slf4j
+@Component
+public class PageResponseCache {
+
+    record Key(DatabaseType store, PaginationStrategy strategy, ExamFilter filter, String position, int size) {
+    }
+
+    private record Entry(byte[] json, Instant upperBound) {
+    }
+
+    private static final DatabaseType[] STORES = DatabaseType.values();
+
+    private final PaginationAdapterRouter router;
+    private final CursorTokenCodec cursorCodec;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Cache<Key, Entry> cache;
+
+    /**
+     * Incrementada antes de cada invalidação: uma página lida antes dela não entra no cache, e
+     * uma gravada enquanto ela roda é removida por quem a gravou (conferência depois do put).
+     */
+    private final AtomicLongArray generations = new AtomicLongArray(STORES.length);
+    private final AtomicReferenceArray<Instant> watermarks = new AtomicReferenceArray<>(STORES.length);
+
+    public PageResponseCache(PaginationAdapterRouter router,
+                             CursorTokenCodec cursorCodec,
+                             ObjectMapper objectMapper,
+                             MeterRegistry registry,
+                             @Value("${paginacao.cache.enabled:true}") boolean enabled,
+                             @Value("${paginacao.cache.max-size:64MB}") DataSize maxSize,
+                             @Value("${paginacao.cache.ttl:PT30S}") Duration ttl) {
+        this.router = router;
+        this.cursorCodec = cursorCodec;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, Entry entry) -> entry.json().length + 128)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, "paginacao.pagina");
+    }
+
+    /**
+     * Resposta JSON da página: do cache ou de 'loader', cuja página é serializada e guardada
+     * com o limite superior calculado por 'upperBound'. O banco é resolvido uma vez e passado
+     * aos dois: uma troca do banco ativo no meio não grava a página de um banco na chave de outro.
+     */
+    <T> ResponseEntity<byte[]> get(String requestedStore, PaginationStrategy strategy, ExamFilter filter,
+                                   String position, int size, Function<DatabaseType, T> loader,
+                                   Function<DatabaseType, Instant> upperBound) {
+        DatabaseType store = router.route(requestedStore).store();
+        if (!enabled) {
+            return json(serialize(loader.apply(store)), "BYPASS");
+        }
+        Key key = new Key(store, strategy, filter, position, size);
+        Entry cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return json(cached.json(), "HIT");
+        }
+
+        long generation = generations.get(store.ordinal());
+        T page = loader.apply(store);
+        byte[] body = serialize(page);
+        if (generations.get(store.ordinal()) == generation) {
+            Entry entry = new Entry(body, upperBound.apply(store));
+            cache.put(key, entry);
+            // uma invalidação entre a conferência e o put não viu esta entrada: confere de novo depois dele
+            if (generations.get(store.ordinal()) != generation) {
+                cache.asMap().remove(key, entry);
+            }
+        }
+        return json(body, "MISS");
+    }
+
+    /** Limite para páginas de topo, offset e janela de tempo: qualquer inserção as afeta. */
+    static Function<DatabaseType, Instant> unbounded() {
+        return store -> null;
+    }
+
+    /**
+     * Limite de uma página keyset: o timestamp do cursor, acima do qual nenhuma linha da página
+     * pode estar (vazia ou não). Sem cursor (topo ou 'lastId', sem a chave em mãos), nenhum.
+     */
+    Function<DatabaseType, Instant> keysetUpperBound(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return unbounded();
+        }
+        return store -> cursorCodec.decode(store, cursor).timestamp();
+    }
+
+    @EventListener
+    public void onExamsWritten(ExamsWrittenEvent event) {
+        invalidate(event.store(), event.oldestCreatedAt());
+    }
+
+    /**
+     * Confere o created_at mais recente dos bancos com páginas em cache; se avançou,
+     * invalida as entradas que podem conter as linhas novas.
+     */
+    @Scheduled(
+            initialDelayString = "${paginacao.cache.watermark-interval:PT2S}",
+            fixedDelayString = "${paginacao.cache.watermark-interval:PT2S}"
+    )
+    public void refreshWatermarks() {
+        if (!enabled || cache.estimatedSize() == 0) {
+            return;
+        }
+        for (DatabaseType store : STORES) {
+            StoreAdapters adapters = router.forStore(store);
+            if (!adapters.hasCursor() || cache.asMap().keySet().stream().noneMatch(key -> key.store() == store)) {
+                continue;
+            }
+            try {
+                List<Exam> newest = adapters.cursor().findPage(ExamFilter.none(), null, 1).items();
+                Instant latest = newest.isEmpty() ? Instant.MIN : newest.get(0).getCreatedAt();
+                Instant previous = watermarks.getAndSet(store.ordinal(), latest);
+                // a primeira leitura não sabe o que as páginas já em cache viram: invalida todas
+                if (previous == null || latest.isAfter(previous)) {
+                    invalidate(store, previous);
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ Falha ao consultar a marca d'água de {}: {}", store.key(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Remove as entradas do banco cujo intervalo pode conter linhas com created_at > 'after'
+     * (nulo = todas).
+     */
+    void invalidate(DatabaseType store, Instant after) {
+        generations.incrementAndGet(store.ordinal());
+        int before = cache.asMap().size();
+        cache.asMap().entrySet().removeIf(e -> e.getKey().store() == store
+                && (after == null || e.getValue().upperBound() == null || after.isBefore(e.getValue().upperBound())));
+        log.debug("🧹 Cache de páginas {}: {} entradas invalidadas (created_at > {})",
+                store.key(), before - cache.asMap().size(), after);
+    }
+
+    private byte[] serialize(Object page) {
+        try {
+            return objectMapper.writeValueAsBytes(page);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ResponseEntity<byte[]> json(byte[] body, String cacheStatus) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-Cache", cacheStatus)
+                .body(body);
+    }
+}
@@ -0,0 +1,171 @@
+package br.com.pesquisas.paginacao.adapters.in.rest;
+
+import br.com.pesquisas.paginacao.adapters.in.rest.dto.CursorPageResponse;
+import br.com.pesquisas.paginacao.adapters.in.rest.dto.FederatedPageResponse;
+import br.com.pesquisas.paginacao.adapters.in.rest.dto.OffsetPageResponse;
+import br.com.pesquisas.paginacao.adapters.in.rest.dto.TimePageResponse;
+import br.com.pesquisas.paginacao.application.port.in.CursorPaginationUseCase;
+import br.com.pesquisas.paginacao.application.port.in.ExamExport;
+import br.com.pesquisas.paginacao.application.port.in.ExamExportUseCase;
+import br.com.pesquisas.paginacao.application.port.in.FederatedPaginationUseCase;
+import br.com.pesquisas.paginacao.application.port.in.OffsetPaginationUseCase;
+import br.com.pesquisas.paginacao.application.port.in.TimeWindowPaginationUseCase;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Instant;
+
+/**
+ * Endpoints de paginação. O parâmetro opcional 'store' escolhe o banco
+ * (postgres | mongo | firestore); sem ele vale 'feature.database.active'.
+ * As respostas de página passam pelo {@link PageResponseCache} (cabeçalho 'X-Cache').
+ * No profile 'reactive' quem atende é o {@link ReactivePaginacaoController}.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/paginacao")
+@RequiredArgsConstructor
+public class PaginacaoController {
+
+    private final CursorPaginationUseCase cursorPagination;
+    private final OffsetPaginationUseCase offsetPagination;
+    private final TimeWindowPaginationUseCase timePagination;
+    private final ExamExportUseCase examExport;
+    private final FederatedPaginationUseCase federatedPagination;
+    private final ObjectMapper objectMapper;
+    private final PageResponseCache pageCache;
+
+    /**
+     * Paginação keyset. 'cursor' é o token opaco devolvido em 'nextCursor';
+     * 'lastId' é mantido apenas para compatibilidade com clientes antigos.
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<byte[]> cursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String lastId,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String pacienteId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String store
+    ) {
+        ExamFilter filter = new ExamFilter(pacienteId, status);
+        String position = cursor != null && !cursor.isBlank() ? cursor
+                : lastId != null && !lastId.isBlank() ? "id:" + lastId : null;
+        return pageCache.get(store, PaginationStrategy.KEYSET, filter, position, limit,
+                resolved -> CursorPageResponse.from(cursorPagination.page(resolved.key(), filter, cursor, lastId, limit)),
+                pageCache.keysetUpperBound(cursor));
+    }
+
+    /**
+     * Paginação keyset sobre vários bancos ao mesmo tempo, intercalada por (created_at, id).
+     * 'stores' lista os bancos (padrão: todos); 'cursor' é o token composto de 'nextCursor'.
+     * 'partial=true' indica banco fora da página por tempo esgotado ou erro (ver 'stores').
+     * Sem cache: a resposta depende da disponibilidade de cada banco.
+     */
+    @GetMapping("/federated")
+    public FederatedPageResponse federated(
+            @RequestParam(required = false) String stores,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String pacienteId,
+            @RequestParam(required = false) String status
+    ) {
+        ExamFilter filter = new ExamFilter(pacienteId, status);
+        return FederatedPageResponse.from(federatedPagination.page(stores, filter, cursor, limit));
+    }
+
+    /**
+     * Paginação OFFSET/LIMIT com páginas a partir de 1. O total é estimado
+     * ('totalExact=false') até o recálculo em background.
+     */
+    @GetMapping("/offset")
+    public ResponseEntity<byte[]> offset(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String pacienteId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String store
+    ) {
+        ExamFilter filter = new ExamFilter(pacienteId, status);
+        return pageCache.get(store, PaginationStrategy.OFFSET, filter, String.valueOf(page), size,
+                resolved -> OffsetPageResponse.from(offsetPagination.page(resolved.key(), filter, page, size)),
+                PageResponseCache.unbounded());
+    }
+
+    /**
+     * Paginação por intervalo [from, to] em 'data_coleta' (padrão) ou 'data_resultado',
+     * do mais recente para o mais antigo, em janelas de largura adaptativa.
+     */
+    @GetMapping("/time")
+    public ResponseEntity<byte[]> time(
+            @RequestParam String from,
+            @RequestParam String to,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String field,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String pacienteId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String store
+    ) {
+        ExamFilter filter = new ExamFilter(pacienteId, status);
+        TimeField timeField = timeField(field);
+        Instant fromInstant = TimeParams.parseFrom(from);
+        Instant toInstant = TimeParams.parseTo(to);
+        String position = timeField.column() + "|" + fromInstant + "|" + toInstant + "|" + cursor;
+        return pageCache.get(store, PaginationStrategy.TIME_WINDOW, filter, position, limit,
+                resolved -> TimePageResponse.from(
+                        timePagination.page(resolved.key(), timeField, filter, fromInstant, toInstant, cursor, limit)),
+                PageResponseCache.unbounded());
+    }
+
+    /**
+     * Exportação de todos os exames do filtro, com 'field' em [from, to) quando informados,
+     * ordenados por 'field' DESC. 'format' = ndjson (padrão) | csv. A resposta é escrita
+     * em streaming enquanto o banco é lido, sem montar páginas nem a lista em memória.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String field,
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String pacienteId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String store
+    ) {
+        ExamFilter filter = new ExamFilter(pacienteId, status);
+        ExamExportWriter.Format exportFormat = ExamExportWriter.Format.from(format);
+        ExamExport export = examExport.export(store, timeField(field), filter,
+                from != null ? TimeParams.parseFrom(from) : null,
+                to != null ? TimeParams.parseTo(to) : null);
+
+        StreamingResponseBody body = out -> {
+            try (ExamExportWriter writer = new ExamExportWriter(exportFormat, out, objectMapper)) {
+                export.writeTo(writer);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.mediaType)
+                .header("X-Store", export.store().key())
+                .body(body);
+    }
+
+    private static TimeField timeField(String field) {
+        try {
+            return TimeField.from(field);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPaginationRequestException("Campo de tempo inválido: " + field, e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.pesquisas.paginacao.adapters.in.rest;
+
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.application.service.PaginationAdapterRouter;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.apache.catalina.connector.ResponseFacade;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Registra o tamanho da resposta dos endpoints de paginação.
+ *
+ * Lê o contador de bytes que o Tomcat já mantém na resposta, em vez de envolver o
+ * stream de saída: nenhum objeto extra por requisição.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class PayloadSizeFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "/paginacao/";
+    private static final DatabaseType[] STORES = DatabaseType.values();
+
+    private final PaginationMetricsPort metrics;
+    private final PaginationAdapterRouter router;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return strategyOf(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(request, response);
+        if (response.getStatus() != HttpServletResponse.SC_OK) {
+            return;
+        }
+        ResponseFacade facade = tomcatResponse(response);
+        if (facade != null) {
+            metrics.recordPayload(storeOf(request), strategyOf(request.getRequestURI()), facade.getContentWritten());
+        }
+    }
+
+    private static PaginationStrategy strategyOf(String uri) {
+        if (!uri.startsWith(PREFIX)) {
+            return null;
+        }
+        if (uri.startsWith("offset", PREFIX.length())) return PaginationStrategy.OFFSET;
+        if (uri.startsWith("cursor", PREFIX.length())) return PaginationStrategy.KEYSET;
+        if (uri.startsWith("time", PREFIX.length())) return PaginationStrategy.TIME_WINDOW;
+        return null;
+    }
+
+    private DatabaseType storeOf(HttpServletRequest request) {
+        String requested = request.getParameter("store");
+        if (requested != null) {
+            for (DatabaseType store : STORES) {
+                if (store.key().equalsIgnoreCase(requested.trim())) {
+                    return store;
+                }
+            }
+        }
+        return router.activeStore();
+    }
+
+    private static ResponseFacade tomcatResponse(ServletResponse response) {
+        ServletResponse current = response;
+        while (current instanceof ServletResponseWrapper wrapper) {
+            current = wrapper.getResponse();
+        }
+        return current instanceof ResponseFacade facade ? facade : null;
+    }
+}
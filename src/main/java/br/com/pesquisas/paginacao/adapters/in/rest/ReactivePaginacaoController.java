@@ -0,0 +1,60 @@
+package br.com.pesquisas.paginacao.adapters.in.rest;
+
+import br.com.pesquisas.paginacao.adapters.in.rest.dto.CursorPageResponse;
+import br.com.pesquisas.paginacao.application.port.in.ReactiveCursorPaginationUseCase;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Endpoints de paginação da stack reativa (profile 'reactive', WebFlux sobre Netty).
+ *
+ * '/paginacao/cursor' tem os mesmos parâmetros, tokens e corpo da stack bloqueante (sem
+ * 'lastId' e sem o cache de páginas), então o mesmo script k6 compara as duas. Offset,
+ * janela de tempo e exportação só existem na stack bloqueante.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/paginacao")
+@RequiredArgsConstructor
+public class ReactivePaginacaoController {
+
+    private final ReactiveCursorPaginationUseCase cursorPagination;
+
+    @GetMapping("/cursor")
+    public Mono<CursorPageResponse> cursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String pacienteId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String store
+    ) {
+        return cursorPagination.page(store, new ExamFilter(pacienteId, status), cursor, limit)
+                .map(CursorPageResponse::from);
+    }
+
+    /**
+     * Páginas keyset seguidas em NDJSON (uma página por linha), a partir de 'cursor' e até
+     * 'pages' páginas (0 = até o fim). A próxima página só é lida quando o cliente consome a
+     * anterior: a contrapressão da conexão controla o ritmo das consultas.
+     */
+    @GetMapping(value = "/cursor/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<CursorPageResponse> cursorStream(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "0") int pages,
+            @RequestParam(required = false) String pacienteId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String store
+    ) {
+        return cursorPagination.pages(store, new ExamFilter(pacienteId, status), cursor, limit, pages)
+                .map(CursorPageResponse::from);
+    }
+}
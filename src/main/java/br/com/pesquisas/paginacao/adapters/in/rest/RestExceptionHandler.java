@@ -0,0 +1,43 @@
+package br.com.pesquisas.paginacao.adapters.in.rest;
+
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.exception.StoreSaturatedException;
+import br.com.pesquisas.paginacao.domain.exception.UnsupportedPaginationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice
+public class RestExceptionHandler {
+
+    @ExceptionHandler(InvalidPaginationRequestException.class)
+    public ProblemDetail handleInvalidRequest(InvalidPaginationRequestException e) {
+        log.debug("⚠️ Requisição de paginação inválida: {}", e.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+    }
+
+    @ExceptionHandler(UnsupportedPaginationException.class)
+    public ProblemDetail handleUnsupported(UnsupportedPaginationException e) {
+        return ProblemDetail.forStatusAndDetail(HttpStatus.NOT_IMPLEMENTED, e.getMessage());
+    }
+
+    @ExceptionHandler(StoreSaturatedException.class)
+    public ResponseEntity<ProblemDetail> handleSaturated(StoreSaturatedException e) {
+        log.warn("🚦 {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage()));
+    }
+
+    @ExceptionHandler(DataAccessException.class)
+    public ProblemDetail handleDataAccess(DataAccessException e) {
+        log.error("❌ Falha de acesso ao banco: {}", e.getMessage());
+        return ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "Banco indisponível");
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.pesquisas.paginacao.adapters.in.rest;
+
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Conversão dos parâmetros 'from'/'to' (data ISO, data-hora local ou data-hora com offset,
+ * ex.: '2025-01-01T00:00:00-03:00') para UTC. Sem offset, a data-hora é lida em UTC.
+ * Uma data pura em 'to' é inclusiva: vira o início do dia seguinte, já que o fim é exclusivo.
+ */
+final class TimeParams {
+
+    private TimeParams() {
+    }
+
+    static Instant parseFrom(String value) {
+        return parse(value, false);
+    }
+
+    static Instant parseTo(String value) {
+        return parse(value, true);
+    }
+
+    private static Instant parse(String value, boolean endOfRange) {
+        if (value == null || value.isBlank()) {
+            throw new InvalidPaginationRequestException("Parâmetros 'from' e 'to' são obrigatórios");
+        }
+        // '+03:00' sem URL encoding chega como ' 03:00'
+        String text = value.strip().replace(' ', '+');
+        try {
+            return OffsetDateTime.parse(text).toInstant();
+        } catch (DateTimeParseException ignored) {
+            // sem offset: data-hora local ou data pura
+        }
+        try {
+            if (text.length() == 10) {
+                LocalDate date = LocalDate.parse(text);
+                return (endOfRange ? date.plusDays(1) : date).atStartOfDay().toInstant(ZoneOffset.UTC);
+            }
+            return LocalDateTime.parse(text).toInstant(ZoneOffset.UTC);
+        } catch (DateTimeParseException e) {
+            throw new InvalidPaginationRequestException("Data inválida: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.pesquisas.paginacao.adapters.in.rest.dto;
+
+import br.com.pesquisas.paginacao.application.port.in.CursorPageResult;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+
+import java.util.List;
+
+public record CursorPageResponse(
+        String store,
+        List<Exam> items,
+        int size,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public static CursorPageResponse from(CursorPageResult result) {
+        return new CursorPageResponse(
+                result.store().key(),
+                result.items(),
+                result.items().size(),
+                result.nextCursor(),
+                result.hasNext()
+        );
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.pesquisas.paginacao.adapters.in.rest.dto;
+
+import br.com.pesquisas.paginacao.application.port.in.FederatedPageResult;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+
+import java.util.List;
+
+public record FederatedPageResponse(
+        List<StoreStatus> stores,
+        List<Exam> items,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        boolean partial
+) {
+
+    public record StoreStatus(String store, String status, int items) {
+    }
+
+    public static FederatedPageResponse from(FederatedPageResult result) {
+        return new FederatedPageResponse(
+                result.stores().stream()
+                        .map(slice -> new StoreStatus(slice.store().key(), slice.status().key(), slice.items()))
+                        .toList(),
+                result.items(),
+                result.items().size(),
+                result.nextCursor(),
+                result.hasNext(),
+                result.partial()
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package br.com.pesquisas.paginacao.adapters.in.rest.dto;
+
+import br.com.pesquisas.paginacao.application.port.in.OffsetPageResult;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+
+import java.util.List;
+
+public record OffsetPageResponse(
+        String store,
+        List<Exam> items,
+        int page,
+        int size,
+        long totalElements,
+        long totalPages,
+        boolean totalExact,
+        boolean rewrittenToKeyset,
+        String nextCursor
+) {
+
+    public static OffsetPageResponse from(OffsetPageResult result) {
+        long total = result.total().value();
+        return new OffsetPageResponse(
+                result.store().key(),
+                result.items(),
+                result.page(),
+                result.size(),
+                total,
+                (total + result.size() - 1) / result.size(),
+                result.total().exact(),
+                result.rewrittenToKeyset(),
+                result.nextCursor()
+        );
+    }
+}
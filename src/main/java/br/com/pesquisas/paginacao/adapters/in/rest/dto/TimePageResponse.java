@@ -0,0 +1,30 @@
+package br.com.pesquisas.paginacao.adapters.in.rest.dto;
+
+import br.com.pesquisas.paginacao.application.port.in.TimePageResult;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.TimeWindow;
+
+import java.util.List;
+
+public record TimePageResponse(
+        String store,
+        String field,
+        List<Exam> items,
+        int size,
+        List<TimeWindow> windows,
+        String nextCursor,
+        boolean hasNext
+) {
+
+    public static TimePageResponse from(TimePageResult result) {
+        return new TimePageResponse(
+                result.store().key(),
+                result.field().column(),
+                result.items(),
+                result.items().size(),
+                result.windows(),
+                result.nextCursor(),
+                result.hasNext()
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.firestore;
+
+import br.com.pesquisas.paginacao.application.port.out.CursorPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Paginação keyset no Firestore: orderBy(created_at DESC, __name__ DESC) + startAfter.
+ *
+ * O Firestore cobra uma leitura por documento devolvido (e por documento pulado no offset),
+ * então esta é a única paginação de custo limitado por página. A consulta usa máscara de
+ * campos ('select') e o snapshot da última linha de cada página fica em um cache LRU pelo id:
+ * a página seguinte parte do snapshot e o 'lastId' legado resolve a chave sem nova leitura.
+ * Sem o snapshot (outra instância, cache cheio) o cursor é montado com os valores do token.
+ */
+@Component
+@RequiredArgsConstructor
+public class FirestoreCursorPaginationAdapter implements CursorPaginationPort {
+
+    private static final FieldMask KEY_MASK = FieldMask.of("created_at");
+
+    private final Firestore firestore;
+    private final FirestorePageQuery pageQuery;
+
+    @Value("${paginacao.firestore.snapshot-cache-size:1024}")
+    private int snapshotCacheSize;
+
+    private final Map<String, DocumentSnapshot> snapshots = Collections.synchronizedMap(
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, DocumentSnapshot> eldest) {
+                    return size() > snapshotCacheSize;
+                }
+            });
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.FIRESTORE;
+    }
+
+    @Override
+    public CursorPage findPage(ExamFilter filter, KeysetCursor after, int limit) {
+        Query query = FirestoreExamMapper.orderedByCreatedAt(firestore, filter)
+                .select(FirestoreExamMapper.EXAM_FIELDS);
+        if (after != null && after.isTimeBoundary()) {
+            query = query.whereLessThan("created_at", FirestoreExamMapper.toTimestamp(after.timestamp()));
+        } else if (after != null) {
+            DocumentSnapshot last = snapshotFor(after);
+            query = last != null
+                    ? query.startAfter(last)
+                    : query.startAfter(FirestoreExamMapper.toTimestamp(after.timestamp()), after.id());
+        }
+
+        long depth = after != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0;
+        List<Exam> rows = pageQuery.query(PaginationStrategy.KEYSET, depth, query.limit(limit + 1), docs -> {
+            if (docs.size() > limit) {
+                DocumentSnapshot boundary = docs.get(limit - 1);
+                snapshots.put(boundary.getId(), boundary);
+            }
+        });
+        boolean hasNext = rows.size() > limit;
+        return new CursorPage(hasNext ? rows.subList(0, limit) : rows, hasNext);
+    }
+
+    @Override
+    public Optional<KeysetCursor> keyOf(String id) {
+        DocumentSnapshot cached = snapshots.get(id);
+        if (cached != null) {
+            return Optional.of(toKey(cached));
+        }
+        DocumentReference ref = firestore.collection(FirestoreExamMapper.COLLECTION).document(id);
+        DocumentSnapshot doc = FirestoreExamMapper.await(firestore.getAll(new DocumentReference[]{ref}, KEY_MASK)).get(0);
+        pageQuery.recordReads(PaginationStrategy.KEYSET, 1);
+        return doc.exists() && doc.getTimestamp("created_at") != null ? Optional.of(toKey(doc)) : Optional.empty();
+    }
+
+    /**
+     * Snapshot em cache para a chave do token; descartado se o documento mudou de posição.
+     */
+    private DocumentSnapshot snapshotFor(KeysetCursor after) {
+        DocumentSnapshot cached = snapshots.get(after.id());
+        return cached != null && after.timestamp().equals(FirestoreExamMapper.toInstant(cached.getTimestamp("created_at")))
+                ? cached : null;
+    }
+
+    private static KeysetCursor toKey(DocumentSnapshot doc) {
+        return new KeysetCursor(FirestoreExamMapper.toInstant(doc.getTimestamp("created_at")), doc.getId());
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.firestore;
+
+import br.com.pesquisas.paginacao.application.port.out.ExamCountPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import com.google.cloud.firestore.Firestore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contagens no Firestore via agregação count(), cobrada por lote de 1000 entradas
+ * de índice em vez de uma leitura por documento. Não há estatística mais barata,
+ * então a estimativa e o valor exato usam a mesma agregação; o cache evita repeti-la.
+ */
+@Component
+@RequiredArgsConstructor
+public class FirestoreExamCountAdapter implements ExamCountPort {
+
+    private final Firestore firestore;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.FIRESTORE;
+    }
+
+    @Override
+    public long estimatedCount(ExamFilter filter) {
+        return exactCount(filter);
+    }
+
+    @Override
+    public long exactCount(ExamFilter filter) {
+        var query = FirestoreExamMapper.withFilter(firestore.collection(FirestoreExamMapper.COLLECTION), filter)
+                .orderBy("created_at");
+        return FirestoreExamMapper.await(query.count().get()).getCount();
+    }
+}
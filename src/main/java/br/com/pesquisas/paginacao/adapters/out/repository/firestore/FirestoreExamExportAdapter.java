@@ -0,0 +1,127 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.firestore;
+
+import br.com.pesquisas.paginacao.application.port.out.ExamExportPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import com.google.api.gax.rpc.ApiStreamObserver;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Exportação em streaming no Firestore com {@link Query#stream}.
+ *
+ * O SDK entrega os documentos numa thread do gRPC; eles passam por uma fila limitada
+ * ('fetch-size') até a thread da requisição. Com a fila cheia a thread do gRPC espera,
+ * o controle de fluxo do stream segura o servidor e a memória fica limitada à fila.
+ * Se o consumidor desistir (cliente desconectou), o restante do stream é descartado.
+ */
+@Component
+@RequiredArgsConstructor
+public class FirestoreExamExportAdapter implements ExamExportPort {
+
+    private static final Object END = new Object();
+
+    private final Firestore firestore;
+
+    @Value("${paginacao.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.FIRESTORE;
+    }
+
+    @Override
+    public long export(TimeField field, ExamFilter filter, Instant from, Instant to, Consumer<Exam> sink) {
+        String column = field.column();
+        Query query = FirestoreExamMapper.withFilter(firestore.collection(FirestoreExamMapper.COLLECTION), filter)
+                .select(FirestoreExamMapper.EXAM_FIELDS);
+        if (from != null) {
+            query = query.whereGreaterThanOrEqualTo(column, FirestoreExamMapper.toTimestamp(from));
+        }
+        if (to != null) {
+            query = query.whereLessThan(column, FirestoreExamMapper.toTimestamp(to));
+        }
+        query = query.orderBy(column, Query.Direction.DESCENDING)
+                .orderBy(FieldPath.documentId(), Query.Direction.DESCENDING);
+
+        StreamBuffer buffer = new StreamBuffer(fetchSize);
+        query.stream(buffer);
+        long rows = 0;
+        try {
+            for (Object next = buffer.take(); next != END; next = buffer.take()) {
+                sink.accept(FirestoreExamMapper.toExam((DocumentSnapshot) next));
+                rows++;
+            }
+        } finally {
+            buffer.cancelled = true;
+        }
+        return rows;
+    }
+
+    /**
+     * Ponte entre o observer do gRPC e a thread da requisição; erros chegam pela própria fila.
+     */
+    private static final class StreamBuffer implements ApiStreamObserver<DocumentSnapshot> {
+
+        private final BlockingQueue<Object> queue;
+        private volatile boolean cancelled;
+
+        StreamBuffer(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        @Override
+        public void onNext(DocumentSnapshot document) {
+            put(document);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            put(error);
+        }
+
+        @Override
+        public void onCompleted() {
+            put(END);
+        }
+
+        private void put(Object item) {
+            try {
+                while (!cancelled && !queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                    // fila cheia: espera o consumidor (ou a desistência dele)
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        Object take() {
+            Object item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessResourceFailureException("Exportação do Firestore interrompida", e);
+            }
+            if (item instanceof Throwable error) {
+                throw new DataAccessResourceFailureException("Falha no stream do Firestore: " + error.getMessage(), error);
+            }
+            return item;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.firestore;
+
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.springframework.dao.DataAccessResourceFailureException;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Conversões e helpers de consulta da coleção 'exames' no Firestore.
+ * Lê os campos direto do {@link DocumentSnapshot}, com os nomes gravados no banco.
+ */
+final class FirestoreExamMapper {
+
+    static final String COLLECTION = "exames";
+
+    /** Campos lidos por {@link #toExam}; usado como máscara ('select') para não trafegar o resto do documento. */
+    static final String[] EXAM_FIELDS = {
+            "paciente_id", "nome_paciente", "tipo_exame", "status_exame", "valor_resultado",
+            "data_coleta", "data_resultado", "laboratorio", "created_at"
+    };
+
+    private FirestoreExamMapper() {
+    }
+
+    static Exam toExam(DocumentSnapshot doc) {
+        return Exam.builder()
+                .id(doc.getId())
+                .pacienteId(doc.getString("paciente_id"))
+                .nomePaciente(doc.getString("nome_paciente"))
+                .tipoExame(doc.getString("tipo_exame"))
+                .statusExame(doc.getString("status_exame"))
+                .valorResultado(doc.getDouble("valor_resultado"))
+                .dataColeta(toInstant(doc.getTimestamp("data_coleta")))
+                .dataResultado(toInstant(doc.getTimestamp("data_resultado")))
+                .laboratorio(doc.getString("laboratorio"))
+                .createdAt(toInstant(doc.getTimestamp("created_at")))
+                .build();
+    }
+
+    /**
+     * Consulta base com filtros de igualdade e ordem (created_at DESC, __name__ DESC).
+     * O orderBy em created_at também exclui documentos sem o campo (ex.: o sentinel '_init').
+     */
+    static Query orderedByCreatedAt(Firestore firestore, ExamFilter filter) {
+        return withFilter(firestore.collection(COLLECTION), filter)
+                .orderBy("created_at", Query.Direction.DESCENDING)
+                .orderBy(FieldPath.documentId(), Query.Direction.DESCENDING);
+    }
+
+    static Query withFilter(Query query, ExamFilter filter) {
+        if (filter.hasPaciente()) query = query.whereEqualTo("paciente_id", filter.pacienteId());
+        if (filter.hasStatus()) query = query.whereEqualTo("status_exame", filter.statusExame());
+        return query;
+    }
+
+    static Instant toInstant(Timestamp timestamp) {
+        return timestamp != null ? Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos()) : null;
+    }
+
+    static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.ofTimeSecondsAndNanos(instant.getEpochSecond(), instant.getNano());
+    }
+
+    /**
+     * Aguarda a chamada do SDK traduzindo as falhas para a hierarquia de DataAccessException,
+     * como já acontece com JDBC e Mongo.
+     */
+    static <T> T await(ApiFuture<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataAccessResourceFailureException("Consulta ao Firestore interrompida", e);
+        } catch (ExecutionException e) {
+            throw new DataAccessResourceFailureException("Falha na consulta ao Firestore: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /**
+     * Chamada do SDK como {@link Mono}: disparada na assinatura, concluída na thread do gRPC
+     * (sem bloquear) e cancelada se o assinante desistir. Falhas viram DataAccessException, como em {@link #await}.
+     */
+    static <T> Mono<T> toMono(Supplier<ApiFuture<T>> call) {
+        return Mono.create(sink -> {
+            ApiFuture<T> future = call.get();
+            sink.onCancel(() -> future.cancel(true));
+            ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+                @Override
+                public void onSuccess(T result) {
+                    sink.success(result);
+                }
+
+                @Override
+                public void onFailure(Throwable error) {
+                    sink.error(new DataAccessResourceFailureException("Falha na consulta ao Firestore: " + error.getMessage(), error));
+                }
+            }, MoreExecutors.directExecutor());
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.firestore;
+
+import br.com.pesquisas.paginacao.application.port.out.OffsetPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.google.cloud.firestore.Firestore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Paginação offset no Firestore. Cada documento pulado é cobrado como leitura,
+ * então não há reescrita keyset barata: páginas profundas são rejeitadas pelo serviço.
+ */
+@Component
+@RequiredArgsConstructor
+public class FirestoreOffsetPaginationAdapter implements OffsetPaginationPort {
+
+    private final Firestore firestore;
+    private final FirestorePageQuery pageQuery;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.FIRESTORE;
+    }
+
+    @Override
+    public List<Exam> findPage(ExamFilter filter, long offset, int size) {
+        return pageQuery.query(PaginationStrategy.OFFSET, offset,
+                FirestoreExamMapper.orderedByCreatedAt(firestore, filter)
+                        .offset(Math.toIntExact(offset))
+                        .limit(size));
+    }
+
+    @Override
+    public Optional<KeysetCursor> keyAt(ExamFilter filter, KeysetCursor after, long position) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean supportsKeyAt() {
+        return false;
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.firestore;
+
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.google.cloud.firestore.ExecutionStats;
+import com.google.cloud.firestore.ExplainOptions;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Execução instrumentada das consultas de página no Firestore, compartilhada pelos adaptadores.
+ *
+ * Toda página registra as leituras cobradas: uma por documento devolvido (mínimo de uma
+ * por consulta) mais, no offset, uma por documento pulado. Uma fração das consultas é
+ * repetida com Query Explain (analyze) em background para registrar as entradas de índice
+ * lidas vs. documentos devolvidos.
+ */
+@Component
+@RequiredArgsConstructor
+public class FirestorePageQuery {
+
+    private static final ExplainOptions ANALYZE = ExplainOptions.builder().setAnalyze(true).build();
+
+    private final PaginationMetricsPort metrics;
+
+    List<Exam> query(PaginationStrategy strategy, long depth, Query query) {
+        return query(strategy, depth, query, null);
+    }
+
+    /**
+     * Variante que também entrega os snapshots lidos a 'documents' (ex.: cache de cursores).
+     */
+    List<Exam> query(PaginationStrategy strategy, long depth, Query query, Consumer<List<QueryDocumentSnapshot>> documents) {
+        QuerySnapshot snapshot = FirestoreExamMapper.await(query.get());
+        long skipped = strategy == PaginationStrategy.OFFSET ? depth : 0;
+        metrics.recordBilledReads(DatabaseType.FIRESTORE, strategy, depth, skipped + Math.max(snapshot.size(), 1));
+
+        long start = System.nanoTime();
+        List<Exam> items = new ArrayList<>(snapshot.size());
+        for (QueryDocumentSnapshot doc : snapshot.getDocuments()) {
+            items.add(FirestoreExamMapper.toExam(doc));
+        }
+        metrics.recordMapping(DatabaseType.FIRESTORE, strategy, System.nanoTime() - start);
+        if (documents != null) {
+            documents.accept(snapshot.getDocuments());
+        }
+
+        if (metrics.sampleScan()) {
+            metrics.runSample(() -> explain(strategy, depth, query));
+        }
+        return items;
+    }
+
+    /** Leituras avulsas fora de uma página (ex.: busca de um documento por id). */
+    void recordReads(PaginationStrategy strategy, long reads) {
+        metrics.recordBilledReads(DatabaseType.FIRESTORE, strategy, PaginationMetricsPort.UNKNOWN_DEPTH, reads);
+    }
+
+    private void explain(PaginationStrategy strategy, long depth, Query query) {
+        ExecutionStats stats = FirestoreExamMapper.await(query.explain(ANALYZE)).getMetrics().getExecutionStats();
+        if (stats == null) {
+            return;
+        }
+        long indexEntries = asLong(stats.getDebugStats().get("index_entries_scanned"));
+        long scanned = Math.max(indexEntries, stats.getReadOperations());
+        metrics.recordScan(DatabaseType.FIRESTORE, strategy, depth, scanned, stats.getResultsReturned());
+    }
+
+    private static long asLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.firestore;
+
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.application.port.out.TimeWindowPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Paginação por janela de tempo no Firestore. Depende dos índices compostos
+ * (status_exame, data_resultado DESC) e (paciente_id, data_coleta DESC) de 'firestore.indexes.json'.
+ */
+@Component
+@RequiredArgsConstructor
+public class FirestoreTimeWindowPaginationAdapter implements TimeWindowPaginationPort {
+
+    private final Firestore firestore;
+    private final FirestorePageQuery pageQuery;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.FIRESTORE;
+    }
+
+    @Override
+    public List<Exam> findWindow(TimeField field, ExamFilter filter, Instant from, Instant to,
+                                 KeysetCursor after, int limit) {
+        String column = field.column();
+        Instant upper = to;
+        if (after != null && after.isTimeBoundary() && (upper == null || after.timestamp().isBefore(upper))) {
+            upper = after.timestamp();
+        }
+
+        Query query = FirestoreExamMapper.withFilter(firestore.collection(FirestoreExamMapper.COLLECTION), filter)
+                .whereGreaterThanOrEqualTo(column, FirestoreExamMapper.toTimestamp(from));
+        if (upper != null) {
+            query = query.whereLessThan(column, FirestoreExamMapper.toTimestamp(upper));
+        }
+        query = query.orderBy(column, Query.Direction.DESCENDING)
+                .orderBy(FieldPath.documentId(), Query.Direction.DESCENDING);
+        if (after != null && !after.isTimeBoundary()) {
+            query = query.startAfter(FirestoreExamMapper.toTimestamp(after.timestamp()), after.id());
+        }
+
+        long depth = after != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0;
+        return pageQuery.query(PaginationStrategy.TIME_WINDOW, depth, query.limit(limit));
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.firestore;
+
+import br.com.pesquisas.paginacao.application.port.out.StoreWarmUpPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import com.google.cloud.firestore.Firestore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aquece o Firestore: uma consulta de um documento abre o canal gRPC e autentica.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FirestoreWarmUpAdapter implements StoreWarmUpPort {
+
+    private final Firestore firestore;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.FIRESTORE;
+    }
+
+    @Override
+    public void warmUp() {
+        FirestoreExamMapper.await(FirestoreExamMapper.orderedByCreatedAt(firestore, ExamFilter.none()).limit(1).get());
+        log.info("🔥 Firestore aquecido.");
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.firestore;
+
+import br.com.pesquisas.paginacao.application.port.out.ReactiveCursorPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Paginação keyset no Firestore com o {@code ApiFuture} do SDK exposto como {@link Mono}
+ * (profile 'reactive'): nenhuma thread fica parada esperando o gRPC.
+ *
+ * Mesma consulta de {@link FirestoreCursorPaginationAdapter}, com o startAfter sempre montado
+ * pelos valores do token (sem o cache de snapshots).
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveFirestoreCursorPaginationAdapter implements ReactiveCursorPaginationPort {
+
+    private final Firestore firestore;
+    private final FirestorePageQuery pageQuery;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.FIRESTORE;
+    }
+
+    @Override
+    public Mono<CursorPage> findPage(ExamFilter filter, KeysetCursor after, int limit) {
+        Query query = FirestoreExamMapper.orderedByCreatedAt(firestore, filter)
+                .select(FirestoreExamMapper.EXAM_FIELDS);
+        if (after != null && after.isTimeBoundary()) {
+            query = query.whereLessThan("created_at", FirestoreExamMapper.toTimestamp(after.timestamp()));
+        } else if (after != null) {
+            query = query.startAfter(FirestoreExamMapper.toTimestamp(after.timestamp()), after.id());
+        }
+
+        Query page = query.limit(limit + 1);
+        return FirestoreExamMapper.toMono(page::get).map(snapshot -> {
+            pageQuery.recordReads(PaginationStrategy.KEYSET, Math.max(snapshot.size(), 1));
+            List<Exam> rows = new ArrayList<>(snapshot.size());
+            for (QueryDocumentSnapshot doc : snapshot.getDocuments()) {
+                rows.add(FirestoreExamMapper.toExam(doc));
+            }
+            boolean hasNext = rows.size() > limit;
+            return new CursorPage(hasNext ? rows.subList(0, limit) : rows, hasNext);
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.application.port.out.CursorPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.mongodb.ExplainVerbosity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Paginação keyset no MongoDB ordenada por (created_at DESC, _id DESC).
+ *
+ * A página projeta só os campos de {@link Exam} e fixa o índice com 'hint':
+ * sem filtro de paciente usa {@link #IDX_COVER}, que contém todos esses campos e
+ * responde a consulta sem buscar documentos (covered query); com paciente usa
+ * {@link #IDX_PACIENTE}, que vai direto às chaves do paciente.
+ *
+ * Na primeira consulta de cada forma de filtro o plano é conferido com explain();
+ * um COLLSCAN (índice ausente ou ignorado) falha a requisição em vez de degradar em silêncio.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoCursorPaginationAdapter implements CursorPaginationPort {
+
+    public static final String IDX_COVER = "idx_cover_created_at_id";
+    public static final String IDX_PACIENTE = "idx_paciente_created_at_id";
+
+    static final Bson PAGE_PROJECTION = new Document("_id", 1)
+            .append("paciente_id", 1).append("nome_paciente", 1).append("tipo_exame", 1)
+            .append("status_exame", 1).append("valor_resultado", 1).append("data_coleta", 1)
+            .append("data_resultado", 1).append("laboratorio", 1).append("created_at", 1);
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoPageQuery pageQuery;
+
+    /** Formas de filtro (ExamFilter.shape) cujo plano já foi conferido (1); escrito pelas threads de requisição. */
+    private final AtomicIntegerArray verifiedShapes = new AtomicIntegerArray(4);
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.MONGO;
+    }
+
+    @Override
+    public CursorPage findPage(ExamFilter filter, KeysetCursor after, int limit) {
+        Document query = MongoExamMapper.filterDocument(filter);
+        if (after != null) {
+            MongoExamMapper.appendAfter(query, after);
+        }
+        String hint = hintFor(filter);
+        verifyPlan(filter, query, hint);
+
+        long depth = after != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0;
+        List<Exam> rows = pageQuery.query(PaginationStrategy.KEYSET, depth, query,
+                MongoExamMapper.SORT_CREATED_AT_DESC, PAGE_PROJECTION, hint, 0, limit + 1);
+        boolean hasNext = rows.size() > limit;
+        return new CursorPage(hasNext ? rows.subList(0, limit) : rows, hasNext);
+    }
+
+    @Override
+    public Optional<KeysetCursor> keyOf(String id) {
+        Document doc = mongoTemplate.getCollection(MongoExamMapper.COLLECTION)
+                .find(new Document("_id", MongoExamMapper.toBsonId(id)))
+                .projection(MongoExamMapper.KEY_PROJECTION)
+                .first();
+        return Optional.ofNullable(doc)
+                .filter(d -> d.getDate("created_at") != null)
+                .map(MongoExamMapper::toKey);
+    }
+
+    /** Chave de {@link #IDX_COVER}: ordem da página, campos filtráveis e depois os demais campos projetados. */
+    public static Document coverIndexKeys() {
+        return new Document("created_at", -1).append("_id", -1)
+                .append("paciente_id", 1).append("status_exame", 1)
+                .append("nome_paciente", 1).append("tipo_exame", 1).append("valor_resultado", 1)
+                .append("data_coleta", 1).append("data_resultado", 1).append("laboratorio", 1);
+    }
+
+    public static Document pacienteIndexKeys() {
+        return new Document("paciente_id", 1).append("created_at", -1).append("_id", -1);
+    }
+
+    static String hintFor(ExamFilter filter) {
+        return filter.hasPaciente() ? IDX_PACIENTE : IDX_COVER;
+    }
+
+    private void verifyPlan(ExamFilter filter, Document query, String hint) {
+        int shape = filter.shape();
+        if (verifiedShapes.get(shape) == 1) {
+            return;
+        }
+        Document plan = pageQuery.find(query, MongoExamMapper.SORT_CREATED_AT_DESC, PAGE_PROJECTION, hint, 0, 1)
+                .explain(ExplainVerbosity.QUERY_PLANNER);
+        String winning = String.valueOf(plan.get("queryPlanner", Document.class).get("winningPlan"));
+        if (winning.contains("COLLSCAN")) {
+            throw new IllegalStateException("Plano da paginação keyset no MongoDB usa COLLSCAN (índice "
+                    + hint + " ausente?): " + winning);
+        }
+        if (hint.equals(IDX_COVER) && winning.contains("FETCH")) {
+            log.warn("⚠️ Paginação keyset no MongoDB não está coberta pelo índice {} (plano com FETCH)", hint);
+        }
+        verifiedShapes.set(shape, 1);
+    }
+}
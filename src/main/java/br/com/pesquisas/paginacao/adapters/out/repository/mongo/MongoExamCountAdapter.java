@@ -0,0 +1,45 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.application.port.out.ExamCountPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import com.mongodb.client.model.CountOptions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contagens no MongoDB. Sem filtro usa 'estimatedDocumentCount' (metadados da coleção).
+ * Com filtro não há estatística pronta: conta pelo índice até um teto, o que mantém
+ * o custo da estimativa limitado mesmo em filtros pouco seletivos.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoExamCountAdapter implements ExamCountPort {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${paginacao.count.mongo-estimate-cap:100000}")
+    private int estimateCap;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.MONGO;
+    }
+
+    @Override
+    public long estimatedCount(ExamFilter filter) {
+        var collection = mongoTemplate.getCollection(MongoExamMapper.COLLECTION);
+        if (filter.isEmpty()) {
+            return collection.estimatedDocumentCount();
+        }
+        return collection.countDocuments(MongoExamMapper.filterDocument(filter), new CountOptions().limit(estimateCap));
+    }
+
+    @Override
+    public long exactCount(ExamFilter filter) {
+        return mongoTemplate.getCollection(MongoExamMapper.COLLECTION)
+                .countDocuments(MongoExamMapper.filterDocument(filter));
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.application.port.out.ExamExportPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import com.mongodb.client.MongoCursor;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.function.Consumer;
+
+/**
+ * Exportação em streaming no MongoDB: um único cursor que busca 'fetch-size' documentos
+ * por getMore. Cada documento é entregue antes do próximo lote ser pedido.
+ *
+ * 'allowDiskUse' evita o limite de memória do sort quando nenhum índice cobre a ordem pedida.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoExamExportAdapter implements ExamExportPort {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${paginacao.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.MONGO;
+    }
+
+    @Override
+    public long export(TimeField field, ExamFilter filter, Instant from, Instant to, Consumer<Exam> sink) {
+        String column = field.column();
+        Document query = MongoExamMapper.filterDocument(filter);
+        if (from != null || to != null) {
+            Document range = new Document();
+            if (from != null) range.append("$gte", Date.from(from));
+            if (to != null) range.append("$lt", Date.from(to));
+            query.append(column, range);
+        }
+
+        long rows = 0;
+        try (MongoCursor<RawBsonDocument> cursor = mongoTemplate.getCollection(MongoExamMapper.COLLECTION)
+                .find(query, RawBsonDocument.class)
+                .sort(new Document(column, -1).append("_id", -1))
+                .batchSize(fetchSize)
+                .allowDiskUse(true)
+                .cursor()) {
+            while (cursor.hasNext()) {
+                sink.accept(MongoExamMapper.toExam(cursor.next()));
+                rows++;
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,129 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Conversões entre documentos da coleção 'exames' e o modelo de domínio.
+ * As páginas chegam como {@link RawBsonDocument} (os bytes recebidos do servidor) e são
+ * lidas em uma passada direto para {@link Exam}, sem montar o mapa de um {@link Document}.
+ *
+ * As datas precisam ser BSON Date (a carga em massa e o 'import_mongo.sh' gravam assim): os
+ * filtros de cursor, janela e exportação comparam com Date, e o Mongo nunca casa texto com
+ * Date. Um documento com data em texto falha na leitura em vez de sumir das páginas seguintes.
+ */
+final class MongoExamMapper {
+
+    static final String COLLECTION = "exames";
+
+    static final Bson SORT_CREATED_AT_DESC = new Document("created_at", -1).append("_id", -1);
+    static final Bson KEY_PROJECTION = new Document("created_at", 1).append("_id", 1);
+
+    private MongoExamMapper() {
+    }
+
+    static Exam toExam(RawBsonDocument raw) {
+        Exam.ExamBuilder exam = Exam.builder();
+        try (BsonBinaryReader reader = new BsonBinaryReader(raw.getByteBuffer().asNIO())) {
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                String field = reader.readName();
+                BsonType type = reader.getCurrentBsonType();
+                if (type == BsonType.NULL) {
+                    reader.readNull();
+                    continue;
+                }
+                switch (field) {
+                    case "_id" -> exam.id(readId(reader, type));
+                    case "paciente_id" -> exam.pacienteId(reader.readString());
+                    case "nome_paciente" -> exam.nomePaciente(reader.readString());
+                    case "tipo_exame" -> exam.tipoExame(reader.readString());
+                    case "status_exame" -> exam.statusExame(reader.readString());
+                    case "valor_resultado" -> exam.valorResultado(readNumber(reader, type));
+                    case "data_coleta" -> exam.dataColeta(readDate(reader, type));
+                    case "data_resultado" -> exam.dataResultado(readDate(reader, type));
+                    case "laboratorio" -> exam.laboratorio(reader.readString());
+                    case "created_at" -> exam.createdAt(readDate(reader, type));
+                    default -> reader.skipValue();
+                }
+            }
+            reader.readEndDocument();
+        }
+        return exam.build();
+    }
+
+    private static String readId(BsonBinaryReader reader, BsonType type) {
+        return switch (type) {
+            case OBJECT_ID -> reader.readObjectId().toHexString();
+            case STRING -> reader.readString();
+            case INT32 -> Integer.toString(reader.readInt32());
+            case INT64 -> Long.toString(reader.readInt64());
+            default -> throw new IllegalStateException("Tipo de _id não suportado: " + type);
+        };
+    }
+
+    private static Double readNumber(BsonBinaryReader reader, BsonType type) {
+        return switch (type) {
+            case DOUBLE -> reader.readDouble();
+            case INT32 -> (double) reader.readInt32();
+            case INT64 -> (double) reader.readInt64();
+            case DECIMAL128 -> reader.readDecimal128().bigDecimalValue().doubleValue();
+            default -> throw new IllegalStateException("valor_resultado com tipo " + type);
+        };
+    }
+
+    private static Instant readDate(BsonBinaryReader reader, BsonType type) {
+        if (type != BsonType.DATE_TIME) {
+            throw new IllegalStateException("Data com tipo " + type + ": importe o CSV com tipos de coluna (import_mongo.sh)");
+        }
+        return Instant.ofEpochMilli(reader.readDateTime());
+    }
+
+    static KeysetCursor toKey(Document doc) {
+        return new KeysetCursor(doc.getDate("created_at").toInstant(), idToString(doc.get("_id")));
+    }
+
+    static Document filterDocument(ExamFilter filter) {
+        Document query = new Document();
+        if (filter.hasPaciente()) query.append("paciente_id", filter.pacienteId());
+        if (filter.hasStatus()) query.append("status_exame", filter.statusExame());
+        return query;
+    }
+
+    /**
+     * Acrescenta à consulta o seek estritamente depois de 'after' na ordem (created_at DESC, _id DESC).
+     */
+    static Document appendAfter(Document query, KeysetCursor after) {
+        Date afterDate = Date.from(after.timestamp());
+        if (after.isTimeBoundary()) {
+            return query.append("created_at", new Document("$lt", afterDate));
+        }
+        // o limite externo (<=) dá os bounds do índice; o $or só desempata no mesmo instante
+        return query.append("created_at", new Document("$lte", afterDate))
+                .append("$or", List.of(
+                        new Document("created_at", new Document("$lt", afterDate)),
+                        new Document("_id", new Document("$lt", toBsonId(after.id())))));
+    }
+
+    /**
+     * Ids gerados pelo Mongo são ObjectId; ids carregados pela POC podem ser strings.
+     */
+    static Object toBsonId(String id) {
+        return ObjectId.isValid(id) ? new ObjectId(id) : id;
+    }
+
+    static String idToString(Object id) {
+        return id instanceof ObjectId objectId ? objectId.toHexString() : String.valueOf(id);
+    }
+}
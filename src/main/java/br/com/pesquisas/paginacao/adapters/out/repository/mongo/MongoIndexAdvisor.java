@@ -0,0 +1,236 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.application.port.out.IndexAdvice;
+import br.com.pesquisas.paginacao.application.port.out.IndexAdvisorPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.IndexOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Advisor de índices do MongoDB.
+ *
+ * O {@link MongoPageQuery} registra a forma de cada consulta de página (igualdades de
+ * paciente/status, campo de ordenação, projeção e hint) com a última consulta executada.
+ * Sob demanda cada forma passa por explain("executionStats") e recebe a sugestão de um
+ * índice composto na ordem igualdade → ordenação (campo -1, _id -1) → campos projetados,
+ * que responde a consulta sem buscar documentos (PROJECTION_COVERED). Filtro por status
+ * vira índice parcial por valor (partialFilterExpression). Consultas sem projeção devolvem
+ * o documento inteiro e não podem ser cobertas: a sugestão fica só com as chaves.
+ */
+@Slf4j
+@Component
+public class MongoIndexAdvisor implements IndexAdvisorPort {
+
+    private static final int MAX_INDEX_NAME = 120;
+
+    private record Shape(PaginationStrategy strategy, boolean paciente, boolean status, String sortField,
+                         boolean projected, String hint) {
+    }
+
+    private record Query(Bson filter, Bson sort, Bson projection, String hint, int skip, int limit) {
+    }
+
+    private static final class Sample {
+        final LongAdder count = new LongAdder();
+        volatile Query query;
+    }
+
+    private record Proposal(String index, Document keys, Document partialFilter) {
+
+        String definition() {
+            return "db.exames.createIndex(" + keys.toJson() + ", {name: '" + index + "'"
+                    + (partialFilter != null ? ", partialFilterExpression: " + partialFilter.toJson() : "") + "})";
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final int maxStatusValues;
+    private final Map<Shape, Map<String, Sample>> shapes = new ConcurrentHashMap<>();
+    /** Plano de cada forma antes de o advisor criar o índice dela (chave: forma + status). */
+    private final Map<String, IndexAdvice.Plan> baselines = new ConcurrentHashMap<>();
+    private final ReentrantLock applyLock = new ReentrantLock();
+
+    public MongoIndexAdvisor(MongoTemplate mongoTemplate,
+                             @Value("${paginacao.index-advisor.enabled:true}") boolean enabled,
+                             @Value("${paginacao.index-advisor.max-status-values:8}") int maxStatusValues) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.maxStatusValues = maxStatusValues;
+    }
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.MONGO;
+    }
+
+    void observe(PaginationStrategy strategy, Bson filter, Bson sort, Bson projection, String hint, int skip, int limit) {
+        if (!enabled || !(filter instanceof Document query) || !(sort instanceof Document order)) {
+            return;
+        }
+        Object status = query.get("status_exame");
+        Shape shape = new Shape(strategy, query.containsKey("paciente_id"), status instanceof String,
+                order.keySet().iterator().next(), projection != null, hint);
+        Map<String, Sample> byStatus = shapes.computeIfAbsent(shape, s -> new ConcurrentHashMap<>());
+        String statusKey = status instanceof String value ? value : "";
+        Sample sample = byStatus.get(statusKey);
+        if (sample == null) {
+            // valores de status vêm do cliente: acima do limite a forma não ganha amostras novas
+            if (byStatus.size() >= maxStatusValues) {
+                return;
+            }
+            sample = byStatus.computeIfAbsent(statusKey, s -> new Sample());
+        }
+        sample.count.increment();
+        sample.query = new Query(filter, sort, projection, hint, skip, limit);
+    }
+
+    @Override
+    public List<IndexAdvice> advise() {
+        return evaluate(null);
+    }
+
+    @Override
+    public List<IndexAdvice> apply(String index) {
+        applyLock.lock();
+        try {
+            Proposal target = null;
+            for (Map.Entry<Shape, Map<String, Sample>> entry : shapes.entrySet()) {
+                for (Map.Entry<String, Sample> sample : entry.getValue().entrySet()) {
+                    Proposal proposal = propose(entry.getKey(), sample.getKey(), sample.getValue().query);
+                    if (proposal.index().equals(index)) {
+                        target = proposal;
+                        baselines.putIfAbsent(entry.getKey() + "|" + sample.getKey(),
+                                explain(sample.getValue().query, sample.getValue().query.hint()));
+                    }
+                }
+            }
+            if (target == null) {
+                return List.of();
+            }
+            long start = System.nanoTime();
+            log.info("🔧 Criando índice sugerido no MongoDB: {}", target.definition());
+            IndexOptions options = new IndexOptions().name(target.index());
+            if (target.partialFilter() != null) {
+                options.partialFilterExpression(target.partialFilter());
+            }
+            collection().createIndex(target.keys(), options);
+            log.info("✅ Índice {} criado em {} ms", index, (System.nanoTime() - start) / 1_000_000);
+            return evaluate(index);
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    /** Avalia as formas observadas; com 'index', só as que sugerem esse índice. */
+    private List<IndexAdvice> evaluate(String index) {
+        List<String> existing = collection().listIndexes().map(doc -> doc.getString("name")).into(new ArrayList<>());
+        List<IndexAdvice> advice = new ArrayList<>();
+        shapes.forEach((shape, byStatus) -> byStatus.forEach((status, sample) -> {
+            Query query = sample.query;
+            Proposal proposal = propose(shape, status, query);
+            if (index != null && !proposal.index().equals(index)) {
+                return;
+            }
+            boolean exists = existing.contains(proposal.index());
+            // consulta com hint fixo só usa o índice novo depois de o adaptador trocar o hint
+            IndexAdvice.Plan current = explain(query, exists && query.hint() != null ? proposal.index() : query.hint());
+            IndexAdvice.Plan baseline = baselines.get(shape + "|" + status);
+            advice.add(new IndexAdvice(DatabaseType.MONGO, shape.strategy(), describe(shape),
+                    status.isEmpty() ? null : status, sample.count.sum(), proposal.index(), proposal.definition(),
+                    exists, current, baseline,
+                    baseline != null ? baseline.heapFetches() - current.heapFetches() : null,
+                    note(shape, proposal)));
+        }));
+        return advice;
+    }
+
+    private static Proposal propose(Shape shape, String status, Query query) {
+        Document keys = new Document();
+        if (shape.paciente()) keys.append("paciente_id", 1);
+        keys.append(shape.sortField(), -1).append("_id", -1);
+        if (query.projection() instanceof Document projection) {
+            projection.keySet().forEach(field -> keys.putIfAbsent(field, 1));
+        }
+        String name = (shape.projected() ? "idx_cover_" : "idx_") + (shape.paciente() ? "paciente_" : "")
+                + shape.sortField() + "_id";
+        Document partial = null;
+        if (shape.status()) {
+            name = name + "_" + status.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_");
+            partial = new Document("status_exame", status);
+        }
+        return new Proposal(name.length() <= MAX_INDEX_NAME ? name : name.substring(0, MAX_INDEX_NAME), keys, partial);
+    }
+
+    private static String describe(Shape shape) {
+        StringBuilder text = new StringBuilder("{");
+        if (shape.paciente()) text.append("paciente_id: ?, ");
+        if (shape.status()) text.append("status_exame: ?, ");
+        text.append("...} sort {").append(shape.sortField()).append(": -1, _id: -1}");
+        if (shape.projected()) text.append(" projeção da página");
+        return text.toString();
+    }
+
+    private static String note(Shape shape, Proposal proposal) {
+        if (!shape.projected()) {
+            return "Sem projeção: o documento inteiro é devolvido e a consulta não pode ser coberta.";
+        }
+        if (shape.hint() != null && !shape.hint().equals(proposal.index())) {
+            return "A consulta fixa o índice '" + shape.hint() + "' com hint; o plano atual usa o sugerido quando ele existe.";
+        }
+        return null;
+    }
+
+    private IndexAdvice.Plan explain(Query query, String hint) {
+        var find = collection().find(query.filter()).sort(query.sort()).skip(query.skip()).limit(query.limit());
+        if (query.projection() != null) {
+            find.projection(query.projection());
+        }
+        if (hint != null) {
+            find.hintString(hint);
+        }
+        Document explain = find.explain(ExplainVerbosity.EXECUTION_STATS);
+        Document stats = explain.get("executionStats", Document.class);
+        Document planner = explain.get("queryPlanner", Document.class);
+        Document winning = planner != null ? planner.get("winningPlan", Document.class) : null;
+        if (winning != null && winning.containsKey("queryPlan")) {
+            winning = winning.get("queryPlan", Document.class);
+        }
+        List<String> stages = new ArrayList<>();
+        String index = null;
+        for (Document stage = winning; stage != null; stage = stage.get("inputStage", Document.class)) {
+            stages.add(stage.getString("stage"));
+            if (index == null && stage.containsKey("indexName")) {
+                index = stage.getString("indexName");
+            }
+        }
+        return new IndexAdvice.Plan(String.join(" → ", stages), index,
+                number(stats, "nReturned"), number(stats, "totalKeysExamined"), number(stats, "totalDocsExamined"),
+                0, number(stats, "executionTimeMillis"));
+    }
+
+    private static long number(Document stats, String field) {
+        Number value = stats != null ? stats.get(field, Number.class) : null;
+        return value != null ? value.longValue() : 0;
+    }
+
+    private MongoCollection<Document> collection() {
+        return mongoTemplate.getCollection(MongoExamMapper.COLLECTION);
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.application.port.out.OffsetPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Paginação skip/limit no MongoDB na ordem (created_at DESC, _id DESC).
+ *
+ * Fixa com 'hint' o mesmo índice da paginação keyset ({@link MongoCursorPaginationAdapter#hintFor}):
+ * o de cobertura sem filtro de paciente, o de paciente com ele. O skip percorre chaves do
+ * índice e, sem filtro de paciente, o filtro de status é avaliado nelas sem buscar o documento.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoOffsetPaginationAdapter implements OffsetPaginationPort {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoPageQuery pageQuery;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.MONGO;
+    }
+
+    @Override
+    public List<Exam> findPage(ExamFilter filter, long offset, int size) {
+        return pageQuery.query(PaginationStrategy.OFFSET, offset,
+                MongoExamMapper.filterDocument(filter), MongoExamMapper.SORT_CREATED_AT_DESC,
+                MongoCursorPaginationAdapter.PAGE_PROJECTION, MongoCursorPaginationAdapter.hintFor(filter),
+                Math.toIntExact(offset), size);
+    }
+
+    @Override
+    public Optional<KeysetCursor> keyAt(ExamFilter filter, KeysetCursor after, long position) {
+        Document query = MongoExamMapper.filterDocument(filter);
+        if (after != null) {
+            MongoExamMapper.appendAfter(query, after);
+        }
+        // projeção só com campos do índice: o skip percorre chaves, sem buscar documentos
+        Document doc = mongoTemplate.getCollection(MongoExamMapper.COLLECTION)
+                .find(query)
+                .projection(MongoExamMapper.KEY_PROJECTION)
+                .sort(MongoExamMapper.SORT_CREATED_AT_DESC)
+                .hintString(MongoCursorPaginationAdapter.hintFor(filter))
+                .skip(Math.toIntExact(position))
+                .limit(1)
+                .first();
+        return Optional.ofNullable(doc).map(MongoExamMapper::toKey);
+    }
+}
@@ -0,0 +1,95 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.client.FindIterable;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.conversions.Bson;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Execução instrumentada das consultas de página no MongoDB, compartilhada pelos adaptadores.
+ *
+ * Os documentos são lidos antes de mapeados (como {@link RawBsonDocument}, só os bytes), para
+ * que o tempo de mapeamento não inclua as idas ao servidor. Uma fração das consultas é repetida com explain("executionStats")
+ * em background para registrar chaves/documentos examinados vs. devolvidos. A forma de cada
+ * consulta é registrada no {@link MongoIndexAdvisor}.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoPageQuery {
+
+    private final MongoTemplate mongoTemplate;
+    private final PaginationMetricsPort metrics;
+    private final MongoIndexAdvisor indexAdvisor;
+
+    List<Exam> query(PaginationStrategy strategy, long depth, Bson filter, Bson sort, int skip, int limit) {
+        return query(strategy, depth, filter, sort, null, null, skip, limit);
+    }
+
+    /**
+     * Variante com projeção e índice fixado ('hint'); nulos mantêm o documento inteiro
+     * e a escolha do planner.
+     */
+    List<Exam> query(PaginationStrategy strategy, long depth, Bson filter, Bson sort,
+                     Bson projection, String hint, int skip, int limit) {
+        List<RawBsonDocument> docs = find(RawBsonDocument.class, filter, sort, projection, hint, skip, limit)
+                .into(new ArrayList<>(limit));
+        indexAdvisor.observe(strategy, filter, sort, projection, hint, skip, limit);
+
+        long start = System.nanoTime();
+        List<Exam> items = new ArrayList<>(docs.size());
+        for (RawBsonDocument doc : docs) {
+            items.add(MongoExamMapper.toExam(doc));
+        }
+        metrics.recordMapping(DatabaseType.MONGO, strategy, System.nanoTime() - start);
+
+        if (metrics.sampleScan()) {
+            metrics.runSample(() -> explain(strategy, depth, filter, sort, projection, hint, skip, limit));
+        }
+        return items;
+    }
+
+    FindIterable<Document> find(Bson filter, Bson sort, Bson projection, String hint, int skip, int limit) {
+        return find(Document.class, filter, sort, projection, hint, skip, limit);
+    }
+
+    private <T> FindIterable<T> find(Class<T> type, Bson filter, Bson sort, Bson projection, String hint,
+                                     int skip, int limit) {
+        FindIterable<T> find = mongoTemplate.getCollection(MongoExamMapper.COLLECTION)
+                .find(filter, type)
+                .sort(sort)
+                .skip(skip)
+                .limit(limit);
+        if (projection != null) {
+            find.projection(projection);
+        }
+        if (hint != null) {
+            find.hintString(hint);
+        }
+        return find;
+    }
+
+    private void explain(PaginationStrategy strategy, long depth, Bson filter, Bson sort,
+                         Bson projection, String hint, int skip, int limit) {
+        Document stats = find(filter, sort, projection, hint, skip, limit)
+                .explain(ExplainVerbosity.EXECUTION_STATS)
+                .get("executionStats", Document.class);
+        if (stats == null) {
+            return;
+        }
+        long keys = stats.get("totalKeysExamined", Number.class).longValue();
+        long docs = stats.get("totalDocsExamined", Number.class).longValue();
+        long returned = stats.get("nReturned", Number.class).longValue();
+        metrics.recordScan(DatabaseType.MONGO, strategy, depth, Math.max(keys, docs), returned);
+    }
+}
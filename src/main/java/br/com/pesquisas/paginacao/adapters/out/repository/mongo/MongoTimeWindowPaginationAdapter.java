@@ -0,0 +1,59 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.application.port.out.TimeWindowPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Paginação por janela de tempo no MongoDB. Os filtros de igualdade vêm antes do
+ * intervalo para que 'idx_paciente_data' e 'idx_status_resultado' sejam elegíveis.
+ */
+@Component
+@RequiredArgsConstructor
+public class MongoTimeWindowPaginationAdapter implements TimeWindowPaginationPort {
+
+    private final MongoPageQuery pageQuery;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.MONGO;
+    }
+
+    @Override
+    public List<Exam> findWindow(TimeField field, ExamFilter filter, Instant from, Instant to,
+                                 KeysetCursor after, int limit) {
+        String column = field.column();
+        Document range = new Document("$gte", Date.from(from));
+        if (to != null) {
+            range.append("$lt", Date.from(to));
+        }
+        Document query = MongoExamMapper.filterDocument(filter).append(column, range);
+        if (after != null) {
+            Date afterDate = Date.from(after.timestamp());
+            if (after.isTimeBoundary()) {
+                range.append("$lt", to != null && to.isBefore(after.timestamp()) ? Date.from(to) : afterDate);
+            } else {
+                query.append("$or", List.of(
+                        new Document(column, new Document("$lt", afterDate)),
+                        new Document(column, afterDate).append("_id", new Document("$lt", MongoExamMapper.toBsonId(after.id())))
+                ));
+            }
+        }
+
+        long depth = after != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0;
+        return pageQuery.query(PaginationStrategy.TIME_WINDOW, depth, query,
+                new Document(column, -1).append("_id", -1), 0, limit);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.application.port.out.StoreWarmUpPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aquece o MongoDB: ping (abre a conexão e descobre a topologia) e a primeira página keyset,
+ * que também confere o plano da consulta (falha se não houver índice e o plano for COLLSCAN).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MongoWarmUpAdapter implements StoreWarmUpPort {
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoCursorPaginationAdapter cursorAdapter;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.MONGO;
+    }
+
+    @Override
+    public void warmUp() {
+        mongoTemplate.getDb().runCommand(new Document("ping", 1));
+        cursorAdapter.findPage(ExamFilter.none(), null, 10);
+        log.info("🔥 MongoDB aquecido.");
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.application.port.out.ReactiveCursorPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Paginação keyset no MongoDB com o driver Reactive Streams (profile 'reactive').
+ *
+ * Mesma consulta de {@link MongoCursorPaginationAdapter} (projeção e 'hint' nos mesmos
+ * índices); o batchSize igual à página faz a leitura em uma única ida ao servidor.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveMongoCursorPaginationAdapter implements ReactiveCursorPaginationPort {
+
+    private final MongoDatabase reactiveMongoDatabase;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.MONGO;
+    }
+
+    @Override
+    public Mono<CursorPage> findPage(ExamFilter filter, KeysetCursor after, int limit) {
+        Document query = MongoExamMapper.filterDocument(filter);
+        if (after != null) {
+            MongoExamMapper.appendAfter(query, after);
+        }
+        return Flux.from(reactiveMongoDatabase.getCollection(MongoExamMapper.COLLECTION)
+                        .find(query, RawBsonDocument.class)
+                        .projection(MongoCursorPaginationAdapter.PAGE_PROJECTION)
+                        .sort(MongoExamMapper.SORT_CREATED_AT_DESC)
+                        .hintString(MongoCursorPaginationAdapter.hintFor(filter))
+                        .limit(limit + 1)
+                        .batchSize(limit + 1))
+                .map(MongoExamMapper::toExam)
+                .collectList()
+                .map(rows -> {
+                    boolean hasNext = rows.size() > limit;
+                    return new CursorPage(hasNext ? rows.subList(0, limit) : rows, hasNext);
+                });
+    }
+}
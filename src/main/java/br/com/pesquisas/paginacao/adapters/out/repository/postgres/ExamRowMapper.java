@@ -0,0 +1,39 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * Converte uma linha de 'exames' (na ordem de {@link ExamSql#COLUMNS}) em {@link Exam}.
+ * Lê por índice de coluna para evitar a busca por nome a cada linha; as datas são UTC
+ * ({@link ExamSql#toInstant}).
+ */
+final class ExamRowMapper implements RowMapper<Exam> {
+
+    static final ExamRowMapper INSTANCE = new ExamRowMapper();
+
+    private ExamRowMapper() {
+    }
+
+    @Override
+    public Exam mapRow(ResultSet rs, int rowNum) throws SQLException {
+        BigDecimal valor = rs.getBigDecimal(6);
+        return Exam.builder()
+                .id(String.valueOf(rs.getLong(1)))
+                .pacienteId(rs.getString(2))
+                .nomePaciente(rs.getString(3))
+                .tipoExame(rs.getString(4))
+                .statusExame(rs.getString(5))
+                .valorResultado(valor != null ? valor.doubleValue() : null)
+                .dataColeta(ExamSql.toInstant(rs.getObject(7, LocalDateTime.class)))
+                .dataResultado(ExamSql.toInstant(rs.getObject(8, LocalDateTime.class)))
+                .laboratorio(rs.getString(9))
+                .createdAt(ExamSql.toInstant(rs.getObject(10, LocalDateTime.class)))
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Fragmentos SQL compartilhados pelos adaptadores Postgres da tabela 'exames'.
+ *
+ * As colunas de data são TIMESTAMP sem fuso com o horário em UTC (como o COPY da carga em
+ * massa grava o CSV): parâmetros e leituras passam por {@link #utc} e {@link #toInstant} em
+ * vez de java.sql.Timestamp, que o driver converteria pelo fuso da JVM.
+ */
+final class ExamSql {
+
+    // language=PostgreSQL
+    static final String COLUMNS = """
+            id, paciente_id, nome_paciente, tipo_exame, status_exame, valor_resultado,
+            data_coleta, data_resultado, laboratorio, created_at""";
+
+    /** Mesmos bits de {@link ExamFilter#shape()}. */
+    static final int FILTER_PACIENTE = 1;
+    static final int FILTER_STATUS = 1 << 1;
+
+    private ExamSql() {
+    }
+
+    /**
+     * Máscara de bits dos filtros presentes, usada para escolher o SQL pré-montado.
+     */
+    static int filterMask(ExamFilter filter) {
+        return filter.shape();
+    }
+
+    /**
+     * Predicados de filtro (sem o WHERE) na mesma ordem em que {@link #bindFilter} adiciona parâmetros.
+     */
+    static String filterPredicates(int mask) {
+        StringBuilder sql = new StringBuilder();
+        if ((mask & FILTER_PACIENTE) != 0) {
+            sql.append("paciente_id = ?");
+        }
+        if ((mask & FILTER_STATUS) != 0) {
+            if (!sql.isEmpty()) sql.append(" AND ");
+            sql.append("status_exame = ?");
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Filtros da máscara mais 'created_at IS NOT NULL', para os SQL ordenados por
+     * (created_at, id): a coluna aceita nulo, o DESC os põe primeiro e uma linha sem
+     * created_at não tem chave de cursor nem marcador. A tupla do seek já os exclui.
+     */
+    static String keyedPredicates(int mask) {
+        String filter = filterPredicates(mask);
+        return filter.isEmpty() ? "created_at IS NOT NULL" : filter + " AND created_at IS NOT NULL";
+    }
+
+    static int bindFilter(Object[] args, int index, ExamFilter filter) {
+        if (filter.hasPaciente()) args[index++] = filter.pacienteId();
+        if (filter.hasStatus()) args[index++] = filter.statusExame();
+        return index;
+    }
+
+    static LocalDateTime utc(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    static Instant toInstant(LocalDateTime utc) {
+        return utc != null ? utc.toInstant(ZoneOffset.UTC) : null;
+    }
+
+    static long parseId(String id) {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new InvalidPaginationRequestException("Id inválido para o PostgreSQL: " + id, e);
+        }
+    }
+}
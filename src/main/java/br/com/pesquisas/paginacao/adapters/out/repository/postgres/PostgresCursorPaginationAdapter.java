@@ -0,0 +1,87 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.application.port.out.CursorPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Paginação keyset no PostgreSQL.
+ *
+ * Usa a comparação de tupla (created_at, id) < (?, ?) com ORDER BY created_at DESC, id DESC,
+ * que casa com o índice 'idx_created_at_id' e faz um seek direto na posição do cursor:
+ * o custo da página não depende da profundidade. Com filtro de paciente o planner
+ * parte de 'idx_paciente_data'. Linhas sem created_at ficam fora das páginas: não têm
+ * chave de cursor ({@link ExamSql#keyedPredicates}).
+ */
+@Component
+@RequiredArgsConstructor
+public class PostgresCursorPaginationAdapter implements CursorPaginationPort {
+
+    /** SQL pré-montado por combinação de filtros (índice = máscara) para a primeira página e para as seguintes. */
+    private static final String[] FIRST_PAGE_SQL = new String[4];
+    private static final String[] NEXT_PAGE_SQL = new String[4];
+
+    static {
+        for (int mask = 0; mask < 4; mask++) {
+            String filter = ExamSql.filterPredicates(mask);
+            FIRST_PAGE_SQL[mask] = pageSql(ExamSql.keyedPredicates(mask));
+            NEXT_PAGE_SQL[mask] = pageSql(filter.isEmpty()
+                    ? "(created_at, id) < (?, ?)"
+                    : filter + " AND (created_at, id) < (?, ?)");
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostgresPageQuery pageQuery;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.POSTGRES;
+    }
+
+    @Override
+    public CursorPage findPage(ExamFilter filter, KeysetCursor after, int limit) {
+        int mask = ExamSql.filterMask(filter);
+        Object[] args = new Object[Integer.bitCount(mask) + (after != null ? 3 : 1)];
+        int index = ExamSql.bindFilter(args, 0, filter);
+        if (after != null) {
+            args[index++] = ExamSql.utc(after.timestamp());
+            args[index++] = ExamSql.parseId(after.id());
+        }
+        args[index] = limit + 1;
+
+        String sql = after != null ? NEXT_PAGE_SQL[mask] : FIRST_PAGE_SQL[mask];
+        long depth = after != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0;
+        List<Exam> rows = pageQuery.query(PaginationStrategy.KEYSET, depth, sql, args);
+        boolean hasNext = rows.size() > limit;
+        return new CursorPage(hasNext ? rows.subList(0, limit) : rows, hasNext);
+    }
+
+    @Override
+    public Optional<KeysetCursor> keyOf(String id) {
+        // language=PostgreSQL
+        List<KeysetCursor> keys = jdbcTemplate.query(
+                "SELECT created_at, id FROM exames WHERE id = ? AND created_at IS NOT NULL",
+                (rs, rowNum) -> new KeysetCursor(ExamSql.toInstant(rs.getObject(1, LocalDateTime.class)), String.valueOf(rs.getLong(2))),
+                ExamSql.parseId(id));
+        return keys.stream().findFirst();
+    }
+
+    private static String pageSql(String where) {
+        return "SELECT " + ExamSql.COLUMNS + " FROM exames"
+                + (where.isEmpty() ? "" : " WHERE " + where)
+                + " ORDER BY created_at DESC, id DESC LIMIT ?";
+    }
+}
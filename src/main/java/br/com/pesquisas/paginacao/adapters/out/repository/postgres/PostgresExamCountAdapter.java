@@ -0,0 +1,80 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.application.port.out.ExamCountPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Contagens no PostgreSQL.
+ *
+ * Sem filtro a estimativa é 'pg_class.reltuples' (mantido pelo ANALYZE/autovacuum);
+ * com filtro usa a cardinalidade prevista pelo planner no EXPLAIN, que não executa a consulta.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostgresExamCountAdapter implements ExamCountPort {
+
+    private static final String[] EXPLAIN_SQL = new String[4];
+    private static final String[] COUNT_SQL = new String[4];
+
+    static {
+        for (int mask = 0; mask < 4; mask++) {
+            String filter = ExamSql.filterPredicates(mask);
+            String where = filter.isEmpty() ? "" : " WHERE " + filter;
+            EXPLAIN_SQL[mask] = "EXPLAIN (FORMAT JSON) SELECT 1 FROM exames" + where;
+            COUNT_SQL[mask] = "SELECT count(*) FROM exames" + where;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.POSTGRES;
+    }
+
+    @Override
+    public long estimatedCount(ExamFilter filter) {
+        if (filter.isEmpty()) {
+            // language=PostgreSQL
+            Long reltuples = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = 'exames'::regclass", Long.class);
+            // reltuples = -1 quando a tabela nunca foi analisada (PG14+): cai para o EXPLAIN
+            if (reltuples != null && reltuples >= 0) {
+                return reltuples;
+            }
+        }
+        int mask = ExamSql.filterMask(filter);
+        Object[] args = new Object[Integer.bitCount(mask)];
+        ExamSql.bindFilter(args, 0, filter);
+        String plan = jdbcTemplate.queryForObject(EXPLAIN_SQL[mask], String.class, args);
+        return planRows(plan);
+    }
+
+    @Override
+    public long exactCount(ExamFilter filter) {
+        int mask = ExamSql.filterMask(filter);
+        Object[] args = new Object[Integer.bitCount(mask)];
+        ExamSql.bindFilter(args, 0, filter);
+        Long count = jdbcTemplate.queryForObject(COUNT_SQL[mask], Long.class, args);
+        return count != null ? count : 0L;
+    }
+
+    private long planRows(String plan) {
+        try {
+            JsonNode root = objectMapper.readTree(plan);
+            return root.path(0).path("Plan").path("Plan Rows").asLong(0);
+        } catch (Exception e) {
+            log.warn("⚠️ Não foi possível ler o plano do EXPLAIN: {}", e.getMessage());
+            return 0L;
+        }
+    }
+}
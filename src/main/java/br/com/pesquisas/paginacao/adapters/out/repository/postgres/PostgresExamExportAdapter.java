@@ -0,0 +1,109 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.application.port.out.ExamExportPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Exportação em streaming no PostgreSQL com cursor no servidor.
+ *
+ * O driver só usa cursor (busca de 'fetch-size' em 'fetch-size' linhas) com autocommit
+ * desligado e fetchSize > 0; sem isso o ResultSet inteiro é carregado na memória. A consulta
+ * roda em uma transação somente leitura e cada linha é entregue ao consumidor antes do
+ * próximo lote ser pedido.
+ */
+@Component
+public class PostgresExamExportAdapter implements ExamExportPort {
+
+    /** Índice: campo (2) x filtro (4) x limite inferior (2) x limite superior (2). */
+    private static final String[] EXPORT_SQL = new String[TimeField.values().length * 4 * 2 * 2];
+
+    static {
+        for (TimeField field : TimeField.values()) {
+            for (int mask = 0; mask < 4; mask++) {
+                for (int lower = 0; lower < 2; lower++) {
+                    for (int upper = 0; upper < 2; upper++) {
+                        EXPORT_SQL[sqlIndex(field, mask, lower == 1, upper == 1)] =
+                                exportSql(field.column(), mask, lower == 1, upper == 1);
+                    }
+                }
+            }
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Value("${paginacao.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public PostgresExamExportAdapter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.POSTGRES;
+    }
+
+    @Override
+    public long export(TimeField field, ExamFilter filter, Instant from, Instant to, Consumer<Exam> sink) {
+        int mask = ExamSql.filterMask(filter);
+        Object[] args = new Object[Integer.bitCount(mask) + (from != null ? 1 : 0) + (to != null ? 1 : 0)];
+        int index = ExamSql.bindFilter(args, 0, filter);
+        if (from != null) {
+            args[index++] = ExamSql.utc(from);
+        }
+        if (to != null) {
+            args[index] = ExamSql.utc(to);
+        }
+        String sql = EXPORT_SQL[sqlIndex(field, mask, from != null, to != null)];
+
+        long[] rows = new long[1];
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, (ResultSet rs) -> {
+            sink.accept(ExamRowMapper.INSTANCE.mapRow(rs, (int) rows[0]));
+            rows[0]++;
+        }));
+        return rows[0];
+    }
+
+    private static int sqlIndex(TimeField field, int mask, boolean lower, boolean upper) {
+        return ((field.ordinal() * 4 + mask) * 2 + (lower ? 1 : 0)) * 2 + (upper ? 1 : 0);
+    }
+
+    private static String exportSql(String column, int mask, boolean lower, boolean upper) {
+        StringBuilder where = new StringBuilder(ExamSql.filterPredicates(mask));
+        if (lower) {
+            where.append(where.isEmpty() ? "" : " AND ").append(column).append(" >= ?");
+        }
+        if (upper) {
+            where.append(where.isEmpty() ? "" : " AND ").append(column).append(" < ?");
+        }
+        StringBuilder sql = new StringBuilder("SELECT ").append(ExamSql.COLUMNS).append(" FROM exames");
+        if (!where.isEmpty()) {
+            sql.append(" WHERE ").append(where);
+        }
+        return sql.append(" ORDER BY ").append(column).append(" DESC, id DESC").toString();
+    }
+}
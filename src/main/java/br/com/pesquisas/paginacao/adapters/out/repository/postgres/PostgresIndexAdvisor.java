@@ -0,0 +1,300 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.application.port.out.IndexAdvice;
+import br.com.pesquisas.paginacao.application.port.out.IndexAdvisorPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Advisor de índices do PostgreSQL.
+ *
+ * O {@link PostgresPageQuery} registra cada SQL de página executado (e, nos filtrados por
+ * status, cada valor de status) com os parâmetros da última execução. Sob demanda cada
+ * forma é executada com EXPLAIN (ANALYZE, BUFFERS) e recebe a sugestão de um índice de
+ * cobertura: igualdade de paciente, a ordenação da página (campo DESC, id DESC) como chave
+ * e as demais colunas do SELECT em INCLUDE, para um Index Only Scan sem visitar o heap.
+ * Filtro por status vira índice parcial por valor (WHERE status_exame = '...'), menor que um
+ * composto com status e usado pelos planos customizados de cada valor.
+ *
+ * A criação usa CREATE INDEX CONCURRENTLY e roda VACUUM (ANALYZE) em seguida: sem o mapa de
+ * visibilidade atualizado o Index Only Scan ainda buscaria as linhas no heap. Na tabela
+ * particionada (que não aceita CONCURRENTLY no pai) o índice nasce vazio no pai (ON ONLY), é
+ * criado CONCURRENTLY em cada partição e anexado a ele; partições futuras o herdam.
+ */
+@Slf4j
+@Component
+public class PostgresIndexAdvisor implements IndexAdvisorPort {
+
+    /** Colunas do SELECT da página, na ordem de {@link ExamSql#COLUMNS}. */
+    private static final List<String> COLUMNS = Arrays.stream(ExamSql.COLUMNS.split(","))
+            .map(String::trim)
+            .toList();
+    private static final int MAX_INDEX_NAME = 63;
+
+    /** SQL de página observado; as formas são finitas (SQL pré-montado por estratégia e filtro). */
+    private static final class Statement {
+        final PaginationStrategy strategy;
+        final String sql;
+        /** Posição do parâmetro de status_exame, -1 sem filtro de status. */
+        final int statusArg;
+        final Map<String, Sample> byStatus = new ConcurrentHashMap<>();
+
+        Statement(PaginationStrategy strategy, String sql) {
+            this.strategy = strategy;
+            this.sql = sql;
+            int status = sql.indexOf("status_exame = ?");
+            this.statusArg = status < 0 ? -1 : (int) sql.substring(0, status).chars().filter(c -> c == '?').count();
+        }
+    }
+
+    private static final class Sample {
+        final LongAdder count = new LongAdder();
+        volatile Object[] args;
+    }
+
+    /** Índice sugerido; 'columns' é tudo depois de 'ON exames'. */
+    record Proposal(String index, String columns) {
+
+        String definition() {
+            return "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index + " ON exames " + columns;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxStatusValues;
+    private final Map<String, Statement> statements = new ConcurrentHashMap<>();
+    /** Plano de cada forma antes de o advisor criar o índice dela (chave: SQL + status). */
+    private final Map<String, IndexAdvice.Plan> baselines = new ConcurrentHashMap<>();
+    /** ReentrantLock: a criação do índice demora e não deve prender uma virtual thread ao carrier. */
+    private final ReentrantLock applyLock = new ReentrantLock();
+
+    public PostgresIndexAdvisor(JdbcTemplate jdbcTemplate,
+                                ObjectMapper objectMapper,
+                                @Value("${paginacao.index-advisor.enabled:true}") boolean enabled,
+                                @Value("${paginacao.index-advisor.max-status-values:8}") int maxStatusValues) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxStatusValues = maxStatusValues;
+    }
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.POSTGRES;
+    }
+
+    /** Chamado a cada consulta de página: só consultas a mapas já populados, sem alocar. */
+    void observe(PaginationStrategy strategy, String sql, Object[] args) {
+        if (!enabled) {
+            return;
+        }
+        Statement statement = statements.get(sql);
+        if (statement == null) {
+            statement = statements.computeIfAbsent(sql, s -> new Statement(strategy, s));
+        }
+        String status = statement.statusArg >= 0 ? String.valueOf(args[statement.statusArg]) : "";
+        Sample sample = statement.byStatus.get(status);
+        if (sample == null) {
+            // valores de status vêm do cliente: acima do limite a forma não ganha amostras novas
+            if (statement.byStatus.size() >= maxStatusValues) {
+                return;
+            }
+            sample = statement.byStatus.computeIfAbsent(status, s -> new Sample());
+        }
+        sample.count.increment();
+        sample.args = args;
+    }
+
+    @Override
+    public List<IndexAdvice> advise() {
+        return evaluate(null);
+    }
+
+    @Override
+    public List<IndexAdvice> apply(String index) {
+        applyLock.lock();
+        try {
+            Proposal target = null;
+            for (Statement statement : statements.values()) {
+                for (Map.Entry<String, Sample> entry : statement.byStatus.entrySet()) {
+                    Proposal proposal = propose(statement.sql, entry.getKey());
+                    if (proposal.index().equals(index)) {
+                        target = proposal;
+                        baselines.putIfAbsent(statement.sql + "|" + entry.getKey(), explain(statement.sql, entry.getValue().args));
+                    }
+                }
+            }
+            if (target == null) {
+                return List.of();
+            }
+            long start = System.nanoTime();
+            log.info("🔧 Criando índice sugerido no PostgreSQL: {}", target.definition());
+            if (partitioned()) {
+                createOnPartitions(target);
+            } else {
+                jdbcTemplate.execute(target.definition());
+            }
+            // language=PostgreSQL
+            jdbcTemplate.execute("VACUUM (ANALYZE) exames");
+            log.info("✅ Índice {} criado em {} ms", index, (System.nanoTime() - start) / 1_000_000);
+            return evaluate(index);
+        } finally {
+            applyLock.unlock();
+        }
+    }
+
+    /** Avalia as formas observadas; com 'index', só as que sugerem esse índice. */
+    private List<IndexAdvice> evaluate(String index) {
+        List<IndexAdvice> advice = new ArrayList<>();
+        for (Statement statement : statements.values()) {
+            statement.byStatus.forEach((status, sample) -> {
+                if (index == null || propose(statement.sql, status).index().equals(index)) {
+                    advice.add(evaluate(statement, status, sample));
+                }
+            });
+        }
+        return advice;
+    }
+
+    private IndexAdvice evaluate(Statement statement, String status, Sample sample) {
+        Proposal proposal = propose(statement.sql, status);
+        IndexAdvice.Plan current = explain(statement.sql, sample.args);
+        IndexAdvice.Plan baseline = baselines.get(statement.sql + "|" + status);
+        return new IndexAdvice(DatabaseType.POSTGRES, statement.strategy, shape(statement.sql),
+                status.isEmpty() ? null : status, sample.count.sum(), proposal.index(), proposal.definition(),
+                exists(proposal.index()), current, baseline,
+                baseline != null ? baseline.heapFetches() - current.heapFetches() : null,
+                statement.strategy == PaginationStrategy.OFFSET
+                        ? "O offset ainda percorre as linhas puladas; a cobertura só evita buscá-las no heap." : null);
+    }
+
+    /**
+     * Índice de cobertura para o SQL: [paciente_id,] campo DESC, id DESC e as demais colunas
+     * em INCLUDE; parcial por status quando a consulta filtra status.
+     */
+    static Proposal propose(String sql, String status) {
+        int orderBy = sql.indexOf(" ORDER BY ") + " ORDER BY ".length();
+        String sortColumn = sql.substring(orderBy, sql.indexOf(' ', orderBy));
+        boolean paciente = sql.contains("paciente_id = ?");
+
+        List<String> key = new ArrayList<>();
+        if (paciente) key.add("paciente_id");
+        key.add(sortColumn + " DESC");
+        key.add("id DESC");
+        String include = COLUMNS.stream()
+                .filter(column -> !column.equals("id") && !column.equals(sortColumn) && !(paciente && column.equals("paciente_id")))
+                .collect(Collectors.joining(", "));
+
+        String name = "idx_cover_" + (paciente ? "paciente_" : "") + sortColumn + "_id";
+        String where = "";
+        if (!status.isEmpty()) {
+            name = truncate(name + "_" + status.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "_"));
+            where = " WHERE status_exame = '" + status.replace("'", "''") + "'";
+        }
+        return new Proposal(name, "(" + String.join(", ", key) + ") INCLUDE (" + include + ")" + where);
+    }
+
+    private void createOnPartitions(Proposal proposal) {
+        // language=PostgreSQL
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + proposal.index() + " ON ONLY exames " + proposal.columns());
+        // language=PostgreSQL
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'exames'::regclass ORDER BY c.relname""", String.class);
+        for (String partition : partitions) {
+            // partição no início do nome: o truncamento nunca junta os índices de duas partições
+            String local = truncate(partition.replaceFirst("^exames_", "") + "_" + proposal.index());
+            jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + local + " ON " + partition + " " + proposal.columns());
+            jdbcTemplate.execute("ALTER INDEX " + proposal.index() + " ATTACH PARTITION " + local);
+        }
+    }
+
+    private boolean partitioned() {
+        // language=PostgreSQL
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('exames'))", Boolean.class));
+    }
+
+    private static String truncate(String name) {
+        return name.length() <= MAX_INDEX_NAME ? name : name.substring(0, MAX_INDEX_NAME);
+    }
+
+    /** Predicados e ordenação do SQL, sem a lista de colunas. */
+    private static String shape(String sql) {
+        int where = sql.indexOf(" WHERE ");
+        return (where >= 0 ? sql.substring(where + 1) : sql.substring(sql.indexOf(" ORDER BY ") + 1)).replaceAll("\\s+", " ");
+    }
+
+    private boolean exists(String index) {
+        // language=PostgreSQL
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE tablename = 'exames' AND indexname = ?", Integer.class, index);
+        return count != null && count > 0;
+    }
+
+    private IndexAdvice.Plan explain(String sql, Object[] args) {
+        String json = jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + sql, String.class, args);
+        try {
+            JsonNode root = objectMapper.readTree(json).path(0);
+            JsonNode plan = root.path("Plan");
+            List<String> access = new ArrayList<>();
+            String[] index = new String[1];
+            long[] examined = new long[1];
+            long heapFetches = heapFetches(plan, access, index, examined);
+            return new IndexAdvice.Plan(String.join(" + ", access), index[0], plan.path("Actual Rows").asLong(),
+                    examined[0], heapFetches,
+                    plan.path("Shared Hit Blocks").asLong() + plan.path("Shared Read Blocks").asLong(),
+                    root.path("Execution Time").asDouble());
+        } catch (Exception e) {
+            throw new IllegalStateException("Plano do EXPLAIN ilegível", e);
+        }
+    }
+
+    /**
+     * Percorre os nós de scan somando as linhas buscadas no heap: todas as lidas por Seq Scan,
+     * Index Scan e Bitmap Heap Scan; no Index Only Scan só as 'Heap Fetches' (páginas fora do
+     * mapa de visibilidade).
+     */
+    private static long heapFetches(JsonNode node, List<String> access, String[] index, long[] examined) {
+        String type = node.path("Node Type").asText();
+        long loops = Math.max(1, node.path("Actual Loops").asLong(1));
+        long read = (node.path("Actual Rows").asLong() + node.path("Rows Removed by Filter").asLong()
+                + node.path("Rows Removed by Index Recheck").asLong()) * loops;
+        long fetches = switch (type) {
+            case "Seq Scan", "Index Scan", "Bitmap Heap Scan" -> read;
+            case "Index Only Scan" -> node.path("Heap Fetches").asLong();
+            default -> 0;
+        };
+        if (type.endsWith("Scan")) {
+            access.add(type);
+            if (index[0] == null && node.hasNonNull("Index Name")) {
+                index[0] = node.path("Index Name").asText();
+            }
+            if (!type.equals("Bitmap Heap Scan")) {
+                examined[0] += read;
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            fetches += heapFetches(child, access, index, examined);
+        }
+        return fetches;
+    }
+}
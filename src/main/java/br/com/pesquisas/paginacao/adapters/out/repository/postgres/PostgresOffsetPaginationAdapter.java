@@ -0,0 +1,81 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.application.port.out.OffsetPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Paginação OFFSET/LIMIT no PostgreSQL. O custo cresce com o offset, por isso
+ * o serviço limita a profundidade e usa {@link #keyAt} (a partir do marcador mais próximo)
+ * para reescrever páginas fundas.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostgresOffsetPaginationAdapter implements OffsetPaginationPort {
+
+    private static final String[] PAGE_SQL = new String[4];
+    private static final String[] KEY_AT_SQL = new String[4];
+    private static final String[] KEY_AFTER_SQL = new String[4];
+
+    static {
+        for (int mask = 0; mask < 4; mask++) {
+            String filter = ExamSql.filterPredicates(mask);
+            // as posições contam só linhas com created_at: as mesmas do seek a partir de um marcador
+            String where = " WHERE " + ExamSql.keyedPredicates(mask);
+            PAGE_SQL[mask] = "SELECT " + ExamSql.COLUMNS + " FROM exames" + where
+                    + " ORDER BY created_at DESC, id DESC OFFSET ? LIMIT ?";
+            // só colunas do índice (created_at, id): permite index-only scan ao pular as linhas
+            KEY_AT_SQL[mask] = keySql(where);
+            KEY_AFTER_SQL[mask] = keySql(" WHERE " + (filter.isEmpty() ? "" : filter + " AND ") + "(created_at, id) < (?, ?)");
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostgresPageQuery pageQuery;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.POSTGRES;
+    }
+
+    @Override
+    public List<Exam> findPage(ExamFilter filter, long offset, int size) {
+        int mask = ExamSql.filterMask(filter);
+        Object[] args = new Object[Integer.bitCount(mask) + 2];
+        int index = ExamSql.bindFilter(args, 0, filter);
+        args[index++] = offset;
+        args[index] = size;
+        return pageQuery.query(PaginationStrategy.OFFSET, offset, PAGE_SQL[mask], args);
+    }
+
+    @Override
+    public Optional<KeysetCursor> keyAt(ExamFilter filter, KeysetCursor after, long position) {
+        int mask = ExamSql.filterMask(filter);
+        Object[] args = new Object[Integer.bitCount(mask) + (after != null ? 3 : 1)];
+        int index = ExamSql.bindFilter(args, 0, filter);
+        if (after != null) {
+            args[index++] = ExamSql.utc(after.timestamp());
+            args[index++] = ExamSql.parseId(after.id());
+        }
+        args[index] = position;
+        List<KeysetCursor> keys = jdbcTemplate.query(after != null ? KEY_AFTER_SQL[mask] : KEY_AT_SQL[mask],
+                (rs, rowNum) -> new KeysetCursor(ExamSql.toInstant(rs.getObject(1, LocalDateTime.class)), String.valueOf(rs.getLong(2))),
+                args);
+        return keys.stream().findFirst();
+    }
+
+    private static String keySql(String where) {
+        return "SELECT created_at, id FROM exames" + where
+                + " ORDER BY created_at DESC, id DESC OFFSET ? LIMIT 1";
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Execução instrumentada das consultas de página no PostgreSQL, compartilhada pelos adaptadores.
+ *
+ * O driver traz o resultado inteiro na execução (fetchSize padrão), então o laço do extrator
+ * mede só o mapeamento. Uma fração das consultas é repetida com EXPLAIN ANALYZE em background
+ * para registrar linhas lidas vs. devolvidas. Cada SQL executado é registrado no
+ * {@link PostgresIndexAdvisor}.
+ */
+@Component
+public class PostgresPageQuery {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final PaginationMetricsPort metrics;
+    private final PostgresIndexAdvisor indexAdvisor;
+
+    /** Um extrator por estratégia, criado uma vez: nada é alocado além da lista de resultado. */
+    private final List<ResultSetExtractor<List<Exam>>> extractors = new ArrayList<>();
+
+    public PostgresPageQuery(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, PaginationMetricsPort metrics,
+                             PostgresIndexAdvisor indexAdvisor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.indexAdvisor = indexAdvisor;
+        for (PaginationStrategy strategy : PaginationStrategy.values()) {
+            extractors.add(rs -> {
+                List<Exam> rows = new ArrayList<>();
+                long start = System.nanoTime();
+                int rowNum = 0;
+                while (rs.next()) {
+                    rows.add(ExamRowMapper.INSTANCE.mapRow(rs, rowNum++));
+                }
+                metrics.recordMapping(DatabaseType.POSTGRES, strategy, System.nanoTime() - start);
+                return rows;
+            });
+        }
+    }
+
+    List<Exam> query(PaginationStrategy strategy, long depth, String sql, Object[] args) {
+        List<Exam> rows = jdbcTemplate.query(sql, extractors.get(strategy.ordinal()), args);
+        indexAdvisor.observe(strategy, sql, args);
+        if (metrics.sampleScan()) {
+            metrics.runSample(() -> explain(strategy, depth, sql, args));
+        }
+        return rows;
+    }
+
+    private void explain(PaginationStrategy strategy, long depth, String sql, Object[] args) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, FORMAT JSON) " + sql, String.class, args);
+        try {
+            JsonNode root = objectMapper.readTree(plan).path(0).path("Plan");
+            metrics.recordScan(DatabaseType.POSTGRES, strategy, depth, scannedRows(root), root.path("Actual Rows").asLong());
+        } catch (Exception e) {
+            throw new IllegalStateException("Plano do EXPLAIN ilegível", e);
+        }
+    }
+
+    /** Soma, nas folhas do plano (os scans), as linhas produzidas e as descartadas por filtro. */
+    private static long scannedRows(JsonNode node) {
+        JsonNode children = node.path("Plans");
+        if (children.isArray() && !children.isEmpty()) {
+            long total = 0;
+            for (JsonNode child : children) {
+                total += scannedRows(child);
+            }
+            return total;
+        }
+        long loops = Math.max(1, node.path("Actual Loops").asLong(1));
+        return (node.path("Actual Rows").asLong() + node.path("Rows Removed by Filter").asLong()) * loops;
+    }
+}
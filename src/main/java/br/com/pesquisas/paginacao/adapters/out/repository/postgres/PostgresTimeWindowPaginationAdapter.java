@@ -0,0 +1,114 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.application.port.out.TimeWindowPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Paginação por janela de tempo no PostgreSQL.
+ *
+ * Com filtro de status em data_resultado o planner usa 'idx_status_resultado';
+ * com filtro de paciente em data_coleta, 'idx_paciente_data'. Sem filtro, os índices
+ * (campo DESC, id DESC) dão um range scan já na ordem da página.
+ *
+ * Com a tabela particionada por mês em data_coleta ('bootstrap.postgres.partitioning=monthly')
+ * todos os limites da janela são comparações simples com a coluna: a comparação de tupla do
+ * cursor ganha um 'campo <= ?' redundante, que o PostgreSQL usa para descartar as partições
+ * fora da janela já no início da execução (os parâmetros só são conhecidos nela).
+ */
+@Component
+@RequiredArgsConstructor
+public class PostgresTimeWindowPaginationAdapter implements TimeWindowPaginationPort {
+
+    private static final int AFTER_NONE = 0;
+    private static final int AFTER_KEYSET = 1;
+    private static final int AFTER_BOUNDARY = 2;
+    /** Parâmetros do cursor por modo: nenhum; a tupla (campo, id); campo < ?. */
+    private static final int[] AFTER_ARGS = {0, 2, 1};
+    /** Parâmetros do 'campo <= ?' de poda de partições por modo: só a tupla precisa dele. */
+    private static final int[] PRUNE_ARGS = {0, 1, 0};
+
+    /** Índice: campo (2) x filtro (4) x topo informado (2) x modo do cursor (3). */
+    private static final String[] WINDOW_SQL = new String[TimeField.values().length * 4 * 2 * 3];
+
+    static {
+        for (TimeField field : TimeField.values()) {
+            for (int mask = 0; mask < 4; mask++) {
+                for (int upper = 0; upper < 2; upper++) {
+                    for (int after = 0; after < 3; after++) {
+                        WINDOW_SQL[sqlIndex(field, mask, upper == 1, after)] = windowSql(field.column(), mask, upper == 1, after);
+                    }
+                }
+            }
+        }
+    }
+
+    private final PostgresPageQuery pageQuery;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.POSTGRES;
+    }
+
+    @Override
+    public List<Exam> findWindow(TimeField field, ExamFilter filter, Instant from, Instant to,
+                                 KeysetCursor after, int limit) {
+        int mask = ExamSql.filterMask(filter);
+        int afterMode = after == null ? AFTER_NONE : after.isTimeBoundary() ? AFTER_BOUNDARY : AFTER_KEYSET;
+
+        Object[] args = new Object[Integer.bitCount(mask) + 2 + (to != null ? 1 : 0)
+                + AFTER_ARGS[afterMode] + PRUNE_ARGS[afterMode]];
+        int index = ExamSql.bindFilter(args, 0, filter);
+        args[index++] = ExamSql.utc(from);
+        if (to != null) {
+            args[index++] = ExamSql.utc(to);
+        }
+        if (afterMode != AFTER_NONE) {
+            LocalDateTime boundary = ExamSql.utc(after.timestamp());
+            args[index++] = boundary;
+            if (afterMode == AFTER_KEYSET) {
+                args[index++] = boundary;
+                args[index++] = ExamSql.parseId(after.id());
+            }
+        }
+        args[index] = limit;
+        long depth = after != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0;
+        return pageQuery.query(PaginationStrategy.TIME_WINDOW, depth,
+                WINDOW_SQL[sqlIndex(field, mask, to != null, afterMode)], args);
+    }
+
+    private static int sqlIndex(TimeField field, int mask, boolean upper, int afterMode) {
+        return ((field.ordinal() * 4 + mask) * 2 + (upper ? 1 : 0)) * 3 + afterMode;
+    }
+
+    private static String windowSql(String column, int mask, boolean upper, int afterMode) {
+        String filter = ExamSql.filterPredicates(mask);
+        StringBuilder sql = new StringBuilder("SELECT ").append(ExamSql.COLUMNS).append(" FROM exames WHERE ");
+        if (!filter.isEmpty()) {
+            sql.append(filter).append(" AND ");
+        }
+        sql.append(column).append(" >= ?");
+        if (upper) {
+            sql.append(" AND ").append(column).append(" < ?");
+        }
+        if (afterMode == AFTER_KEYSET) {
+            // 'campo <= ?' é implícito na tupla, mas só ele poda partições
+            sql.append(" AND ").append(column).append(" <= ?");
+            sql.append(" AND (").append(column).append(", id) < (?, ?)");
+        } else if (afterMode == AFTER_BOUNDARY) {
+            sql.append(" AND ").append(column).append(" < ?");
+        }
+        return sql.append(" ORDER BY ").append(column).append(" DESC, id DESC LIMIT ?").toString();
+    }
+}
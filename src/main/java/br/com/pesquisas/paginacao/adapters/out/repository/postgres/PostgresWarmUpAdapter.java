@@ -0,0 +1,62 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.application.port.out.StoreWarmUpPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aquece o PostgreSQL: segura ao mesmo tempo 'minimumIdle' conexões para o Hikari
+ * abrir o pool inteiro e executa a primeira página keyset.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostgresWarmUpAdapter implements StoreWarmUpPort {
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.POSTGRES;
+    }
+
+    @Override
+    public void warmUp() {
+        int connections = dataSource instanceof HikariDataSource hikari ? Math.max(hikari.getMinimumIdle(), 1) : 1;
+        List<Connection> opened = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = dataSource.getConnection();
+                opened.add(connection);
+                connection.isValid(2);
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Falha ao aquecer pool do PostgreSQL", e);
+        } finally {
+            opened.forEach(PostgresWarmUpAdapter::closeQuietly);
+        }
+        // language=PostgreSQL
+        jdbcTemplate.query("SELECT id FROM exames ORDER BY created_at DESC, id DESC LIMIT 10", rs -> { });
+        log.info("🔥 PostgreSQL aquecido ({} conexões).", connections);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // devolução ao pool; nada a fazer
+        }
+    }
+}
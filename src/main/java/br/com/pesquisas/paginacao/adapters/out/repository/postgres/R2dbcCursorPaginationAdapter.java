@@ -0,0 +1,110 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.application.port.out.ReactiveCursorPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Paginação keyset no PostgreSQL via R2DBC (profile 'reactive').
+ *
+ * Mesmo SQL de {@link PostgresCursorPaginationAdapter}, com os parâmetros posicionais do
+ * driver ($1, $2, ...). As colunas são TIMESTAMP sem fuso em UTC, lidas e gravadas como no
+ * adaptador JDBC ({@link ExamSql#utc}), para que os tokens valham nas duas stacks.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class R2dbcCursorPaginationAdapter implements ReactiveCursorPaginationPort {
+
+    private static final String[] FIRST_PAGE_SQL = new String[4];
+    private static final String[] NEXT_PAGE_SQL = new String[4];
+
+    static {
+        for (int mask = 0; mask < 4; mask++) {
+            String filter = ExamSql.filterPredicates(mask);
+            FIRST_PAGE_SQL[mask] = numbered(pageSql(ExamSql.keyedPredicates(mask)));
+            NEXT_PAGE_SQL[mask] = numbered(pageSql(filter.isEmpty()
+                    ? "(created_at, id) < (?, ?)"
+                    : filter + " AND (created_at, id) < (?, ?)"));
+        }
+    }
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.POSTGRES;
+    }
+
+    @Override
+    public Mono<CursorPage> findPage(ExamFilter filter, KeysetCursor after, int limit) {
+        int mask = ExamSql.filterMask(filter);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(
+                after != null ? NEXT_PAGE_SQL[mask] : FIRST_PAGE_SQL[mask]);
+        int index = 0;
+        if (filter.hasPaciente()) spec = spec.bind(index++, filter.pacienteId());
+        if (filter.hasStatus()) spec = spec.bind(index++, filter.statusExame());
+        if (after != null) {
+            spec = spec.bind(index++, ExamSql.utc(after.timestamp()))
+                    .bind(index++, ExamSql.parseId(after.id()));
+        }
+        return spec.bind(index, limit + 1)
+                .map((row, metadata) -> toExam(row))
+                .all()
+                .collectList()
+                .map(rows -> {
+                    boolean hasNext = rows.size() > limit;
+                    return new CursorPage(hasNext ? rows.subList(0, limit) : rows, hasNext);
+                });
+    }
+
+    /** Mesma ordem de colunas de {@link ExamSql#COLUMNS} e do {@link ExamRowMapper}. */
+    private static Exam toExam(Row row) {
+        BigDecimal valor = row.get(5, BigDecimal.class);
+        return Exam.builder()
+                .id(String.valueOf(row.get(0, Long.class)))
+                .pacienteId(row.get(1, String.class))
+                .nomePaciente(row.get(2, String.class))
+                .tipoExame(row.get(3, String.class))
+                .statusExame(row.get(4, String.class))
+                .valorResultado(valor != null ? valor.doubleValue() : null)
+                .dataColeta(ExamSql.toInstant(row.get(6, LocalDateTime.class)))
+                .dataResultado(ExamSql.toInstant(row.get(7, LocalDateTime.class)))
+                .laboratorio(row.get(8, String.class))
+                .createdAt(ExamSql.toInstant(row.get(9, LocalDateTime.class)))
+                .build();
+    }
+
+    private static String pageSql(String where) {
+        return "SELECT " + ExamSql.COLUMNS + " FROM exames"
+                + (where.isEmpty() ? "" : " WHERE " + where)
+                + " ORDER BY created_at DESC, id DESC LIMIT ?";
+    }
+
+    /** Troca os '?' do SQL compartilhado pelos marcadores posicionais do R2DBC. */
+    private static String numbered(String sql) {
+        StringBuilder out = new StringBuilder(sql.length() + 8);
+        int n = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                out.append('$').append(++n);
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
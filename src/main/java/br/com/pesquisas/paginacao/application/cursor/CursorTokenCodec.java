@@ -0,0 +1,186 @@
+package br.com.pesquisas.paginacao.application.cursor;
+
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.StorePosition;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import org.springframework.stereotype.Component;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Codifica/decodifica o token opaco de continuação.
+ *
+ * Layout binário (Base64 URL sem padding):
+ * [versão:1][banco:1][chave:1][timestamp em micros:8][id UTF-8:n] (n = 0 para fronteira de tempo)
+ *
+ * O banco faz parte do token para que um cursor emitido pelo Postgres
+ * não seja aplicado em outro adaptador com outra ordem de ids; a chave ({@link SortKey}), para
+ * que um token de /time em data_coleta não seja aplicado pelo /cursor em created_at.
+ *
+ * O token da paginação federada guarda a posição de cada banco:
+ * [versão:1][bancos:1] e, por banco, [banco:1][flags:1][timestamp em micros:8][tamanho do id:2][id UTF-8:n],
+ * com timestamp e id presentes só quando o banco já entregou alguma linha.
+ */
+@Component
+public class CursorTokenCodec {
+
+    private static final byte VERSION = 3; // 1: sem a chave de ordenação
+    private static final byte FEDERATED_VERSION = 2;
+    private static final int FLAG_HAS_KEY = 1;
+    private static final int FLAG_EXHAUSTED = 2;
+    private static final int HEADER_BYTES = 3 + Long.BYTES;
+    private static final int MAX_TOKEN_LENGTH = 512;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /** Coluna que ordena a paginação do token; o timestamp do cursor é o valor dela. */
+    public enum SortKey {
+        CREATED_AT("created_at"),
+        DATA_COLETA("data_coleta"),
+        DATA_RESULTADO("data_resultado");
+
+        private final String column;
+
+        SortKey(String column) {
+            this.column = column;
+        }
+
+        public static SortKey of(TimeField field) {
+            return field == TimeField.DATA_COLETA ? DATA_COLETA : DATA_RESULTADO;
+        }
+    }
+
+    /** Token de keyset em (created_at, id): /cursor, continuação do /offset e stack reativa. */
+    public String encode(DatabaseType store, KeysetCursor cursor) {
+        return encode(store, SortKey.CREATED_AT, cursor);
+    }
+
+    public KeysetCursor decode(DatabaseType expectedStore, String token) {
+        return decode(expectedStore, SortKey.CREATED_AT, token);
+    }
+
+    public String encode(DatabaseType store, SortKey key, KeysetCursor cursor) {
+        byte[] id = cursor.id().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + id.length)
+                .put(VERSION)
+                .put((byte) store.ordinal())
+                .put((byte) key.ordinal())
+                .putLong(toEpochMicros(cursor.timestamp()))
+                .put(id);
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    public KeysetCursor decode(DatabaseType expectedStore, SortKey expectedKey, String token) {
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            throw new InvalidPaginationRequestException("Cursor excede o tamanho máximo");
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(token));
+            if (buffer.get() != VERSION) {
+                throw new InvalidPaginationRequestException("Versão de cursor não suportada");
+            }
+            int store = buffer.get();
+            if (store != expectedStore.ordinal()) {
+                throw new InvalidPaginationRequestException(
+                        "Cursor emitido para outro banco (esperado: " + expectedStore.key() + ")");
+            }
+            int key = buffer.get();
+            if (key != expectedKey.ordinal()) {
+                throw new InvalidPaginationRequestException(
+                        "Cursor emitido para outra ordenação (esperado: " + expectedKey.column + ")");
+            }
+            Instant timestamp = fromEpochMicros(buffer.getLong());
+            // id vazio é válido: fronteira de tempo emitida pela paginação por janela
+            String id = StandardCharsets.UTF_8.decode(buffer).toString();
+            return new KeysetCursor(timestamp, id);
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new InvalidPaginationRequestException("Cursor inválido", e);
+        }
+    }
+
+    public String encodeFederated(Map<DatabaseType, StorePosition> positions) {
+        byte[][] ids = new byte[DatabaseType.values().length][];
+        int size = 2;
+        for (Map.Entry<DatabaseType, StorePosition> entry : positions.entrySet()) {
+            KeysetCursor after = entry.getValue().after();
+            size += 2;
+            if (after != null) {
+                ids[entry.getKey().ordinal()] = after.id().getBytes(StandardCharsets.UTF_8);
+                size += Long.BYTES + Short.BYTES + ids[entry.getKey().ordinal()].length;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size)
+                .put(FEDERATED_VERSION)
+                .put((byte) positions.size());
+        for (Map.Entry<DatabaseType, StorePosition> entry : positions.entrySet()) {
+            StorePosition position = entry.getValue();
+            int flags = (position.after() != null ? FLAG_HAS_KEY : 0) | (position.exhausted() ? FLAG_EXHAUSTED : 0);
+            buffer.put((byte) entry.getKey().ordinal()).put((byte) flags);
+            if (position.after() != null) {
+                byte[] id = ids[entry.getKey().ordinal()];
+                buffer.putLong(toEpochMicros(position.after().timestamp()))
+                        .putShort((short) id.length)
+                        .put(id);
+            }
+        }
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    public Map<DatabaseType, StorePosition> decodeFederated(String token) {
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            throw new InvalidPaginationRequestException("Cursor excede o tamanho máximo");
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(DECODER.decode(token));
+            if (buffer.get() != FEDERATED_VERSION) {
+                throw new InvalidPaginationRequestException("Cursor não é de paginação federada");
+            }
+            int count = buffer.get();
+            if (count < 1 || count > DatabaseType.values().length) {
+                throw new InvalidPaginationRequestException("Cursor inválido");
+            }
+            Map<DatabaseType, StorePosition> positions = new EnumMap<>(DatabaseType.class);
+            for (int i = 0; i < count; i++) {
+                int store = buffer.get();
+                int flags = buffer.get();
+                if (store < 0 || store >= DatabaseType.values().length) {
+                    throw new InvalidPaginationRequestException("Cursor inválido");
+                }
+                KeysetCursor after = null;
+                if ((flags & FLAG_HAS_KEY) != 0) {
+                    Instant timestamp = fromEpochMicros(buffer.getLong());
+                    byte[] id = new byte[Short.toUnsignedInt(buffer.getShort())];
+                    buffer.get(id);
+                    after = new KeysetCursor(timestamp, new String(id, StandardCharsets.UTF_8));
+                }
+                if (positions.put(DatabaseType.values()[store], new StorePosition(after, (flags & FLAG_EXHAUSTED) != 0)) != null) {
+                    throw new InvalidPaginationRequestException("Cursor inválido");
+                }
+            }
+            if (buffer.hasRemaining()) {
+                throw new InvalidPaginationRequestException("Cursor inválido");
+            }
+            return positions;
+        } catch (IllegalArgumentException | BufferUnderflowException e) {
+            throw new InvalidPaginationRequestException("Cursor inválido", e);
+        }
+    }
+
+    private static long toEpochMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant fromEpochMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+
+import java.util.List;
+
+/**
+ * Resultado de uma página keyset já com o token opaco da próxima página.
+ */
+public record CursorPageResult(DatabaseType store, List<Exam> items, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,11 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+
+/**
+ * Caso de uso de paginação por cursor (keyset).
+ */
+public interface CursorPaginationUseCase {
+
+    CursorPageResult page(String store, ExamFilter filter, String cursor, String lastId, int limit);
+}
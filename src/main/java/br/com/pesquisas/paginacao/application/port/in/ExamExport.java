@@ -0,0 +1,19 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+
+import java.util.function.Consumer;
+
+/**
+ * Exportação pronta para ser executada: percorre o resultado entregando cada exame a 'sink'.
+ */
+public interface ExamExport {
+
+    DatabaseType store();
+
+    /**
+     * @return quantidade de exames entregues
+     */
+    long writeTo(Consumer<Exam> sink);
+}
@@ -0,0 +1,18 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+
+import java.time.Instant;
+
+/**
+ * Caso de uso de exportação de um resultado inteiro, sem paginar.
+ */
+public interface ExamExportUseCase {
+
+    /**
+     * Valida os parâmetros e resolve o banco já na chamada (erros viram status HTTP);
+     * a leitura só começa em {@link ExamExport#writeTo}.
+     */
+    ExamExport export(String store, TimeField field, ExamFilter filter, Instant from, Instant to);
+}
@@ -0,0 +1,27 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.FederatedStoreStatus;
+
+import java.util.List;
+
+/**
+ * Página federada: itens de vários bancos intercalados por (created_at, id) DESC, a
+ * situação de cada banco e o token composto da próxima página.
+ */
+public record FederatedPageResult(List<Exam> items, List<StoreSlice> stores, String nextCursor) {
+
+    /** Contribuição de um banco para a página. */
+    public record StoreSlice(DatabaseType store, FederatedStoreStatus status, int items) {
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /** Algum banco ficou de fora por tempo esgotado ou erro. */
+    public boolean partial() {
+        return stores.stream().anyMatch(slice -> slice.status().missing());
+    }
+}
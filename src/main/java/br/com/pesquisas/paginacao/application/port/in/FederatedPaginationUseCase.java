@@ -0,0 +1,16 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+
+/**
+ * Caso de uso de paginação keyset federada: os mesmos exames lidos de vários bancos
+ * ao mesmo tempo e entregues como uma única sequência.
+ */
+public interface FederatedPaginationUseCase {
+
+    /**
+     * @param stores bancos separados por vírgula; sem valor, todos os bancos com paginação keyset
+     * @param cursor token composto devolvido em 'nextCursor' (define os bancos da sequência)
+     */
+    FederatedPageResult page(String stores, ExamFilter filter, String cursor, int limit);
+}
@@ -0,0 +1,22 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.TotalCount;
+
+import java.util.List;
+
+/**
+ * Página numerada. Quando 'rewrittenToKeyset' é verdadeiro a página profunda foi
+ * servida por seek keyset e 'nextCursor' permite continuar em /paginacao/cursor.
+ */
+public record OffsetPageResult(
+        DatabaseType store,
+        List<Exam> items,
+        int page,
+        int size,
+        TotalCount total,
+        boolean rewrittenToKeyset,
+        String nextCursor
+) {
+}
@@ -0,0 +1,11 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+
+/**
+ * Caso de uso de paginação por OFFSET/LIMIT (páginas numeradas a partir de 1).
+ */
+public interface OffsetPaginationUseCase {
+
+    OffsetPageResult page(String store, ExamFilter filter, int page, int size);
+}
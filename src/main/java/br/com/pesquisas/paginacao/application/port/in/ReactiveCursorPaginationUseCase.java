@@ -0,0 +1,19 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso de paginação por cursor (keyset) na stack reativa.
+ */
+public interface ReactiveCursorPaginationUseCase {
+
+    Mono<CursorPageResult> page(String store, ExamFilter filter, String cursor, int limit);
+
+    /**
+     * Páginas seguidas a partir de 'cursor' (até 'maxPages'; 0 = até o fim). A página
+     * seguinte só é consultada quando o assinante pede mais uma.
+     */
+    Flux<CursorPageResult> pages(String store, ExamFilter filter, String cursor, int limit, int maxPages);
+}
@@ -0,0 +1,24 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import br.com.pesquisas.paginacao.domain.model.TimeWindow;
+
+import java.util.List;
+
+/**
+ * Página por janela de tempo com as janelas consultadas para montá-la.
+ */
+public record TimePageResult(
+        DatabaseType store,
+        TimeField field,
+        List<Exam> items,
+        List<TimeWindow> windows,
+        String nextCursor
+) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
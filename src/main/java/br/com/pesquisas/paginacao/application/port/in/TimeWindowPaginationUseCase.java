@@ -0,0 +1,15 @@
+package br.com.pesquisas.paginacao.application.port.in;
+
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+
+import java.time.Instant;
+
+/**
+ * Caso de uso de paginação por intervalo de tempo [from, to), do mais recente para o mais antigo.
+ */
+public interface TimeWindowPaginationUseCase {
+
+    TimePageResult page(String store, TimeField field, ExamFilter filter,
+                        Instant from, Instant to, String cursor, int limit);
+}
@@ -0,0 +1,26 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+
+import java.util.Optional;
+
+/**
+ * Porta de saída para paginação keyset ordenada por (created_at DESC, id DESC).
+ */
+public interface CursorPaginationPort {
+
+    DatabaseType store();
+
+    /**
+     * Busca até 'limit' exames estritamente depois de 'after' (ou do início quando nulo).
+     */
+    CursorPage findPage(ExamFilter filter, KeysetCursor after, int limit);
+
+    /**
+     * Resolve a chave keyset de um id conhecido (compatibilidade com o parâmetro 'lastId').
+     */
+    Optional<KeysetCursor> keyOf(String id);
+}
@@ -0,0 +1,17 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+
+/**
+ * Contagem de exames por banco. A estimativa deve ser barata o bastante para
+ * rodar na requisição; a contagem exata só é chamada em background.
+ */
+public interface ExamCountPort {
+
+    DatabaseType store();
+
+    long estimatedCount(ExamFilter filter);
+
+    long exactCount(ExamFilter filter);
+}
@@ -0,0 +1,27 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Porta de saída para exportar um resultado inteiro em streaming, ordenado por (campo DESC, id DESC).
+ *
+ * As linhas são lidas do banco em lotes e entregues uma a uma a 'sink' na mesma thread:
+ * enquanto 'sink' bloqueia (ex.: escrevendo na resposta), o próximo lote não é lido.
+ */
+public interface ExamExportPort {
+
+    DatabaseType store();
+
+    /**
+     * Entrega a 'sink' todos os exames do filtro com 'field' em [from, to); limites nulos não restringem.
+     *
+     * @return quantidade de exames entregues
+     */
+    long export(TimeField field, ExamFilter filter, Instant from, Instant to, Consumer<Exam> sink);
+}
@@ -0,0 +1,43 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+
+/**
+ * Avaliação de uma forma de consulta observada e o índice sugerido para ela.
+ *
+ * @param shape      predicados e ordenação da consulta, sem os valores
+ * @param status     valor de 'status_exame' da amostra quando a sugestão é um índice parcial por status
+ * @param observed   consultas com esta forma desde a subida
+ * @param definition DDL (PostgreSQL) ou createIndex (MongoDB) do índice sugerido
+ * @param current    plano atual da consulta amostrada
+ * @param baseline   plano antes de o advisor criar o índice; nulo se não foi criado por ele
+ * @param heapFetchesAvoided buscas no heap/documentos evitadas desde a criação; nulo sem baseline
+ * @param note       observação sobre a sugestão (ex.: índice fixado por hint)
+ */
+public record IndexAdvice(
+        DatabaseType store,
+        PaginationStrategy strategy,
+        String shape,
+        String status,
+        long observed,
+        String index,
+        String definition,
+        boolean exists,
+        Plan current,
+        Plan baseline,
+        Long heapFetchesAvoided,
+        String note
+) {
+
+    /**
+     * Resumo de um plano executado (EXPLAIN ANALYZE / explain("executionStats")).
+     *
+     * @param access      nós de acesso do plano (ex.: "Index Only Scan", "IXSCAN → FETCH")
+     * @param examined    linhas/chaves lidas pelos scans
+     * @param heapFetches linhas buscadas no heap (PostgreSQL) ou documentos examinados (MongoDB)
+     * @param buffers     páginas de buffer tocadas (hit + read); 0 no MongoDB
+     */
+    public record Plan(String access, String index, long rows, long examined, long heapFetches, long buffers, double millis) {
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+
+import java.util.List;
+
+/**
+ * Porta de saída do advisor de índices: cada banco registra as formas de consulta que
+ * a paginação executa e, sob demanda, as avalia pelo plano de execução e sugere índices.
+ */
+public interface IndexAdvisorPort {
+
+    DatabaseType store();
+
+    /** Avalia cada forma observada (executa o plano de uma amostra) e sugere o índice de cada uma. */
+    List<IndexAdvice> advise();
+
+    /**
+     * Cria o índice sugerido com esse nome e devolve as formas atendidas por ele, já com o
+     * plano anterior como baseline. Vazio se nenhuma forma observada sugere esse índice.
+     */
+    List<IndexAdvice> apply(String index);
+}
@@ -0,0 +1,31 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Porta de saída para paginação OFFSET/LIMIT na ordem (created_at DESC, id DESC).
+ */
+public interface OffsetPaginationPort {
+
+    DatabaseType store();
+
+    List<Exam> findPage(ExamFilter filter, long offset, int size);
+
+    /**
+     * Chave keyset da linha 'position' (base 0) contada a partir da linha seguinte a 'after'
+     * (ou do início quando nulo), lida apenas do índice. Usada para reescrever páginas como
+     * seek keyset a partir de um marcador. Bancos em que o salto é cobrado por documento
+     * (Firestore) não suportam e retornam vazio.
+     */
+    Optional<KeysetCursor> keyAt(ExamFilter filter, KeysetCursor after, long position);
+
+    default boolean supportsKeyAt() {
+        return true;
+    }
+}
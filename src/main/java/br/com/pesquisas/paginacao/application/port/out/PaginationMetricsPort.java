@@ -0,0 +1,45 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.FederatedStoreStatus;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+
+/**
+ * Métricas do caminho quente da paginação. Chamado a cada requisição, então as
+ * implementações não devem alocar ao registrar (medidores resolvidos de antemão).
+ *
+ * 'depth' é a quantidade de linhas antes da página (offset); {@link #UNKNOWN_DEPTH}
+ * quando a posição vem de um cursor e não é conhecida.
+ */
+public interface PaginationMetricsPort {
+
+    long UNKNOWN_DEPTH = -1;
+
+    /** Tempo de uma consulta de página ao banco (execução + mapeamento). */
+    void recordQuery(DatabaseType store, PaginationStrategy strategy, long depth, long nanos);
+
+    /** Tempo gasto convertendo linhas/documentos em {@code Exam}. */
+    void recordMapping(DatabaseType store, PaginationStrategy strategy, long nanos);
+
+    void recordCursorDecode(DatabaseType store, long nanos);
+
+    void recordPayload(DatabaseType store, PaginationStrategy strategy, long bytes);
+
+    /** Linhas lidas pelo banco vs. devolvidas, obtidas por amostragem do plano de execução. */
+    void recordScan(DatabaseType store, PaginationStrategy strategy, long depth, long scanned, long returned);
+
+    /**
+     * Leituras cobradas por uma página, nos bancos que cobram por documento (Firestore):
+     * comparadas às linhas devolvidas dão a amplificação de leitura de cada estratégia.
+     */
+    void recordBilledReads(DatabaseType store, PaginationStrategy strategy, long depth, long reads);
+
+    /** Situação de um banco em uma página federada (tempo esgotado, erro etc.). */
+    void recordFederatedStore(DatabaseType store, FederatedStoreStatus status);
+
+    /** Decide, sem alocar, se esta consulta entra na amostragem de plano. */
+    boolean sampleScan();
+
+    /** Executa a amostragem fora da thread da requisição; descartada se a fila estiver cheia. */
+    void runSample(Runnable sample);
+}
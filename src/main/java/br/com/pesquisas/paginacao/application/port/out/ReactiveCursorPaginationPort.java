@@ -0,0 +1,22 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante não bloqueante de {@link CursorPaginationPort} (profile 'reactive'): mesma ordem
+ * (created_at DESC, id DESC) e mesmos tokens, com a página entregue por um {@link Mono}.
+ */
+public interface ReactiveCursorPaginationPort {
+
+    DatabaseType store();
+
+    /**
+     * Busca até 'limit' exames estritamente depois de 'after' (ou do início quando nulo).
+     * Nada é consultado antes da assinatura.
+     */
+    Mono<CursorPage> findPage(ExamFilter filter, KeysetCursor after, int limit);
+}
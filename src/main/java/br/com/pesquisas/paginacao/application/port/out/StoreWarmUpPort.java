@@ -0,0 +1,15 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+
+/**
+ * Aquece um banco antes de ele receber tráfego: abre conexões do pool e
+ * executa uma consulta de página para carregar planos/caches.
+ * Deve lançar exceção se o banco não estiver utilizável.
+ */
+public interface StoreWarmUpPort {
+
+    DatabaseType store();
+
+    void warmUp();
+}
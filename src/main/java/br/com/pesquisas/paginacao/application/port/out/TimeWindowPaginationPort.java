@@ -0,0 +1,25 @@
+package br.com.pesquisas.paginacao.application.port.out;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Porta de saída da paginação por janela de tempo, ordenada por (campo DESC, id DESC).
+ */
+public interface TimeWindowPaginationPort {
+
+    DatabaseType store();
+
+    /**
+     * Busca até 'limit' exames com o campo em [from, to) e, quando 'after' é informado,
+     * estritamente depois dessa chave. 'to' nulo deixa o topo da janela a cargo de 'after'.
+     */
+    List<Exam> findWindow(TimeField field, ExamFilter filter, Instant from, Instant to,
+                          KeysetCursor after, int limit);
+}
@@ -0,0 +1,83 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dimensiona as janelas da paginação por tempo a partir da densidade observada
+ * (linhas por segundo), mantida como média móvel exponencial por banco, campo e forma de filtro.
+ *
+ * Com a densidade conhecida, a largura da janela é a necessária para encher a página
+ * com uma folga: regiões densas recebem janelas curtas e regiões esparsas janelas longas,
+ * o que mantém cada consulta com custo e payload limitados.
+ */
+@Component
+public class AdaptiveWindowSizer {
+
+    private record DensityKey(DatabaseType store, TimeField field, int filterShape) {
+    }
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    /** Densidade em linhas/segundo, guardada como bits de double para atualização com CAS. */
+    private final Map<DensityKey, AtomicLong> densities = new ConcurrentHashMap<>();
+
+    @Value("${paginacao.time.initial-window:PT6H}")
+    private Duration initialWindow;
+
+    @Value("${paginacao.time.min-window:PT1S}")
+    private Duration minWindow;
+
+    @Value("${paginacao.time.max-window:P31D}")
+    private Duration maxWindow;
+
+    @Value("${paginacao.time.density-smoothing:0.3}")
+    private double smoothing;
+
+    @Value("${paginacao.time.window-headroom:1.25}")
+    private double headroom;
+
+    public Duration widthFor(DatabaseType store, TimeField field, ExamFilter filter, int rows) {
+        AtomicLong density = densities.get(new DensityKey(store, field, filter.shape()));
+        if (density == null) {
+            return initialWindow;
+        }
+        double rowsPerSecond = Double.longBitsToDouble(density.get());
+        long nanos = (long) (rows * headroom / rowsPerSecond * NANOS_PER_SECOND);
+        return clamp(Duration.ofNanos(Math.max(nanos, 0)));
+    }
+
+    /**
+     * Registra quantas linhas existiam em um trecho de tempo. Janelas vazias contam
+     * como meia linha para que a densidade caia sem chegar a zero.
+     */
+    public void observe(DatabaseType store, TimeField field, ExamFilter filter, int rows, Duration span) {
+        if (span.isZero() || span.isNegative()) {
+            return;
+        }
+        double observed = Math.max(rows, 0.5) / (span.toNanos() / NANOS_PER_SECOND);
+        AtomicLong density = densities.computeIfAbsent(new DensityKey(store, field, filter.shape()),
+                key -> new AtomicLong(Double.doubleToLongBits(observed)));
+        long current;
+        long updated;
+        do {
+            current = density.get();
+            double previous = Double.longBitsToDouble(current);
+            updated = Double.doubleToLongBits(previous + smoothing * (observed - previous));
+        } while (!density.compareAndSet(current, updated));
+    }
+
+    public Duration clamp(Duration width) {
+        if (width.compareTo(minWindow) < 0) return minWindow;
+        if (width.compareTo(maxWindow) > 0) return maxWindow;
+        return width;
+    }
+}
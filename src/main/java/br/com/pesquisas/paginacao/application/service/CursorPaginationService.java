@@ -0,0 +1,86 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec;
+import br.com.pesquisas.paginacao.application.port.in.CursorPageResult;
+import br.com.pesquisas.paginacao.application.port.in.CursorPaginationUseCase;
+import br.com.pesquisas.paginacao.application.port.out.CursorPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Orquestra a paginação keyset: decodifica o token recebido, consulta o adaptador
+ * e emite o token da próxima página a partir da última linha retornada. A página
+ * seguinte já é lida em background pelo {@link CursorPrefetcher}.
+ */
+@Service
+@RequiredArgsConstructor
+public class CursorPaginationService implements CursorPaginationUseCase {
+
+    private final PaginationAdapterRouter router;
+    private final CursorTokenCodec cursorCodec;
+    private final PaginationMetricsPort metrics;
+    private final CursorPrefetcher prefetcher;
+
+    @Value("${paginacao.max-limit:500}")
+    private int maxLimit;
+
+    @Override
+    public CursorPageResult page(String store, ExamFilter filter, String cursor, String lastId, int limit) {
+        validateLimit(limit);
+        CursorPaginationPort port = router.route(store).cursor();
+        KeysetCursor after = resolvePosition(port, cursor, lastId);
+
+        CursorPage page = cursor != null && !cursor.isBlank()
+                ? prefetcher.take(port.store(), filter, cursor, limit)
+                : null;
+        if (page == null) {
+            page = fetch(port, filter, after, limit);
+        }
+        String nextCursor = page.hasNext()
+                ? cursorCodec.encode(port.store(), page.lastKey())
+                : null;
+        if (nextCursor != null) {
+            KeysetCursor next = page.lastKey();
+            prefetcher.prefetch(port.store(), filter, nextCursor, limit, () -> fetch(port, filter, next, limit));
+        }
+        return new CursorPageResult(port.store(), page.items(), nextCursor);
+    }
+
+    private CursorPage fetch(CursorPaginationPort port, ExamFilter filter, KeysetCursor after, int limit) {
+        long start = System.nanoTime();
+        CursorPage page = port.findPage(filter, after, limit);
+        metrics.recordQuery(port.store(), PaginationStrategy.KEYSET,
+                after != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0, System.nanoTime() - start);
+        return page;
+    }
+
+    private KeysetCursor resolvePosition(CursorPaginationPort port, String cursor, String lastId) {
+        DatabaseType store = port.store();
+        if (cursor != null && !cursor.isBlank()) {
+            long start = System.nanoTime();
+            KeysetCursor position = cursorCodec.decode(store, cursor);
+            metrics.recordCursorDecode(store, System.nanoTime() - start);
+            return position;
+        }
+        if (lastId != null && !lastId.isBlank()) {
+            // 'lastId' é aceito por compatibilidade com o script k6; o token é o caminho preferencial
+            return port.keyOf(lastId)
+                    .orElseThrow(() -> new InvalidPaginationRequestException("lastId não encontrado: " + lastId));
+        }
+        return null;
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new InvalidPaginationRequestException("limit deve estar entre 1 e " + maxLimit);
+        }
+    }
+}
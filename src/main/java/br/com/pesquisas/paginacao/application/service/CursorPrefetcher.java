@@ -0,0 +1,181 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.ExamsWrittenEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Leitura antecipada da próxima página keyset.
+ *
+ * Quem percorre um cursor quase sempre pede a página seguinte logo em seguida: depois de
+ * servir a página N o serviço dispara a consulta da N+1 em background e a guarda pelo token
+ * emitido. Se o próximo pedido traz esse token (mesmo filtro e limite), a página sai do buffer;
+ * se a consulta ainda está em andamento, o pedido espera só o que falta dela.
+ *
+ * Limites: no máximo 'paginacao.prefetch.max-in-flight' consultas antecipadas ao mesmo tempo
+ * (sem vaga, a antecipação é descartada, nunca enfileirada) e 'paginacao.prefetch.max-entries'
+ * páginas no buffer, cada uma válida por 'paginacao.prefetch.ttl'. Cada entrada é servida
+ * uma vez. Páginas que saem do buffer sem ser servidas contam como desperdício.
+ */
+@Slf4j
+@Component
+public class CursorPrefetcher {
+
+    record Key(DatabaseType store, String cursor, ExamFilter filter, int limit) {
+    }
+
+    private static final int STORES = DatabaseType.values().length;
+
+    private final boolean enabled;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final Cache<Key, CompletableFuture<CursorPage>> buffer;
+    /** As consultas antecipadas esperam I/O: uma virtual thread cada, limitadas pelo semáforo. */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicLongArray started = new AtomicLongArray(STORES);
+    private final AtomicLongArray hits = new AtomicLongArray(STORES);
+    private final AtomicLongArray misses = new AtomicLongArray(STORES);
+    private final AtomicLongArray wasted = new AtomicLongArray(STORES);
+    private final AtomicLongArray skipped = new AtomicLongArray(STORES);
+
+    public CursorPrefetcher(@Value("${paginacao.prefetch.enabled:true}") boolean enabled,
+                            @Value("${paginacao.prefetch.max-entries:256}") int maxEntries,
+                            @Value("${paginacao.prefetch.max-in-flight:16}") int maxInFlight,
+                            @Value("${paginacao.prefetch.ttl:PT10S}") Duration ttl) {
+        this.enabled = enabled;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.buffer = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(ttl)
+                .executor(Runnable::run)
+                .<Key, CompletableFuture<CursorPage>>removalListener((key, page, cause) -> {
+                    if (cause.wasEvicted() && key != null) {
+                        wasted.incrementAndGet(key.store().ordinal());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Dispara a consulta da página que começa em 'cursor', se houver vaga e ela ainda não
+     * estiver no buffer.
+     */
+    public void prefetch(DatabaseType store, ExamFilter filter, String cursor, int limit, Supplier<CursorPage> loader) {
+        if (!enabled) {
+            return;
+        }
+        Key key = new Key(store, cursor, filter, limit);
+        if (buffer.getIfPresent(key) != null) {
+            return;
+        }
+        if (!inFlight.tryAcquire()) {
+            skipped.incrementAndGet(store.ordinal());
+            return;
+        }
+        CompletableFuture<CursorPage> page = new CompletableFuture<>();
+        if (buffer.asMap().putIfAbsent(key, page) != null) {
+            inFlight.release();
+            return;
+        }
+        started.incrementAndGet(store.ordinal());
+        // a vaga é devolvida quando a consulta termina, não quando a entrada sai do buffer
+        executor.execute(() -> {
+            try {
+                page.complete(loader.get());
+            } catch (RuntimeException e) {
+                page.completeExceptionally(e);
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    /**
+     * Página antecipada para 'cursor', retirada do buffer; nula quando não há (ou a consulta
+     * antecipada falhou) e a página deve ser lida do banco.
+     */
+    public CursorPage take(DatabaseType store, ExamFilter filter, String cursor, int limit) {
+        if (!enabled) {
+            return null;
+        }
+        CompletableFuture<CursorPage> page = buffer.asMap().remove(new Key(store, cursor, filter, limit));
+        if (page == null) {
+            misses.incrementAndGet(store.ordinal());
+            return null;
+        }
+        try {
+            CursorPage prefetched = page.join();
+            hits.incrementAndGet(store.ordinal());
+            return prefetched;
+        } catch (CompletionException | CancellationException e) {
+            misses.incrementAndGet(store.ordinal());
+            log.debug("Leitura antecipada de {} falhou: {}", store.key(), e.getMessage());
+            return null;
+        }
+    }
+
+    /** Linhas gravadas por este processo: as páginas antecipadas do banco podem não tê-las. */
+    @EventListener
+    public void onExamsWritten(ExamsWrittenEvent event) {
+        buffer.asMap().keySet().removeIf(key -> {
+            if (key.store() != event.store()) {
+                return false;
+            }
+            wasted.incrementAndGet(key.store().ordinal());
+            return true;
+        });
+    }
+
+    public long started(DatabaseType store) {
+        return started.get(store.ordinal());
+    }
+
+    public long hits(DatabaseType store) {
+        return hits.get(store.ordinal());
+    }
+
+    public long misses(DatabaseType store) {
+        return misses.get(store.ordinal());
+    }
+
+    public long wasted(DatabaseType store) {
+        return wasted.get(store.ordinal());
+    }
+
+    public long skipped(DatabaseType store) {
+        return skipped.get(store.ordinal());
+    }
+
+    public int inFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    public long buffered() {
+        return buffer.estimatedSize();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.port.in.ExamExport;
+import br.com.pesquisas.paginacao.application.port.in.ExamExportUseCase;
+import br.com.pesquisas.paginacao.application.port.out.ExamExportPort;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Exportação em streaming de todos os exames de um filtro/intervalo, para jobs que
+ * hoje precisariam de milhares de chamadas de página.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExamExportService implements ExamExportUseCase {
+
+    private final PaginationAdapterRouter router;
+
+    @Override
+    public ExamExport export(String requestedStore, TimeField field, ExamFilter filter, Instant from, Instant to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidPaginationRequestException("'from' deve ser anterior a 'to'");
+        }
+        StoreAdapters adapters = router.route(requestedStore);
+        ExamExportPort port = adapters.export();
+        DatabaseType store = adapters.store();
+
+        return new ExamExport() {
+            @Override
+            public DatabaseType store() {
+                return store;
+            }
+
+            @Override
+            public long writeTo(Consumer<Exam> sink) {
+                long start = System.nanoTime();
+                long rows = port.export(field, filter, from, to, sink);
+                log.info("📤 Exportação {} {} [{}, {}) concluída: {} exames em {} ms", store.key(), filter,
+                        from, to, rows, Duration.ofNanos(System.nanoTime() - start).toMillis());
+                return rows;
+            }
+        };
+    }
+}
@@ -0,0 +1,267 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec;
+import br.com.pesquisas.paginacao.application.port.in.FederatedPageResult;
+import br.com.pesquisas.paginacao.application.port.in.FederatedPaginationUseCase;
+import br.com.pesquisas.paginacao.application.port.out.CursorPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.exception.UnsupportedPaginationException;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.FederatedStoreStatus;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import br.com.pesquisas.paginacao.domain.model.StorePosition;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Paginação keyset federada (scatter-gather): consulta os bancos em paralelo com o mesmo
+ * filtro e intercala as páginas por (created_at DESC, banco), como um merge de k listas.
+ *
+ * Cada banco devolve até 'limit' linhas depois da sua posição; a página leva as 'limit'
+ * primeiras do merge e o token composto guarda, por banco, a chave da última linha
+ * consumida. Linhas buscadas e não consumidas são relidas na próxima página. O merge para
+ * quando o lote de um banco acaba e ele ainda tem linhas: nada mais antigo pode sair sem
+ * a próxima consulta desse banco.
+ *
+ * Durante uma migração o mesmo exame existe em mais de um banco com o mesmo id e created_at;
+ * a cópia repetida é consumida sem ser entregue, inclusive logo depois do fim da página. Só
+ * várias linhas no mesmo microssegundo divididas entre duas páginas podem repetir uma cópia.
+ *
+ * Um banco que não responde em 'paginacao.federated.store-timeout' (ou falha) fica de fora da
+ * página, marcado como TIMEOUT/FAILED, e mantém a posição anterior: nenhuma linha dele se perde,
+ * mas as que vierem nas páginas seguintes podem ser mais novas que as já entregues.
+ */
+@Slf4j
+@Service
+public class FederatedPaginationService implements FederatedPaginationUseCase {
+
+    /** Mais recente primeiro; no mesmo instante, a ordem fixa dos bancos. A ordem interna de cada banco é preservada. */
+    private static final Comparator<Source> MERGE_ORDER = Comparator
+            .comparing((Source source) -> source.head().getCreatedAt(), Comparator.reverseOrder())
+            .thenComparing(source -> source.store);
+
+    private final PaginationAdapterRouter router;
+    private final CursorTokenCodec cursorCodec;
+    private final PaginationMetricsPort metrics;
+    /** As consultas esperam I/O: uma virtual thread por banco, limitadas pelo {@link StoreConcurrencyLimiter}. */
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${paginacao.max-limit:500}")
+    private int maxLimit;
+
+    @Value("${paginacao.federated.store-timeout:PT2S}")
+    private Duration storeTimeout;
+
+    public FederatedPaginationService(PaginationAdapterRouter router,
+                                      CursorTokenCodec cursorCodec,
+                                      PaginationMetricsPort metrics) {
+        this.router = router;
+        this.cursorCodec = cursorCodec;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public FederatedPageResult page(String stores, ExamFilter filter, String cursor, int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new InvalidPaginationRequestException("limit deve estar entre 1 e " + maxLimit);
+        }
+        Map<DatabaseType, StorePosition> positions = resolvePositions(stores, cursor);
+
+        Map<DatabaseType, Future<CursorPage>> pending = new EnumMap<>(DatabaseType.class);
+        positions.forEach((store, position) -> {
+            if (!position.exhausted()) {
+                CursorPaginationPort port = cursorPort(store);
+                pending.put(store, executor.submit(() -> fetch(port, filter, position.after(), limit)));
+            }
+        });
+
+        Map<DatabaseType, FederatedStoreStatus> status = new EnumMap<>(DatabaseType.class);
+        List<Source> sources = gather(pending, status);
+        Map<DatabaseType, Integer> delivered = new EnumMap<>(DatabaseType.class);
+        List<Exam> items = merge(sources, limit, delivered);
+
+        Map<DatabaseType, StorePosition> next = new EnumMap<>(positions);
+        for (Source source : sources) {
+            KeysetCursor after = source.consumed > 0 ? source.keyAt(source.consumed - 1) : positions.get(source.store).after();
+            next.put(source.store, new StorePosition(after, source.drained() && !source.page.hasNext()));
+        }
+        List<FederatedPageResult.StoreSlice> slices = new ArrayList<>(positions.size());
+        for (DatabaseType store : positions.keySet()) {
+            FederatedStoreStatus storeStatus = status.getOrDefault(store, FederatedStoreStatus.EXHAUSTED);
+            metrics.recordFederatedStore(store, storeStatus);
+            slices.add(new FederatedPageResult.StoreSlice(store, storeStatus, delivered.getOrDefault(store, 0)));
+        }
+        boolean hasNext = next.values().stream().anyMatch(position -> !position.exhausted());
+        return new FederatedPageResult(items, slices, hasNext ? cursorCodec.encodeFederated(next) : null);
+    }
+
+    /**
+     * Espera cada banco até o mesmo prazo, contado a partir do disparo: o tempo da página
+     * é o do banco mais lento dentro do prazo, não a soma.
+     */
+    private List<Source> gather(Map<DatabaseType, Future<CursorPage>> pending, Map<DatabaseType, FederatedStoreStatus> status) {
+        long deadline = System.nanoTime() + storeTimeout.toNanos();
+        List<Source> sources = new ArrayList<>(pending.size());
+        for (Map.Entry<DatabaseType, Future<CursorPage>> entry : pending.entrySet()) {
+            DatabaseType store = entry.getKey();
+            Future<CursorPage> future = entry.getValue();
+            try {
+                sources.add(new Source(store, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)));
+                status.put(store, FederatedStoreStatus.OK);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                status.put(store, FederatedStoreStatus.TIMEOUT);
+                log.warn("⏱️ {} não respondeu em {} ms; página federada segue sem ele", store.key(), storeTimeout.toMillis());
+            } catch (ExecutionException e) {
+                status.put(store, FederatedStoreStatus.FAILED);
+                log.warn("⚠️ {} falhou na página federada: {}", store.key(), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.values().forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Página federada interrompida", e);
+            }
+        }
+        return sources;
+    }
+
+    static List<Exam> merge(List<Source> sources, int limit, Map<DatabaseType, Integer> delivered) {
+        PriorityQueue<Source> queue = new PriorityQueue<>(Math.max(1, sources.size()), MERGE_ORDER);
+        sources.stream().filter(source -> !source.drained()).forEach(queue::add);
+
+        List<Exam> items = new ArrayList<>(limit);
+        Instant group = null;
+        Set<String> groupIds = new HashSet<>();
+        // página fechada (cheia ou lote de um banco esgotado): só consome cópias do que já saiu
+        boolean closed = false;
+        while (!queue.isEmpty()) {
+            Source source = queue.poll();
+            Exam exam = source.head();
+            boolean duplicate = exam.getCreatedAt().equals(group) && groupIds.contains(exam.getId());
+            if (!duplicate && (closed || items.size() == limit)) {
+                break;
+            }
+            source.consumed++;
+            if (!duplicate) {
+                if (!exam.getCreatedAt().equals(group)) {
+                    group = exam.getCreatedAt();
+                    groupIds.clear();
+                }
+                groupIds.add(exam.getId());
+                items.add(exam);
+                delivered.merge(source.store, 1, Integer::sum);
+            }
+            if (!source.drained()) {
+                queue.add(source);
+            } else if (source.page.hasNext()) {
+                closed = true;
+            }
+        }
+        return items;
+    }
+
+    private CursorPage fetch(CursorPaginationPort port, ExamFilter filter, KeysetCursor after, int limit) {
+        long start = System.nanoTime();
+        CursorPage page = port.findPage(filter, after, limit);
+        metrics.recordQuery(port.store(), PaginationStrategy.KEYSET,
+                after != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0, System.nanoTime() - start);
+        return page;
+    }
+
+    private Map<DatabaseType, StorePosition> resolvePositions(String stores, String cursor) {
+        Set<DatabaseType> requested = parseStores(stores);
+        if (cursor == null || cursor.isBlank()) {
+            Map<DatabaseType, StorePosition> positions = new EnumMap<>(DatabaseType.class);
+            for (DatabaseType store : requested.isEmpty() ? EnumSet.allOf(DatabaseType.class) : requested) {
+                // sem 'stores', só os bancos que têm adaptador keyset; pedido explícito sem adaptador é 501
+                if (!requested.isEmpty() || router.forStore(store).cursor() != null) {
+                    positions.put(store, StorePosition.START);
+                }
+            }
+            return positions;
+        }
+        Map<DatabaseType, StorePosition> positions = cursorCodec.decodeFederated(cursor);
+        if (!requested.isEmpty() && !requested.equals(positions.keySet())) {
+            throw new InvalidPaginationRequestException("Cursor emitido para outros bancos: " + positions.keySet());
+        }
+        return positions;
+    }
+
+    private static Set<DatabaseType> parseStores(String stores) {
+        Set<DatabaseType> parsed = EnumSet.noneOf(DatabaseType.class);
+        if (stores == null || stores.isBlank()) {
+            return parsed;
+        }
+        for (String store : stores.split(",")) {
+            try {
+                parsed.add(DatabaseType.from(store));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidPaginationRequestException("Banco desconhecido: " + store, e);
+            }
+        }
+        return parsed;
+    }
+
+    private CursorPaginationPort cursorPort(DatabaseType store) {
+        CursorPaginationPort port = router.forStore(store).cursor();
+        if (port == null) {
+            throw new UnsupportedPaginationException("Paginação 'cursor' não implementada para " + store.key());
+        }
+        return port;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Página de um banco sendo consumida pelo merge. */
+    static final class Source {
+
+        final DatabaseType store;
+        final CursorPage page;
+        int consumed;
+
+        Source(DatabaseType store, CursorPage page) {
+            this.store = store;
+            this.page = page;
+        }
+
+        Exam head() {
+            return page.items().get(consumed);
+        }
+
+        boolean drained() {
+            return consumed == page.items().size();
+        }
+
+        KeysetCursor keyAt(int index) {
+            Exam exam = page.items().get(index);
+            return new KeysetCursor(exam.getCreatedAt(), exam.getId());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.port.out.IndexAdvice;
+import br.com.pesquisas.paginacao.application.port.out.IndexAdvisorPort;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.exception.UnsupportedPaginationException;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Relatório e aplicação das sugestões de índice de cada banco.
+ *
+ * O relatório executa o plano de cada forma de consulta observada (EXPLAIN ANALYZE no
+ * PostgreSQL, explain("executionStats") no MongoDB) e vem ordenado pelas buscas no
+ * heap/documentos, o que um índice de cobertura elimina. Criar índices é DDL no banco de
+ * verdade: só com 'paginacao.index-advisor.apply-enabled=true'.
+ */
+@Slf4j
+@Service
+public class IndexAdvisorService {
+
+    private static final Comparator<IndexAdvice> BIGGEST_WIN_FIRST = Comparator
+            .comparingLong((IndexAdvice advice) -> advice.current().heapFetches()).reversed();
+
+    private final Map<DatabaseType, IndexAdvisorPort> advisors = new EnumMap<>(DatabaseType.class);
+
+    @Value("${paginacao.index-advisor.apply-enabled:false}")
+    private boolean applyEnabled;
+
+    public IndexAdvisorService(List<IndexAdvisorPort> advisors) {
+        advisors.forEach(advisor -> this.advisors.put(advisor.store(), advisor));
+    }
+
+    /** Sugestões de um banco ou, sem 'store', de todos os que têm advisor. */
+    public List<IndexAdvice> report(String store) {
+        List<IndexAdvice> report = new ArrayList<>();
+        for (IndexAdvisorPort advisor : store == null || store.isBlank() ? advisors.values() : List.of(advisor(store))) {
+            try {
+                report.addAll(advisor.advise());
+            } catch (RuntimeException e) {
+                log.warn("⚠️ Advisor de índices de {} falhou: {}", advisor.store().key(), e.getMessage());
+            }
+        }
+        report.sort(BIGGEST_WIN_FIRST);
+        return report;
+    }
+
+    public List<IndexAdvice> apply(String store, String index) {
+        if (!applyEnabled) {
+            throw new UnsupportedPaginationException(
+                    "Criação de índices desligada; habilite 'paginacao.index-advisor.apply-enabled'");
+        }
+        List<IndexAdvice> applied = advisor(store).apply(index);
+        if (applied.isEmpty()) {
+            throw new InvalidPaginationRequestException("Nenhuma forma observada sugere o índice " + index);
+        }
+        return applied;
+    }
+
+    private IndexAdvisorPort advisor(String store) {
+        DatabaseType target;
+        try {
+            target = DatabaseType.from(store);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPaginationRequestException("Banco desconhecido: " + store, e);
+        }
+        IndexAdvisorPort advisor = advisors.get(target);
+        if (advisor == null) {
+            throw new UnsupportedPaginationException("Advisor de índices não implementado para " + target.key());
+        }
+        return advisor;
+    }
+}
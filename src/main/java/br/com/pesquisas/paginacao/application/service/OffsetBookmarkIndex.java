@@ -0,0 +1,189 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.port.out.OffsetPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.ExamsWrittenEvent;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Índice esparso de marcadores para a paginação offset: a chave (created_at, id) de cada
+ * K-ésima linha ('paginacao.offset.bookmarks.interval') por combinação (banco, filtro).
+ *
+ * Uma página N parte do marcador mais próximo antes dela e só pula as linhas restantes
+ * (no máximo K), em vez de percorrer N * size linhas desde o início. Os marcadores são
+ * preenchidos sob demanda: pelas páginas servidas e pelos saltos de K em K feitos para
+ * chegar a uma página ainda sem marcador. Se o marcador mais próximo está a mais de
+ * 'max-walk-steps' saltos, um único salto vai direto ao último marcador antes da página:
+ * com o índice frio, uma caminhada de K em K seriam centenas de consultas sequenciais,
+ * cada uma mais funda, mais caras que o OFFSET que ela substitui.
+ *
+ * Inserções deslocam as posições; o agendador reconstrói os marcadores de cada combinação
+ * até a profundidade já conhecida e uma carga deste processo ({@link ExamsWrittenEvent})
+ * descarta os do banco. Entre duas reconstruções a página pode ficar deslocada pelas linhas
+ * inseridas no período, a mesma deriva que o OFFSET já tem entre duas requisições.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OffsetBookmarkIndex {
+
+    private record BookmarkKey(DatabaseType store, ExamFilter filter) {
+    }
+
+    private final PaginationAdapterRouter router;
+
+    private final Map<BookmarkKey, NavigableMap<Long, KeysetCursor>> bookmarks = new ConcurrentHashMap<>();
+
+    @Value("${paginacao.offset.bookmarks.enabled:true}")
+    private boolean enabled;
+
+    @Value("${paginacao.offset.bookmarks.interval:1000}")
+    private int interval;
+
+    @Value("${paginacao.offset.bookmarks.max-per-filter:10000}")
+    private int maxPerFilter;
+
+    @Value("${paginacao.offset.bookmarks.max-tracked-filters:256}")
+    private int maxTrackedFilters;
+
+    @Value("${paginacao.offset.bookmarks.max-walk-steps:16}")
+    private int maxWalkSteps;
+
+    /**
+     * Se a página no offset informado deve ser buscada por seek a partir de um marcador.
+     */
+    public boolean covers(StoreAdapters adapters, long offset) {
+        return enabled && offset >= interval && adapters.offset().supportsKeyAt() && adapters.hasCursor();
+    }
+
+    /**
+     * Chave da linha 'position' (base 0): parte do marcador mais próximo e avança de
+     * marcador em marcador, registrando os que faltam no caminho; longe demais de um
+     * marcador, salta direto ao último antes da posição.
+     */
+    public Optional<KeysetCursor> keyAt(StoreAdapters adapters, ExamFilter filter, long position) {
+        OffsetPaginationPort offsetPort = adapters.offset();
+        NavigableMap<Long, KeysetCursor> marks = enabled ? marksFor(adapters.store(), filter) : null;
+        if (marks == null) {
+            return offsetPort.keyAt(filter, null, position);
+        }
+
+        Map.Entry<Long, KeysetCursor> floor = marks.floorEntry(position);
+        long at = floor != null ? floor.getKey() : -1;
+        KeysetCursor key = floor != null ? floor.getValue() : null;
+        long next = (position - at) / interval > maxWalkSteps ? position / interval * interval : nextMark(at);
+        while (at < position) {
+            long target = Math.min(next, position);
+            Optional<KeysetCursor> found = offsetPort.keyAt(filter, key, target - at - 1);
+            if (found.isEmpty()) {
+                return Optional.empty();
+            }
+            key = found.get();
+            at = target;
+            put(marks, at, key);
+            next = nextMark(at);
+        }
+        return Optional.of(key);
+    }
+
+    /**
+     * Registra os marcadores contidos numa página servida a partir de 'offset'.
+     */
+    public void record(StoreAdapters adapters, ExamFilter filter, long offset, List<Exam> items) {
+        if (!enabled || items.isEmpty() || !adapters.offset().supportsKeyAt()) {
+            return;
+        }
+        long mark = nextMark(offset - 1);
+        if (mark >= offset + items.size()) {
+            return;
+        }
+        NavigableMap<Long, KeysetCursor> marks = marksFor(adapters.store(), filter);
+        for (; marks != null && mark < offset + items.size(); mark += interval) {
+            Exam exam = items.get(Math.toIntExact(mark - offset));
+            if (exam.getCreatedAt() != null) { // sem created_at a linha não tem chave de seek
+                put(marks, mark, new KeysetCursor(exam.getCreatedAt(), exam.getId()));
+            }
+        }
+    }
+
+    @EventListener
+    public void onExamsWritten(ExamsWrittenEvent event) {
+        bookmarks.keySet().removeIf(key -> key.store() == event.store());
+    }
+
+    /**
+     * Reconstrói os marcadores de cada combinação até o mais fundo já conhecido,
+     * com saltos de K linhas lidos só do índice.
+     */
+    @Scheduled(
+            initialDelayString = "${paginacao.offset.bookmarks.refresh-interval:PT60S}",
+            fixedDelayString = "${paginacao.offset.bookmarks.refresh-interval:PT60S}"
+    )
+    public void refreshBookmarks() {
+        for (Map.Entry<BookmarkKey, NavigableMap<Long, KeysetCursor>> entry : bookmarks.entrySet()) {
+            BookmarkKey key = entry.getKey();
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            try {
+                long start = System.nanoTime();
+                long deepest = entry.getValue().lastKey();
+                OffsetPaginationPort offsetPort = router.forStore(key.store()).offset();
+                NavigableMap<Long, KeysetCursor> fresh = new ConcurrentSkipListMap<>();
+                KeysetCursor cursor = null;
+                for (long at = -1; nextMark(at) <= deepest; ) {
+                    Optional<KeysetCursor> found = offsetPort.keyAt(key.filter(), cursor, nextMark(at) - at - 1);
+                    if (found.isEmpty()) {
+                        break;
+                    }
+                    cursor = found.get();
+                    at = nextMark(at);
+                    fresh.put(at, cursor);
+                }
+                // não ressuscita marcadores descartados por uma carga durante a reconstrução
+                bookmarks.replace(key, entry.getValue(), fresh);
+                log.debug("🔖 Marcadores {} {} reconstruídos: {} até a linha {} ({} ms)", key.store().key(), key.filter(),
+                        fresh.size(), deepest, Duration.ofNanos(System.nanoTime() - start).toMillis());
+            } catch (Exception e) {
+                log.warn("⚠️ Falha ao reconstruir marcadores de {} {}: {}", key.store().key(), key.filter(), e.getMessage());
+            }
+        }
+    }
+
+    /** Próxima posição de marcador depois de 'position' (>= -1): K, 2K, ...; a linha 0 dispensa marcador. */
+    private long nextMark(long position) {
+        return (position / interval + 1) * interval;
+    }
+
+    private void put(NavigableMap<Long, KeysetCursor> marks, long position, KeysetCursor key) {
+        if (position % interval == 0 && (marks.size() < maxPerFilter || marks.containsKey(position))) {
+            marks.put(position, key);
+        }
+    }
+
+    /** Marcadores da combinação; nulo acima do limite de combinações rastreadas. */
+    private NavigableMap<Long, KeysetCursor> marksFor(DatabaseType store, ExamFilter filter) {
+        BookmarkKey key = new BookmarkKey(store, filter);
+        NavigableMap<Long, KeysetCursor> marks = bookmarks.get(key);
+        if (marks != null || bookmarks.size() >= maxTrackedFilters) {
+            return marks;
+        }
+        return bookmarks.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>());
+    }
+}
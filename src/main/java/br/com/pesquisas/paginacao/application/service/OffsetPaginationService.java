@@ -0,0 +1,113 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec;
+import br.com.pesquisas.paginacao.application.port.in.OffsetPageResult;
+import br.com.pesquisas.paginacao.application.port.in.OffsetPaginationUseCase;
+import br.com.pesquisas.paginacao.application.port.out.OffsetPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import br.com.pesquisas.paginacao.domain.model.TotalCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Paginação OFFSET/LIMIT com proteção de profundidade.
+ *
+ * O total vem do {@link TotalCountCache} (estimativa na requisição, exato em background).
+ * Páginas além de 'paginacao.offset.max-depth' linhas são rejeitadas ou, no modo 'keyset',
+ * reescritas como seek: a chave da linha anterior é lida só do índice e a página é
+ * buscada pelo adaptador keyset, sem materializar as linhas puladas. Com o
+ * {@link OffsetBookmarkIndex} o mesmo seek atende as páginas a partir do primeiro marcador,
+ * e a chave parte do marcador mais próximo em vez do início.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OffsetPaginationService implements OffsetPaginationUseCase {
+
+    public enum DeepPageMode { REJECT, KEYSET }
+
+    private final PaginationAdapterRouter router;
+    private final TotalCountCache countCache;
+    private final OffsetBookmarkIndex bookmarks;
+    private final CursorTokenCodec cursorCodec;
+    private final PaginationMetricsPort metrics;
+
+    @Value("${paginacao.max-limit:500}")
+    private int maxLimit;
+
+    @Value("${paginacao.offset.max-depth:10000}")
+    private long maxDepth;
+
+    @Value("${paginacao.offset.deep-page-mode:keyset}")
+    private DeepPageMode deepPageMode;
+
+    @Override
+    public OffsetPageResult page(String requestedStore, ExamFilter filter, int page, int size) {
+        validate(page, size);
+        StoreAdapters adapters = router.route(requestedStore);
+        DatabaseType store = adapters.store();
+        OffsetPaginationPort offsetPort = adapters.offset();
+        long offset = (long) (page - 1) * size;
+
+        TotalCount total = countCache.get(store, filter);
+        if (offset > maxDepth) {
+            return deepPage(adapters, filter, page, size, offset, total);
+        }
+        if (bookmarks.covers(adapters, offset)) {
+            return seekPage(adapters, filter, page, size, offset, total);
+        }
+
+        long start = System.nanoTime();
+        List<Exam> items = offsetPort.findPage(filter, offset, size);
+        metrics.recordQuery(store, PaginationStrategy.OFFSET, offset, System.nanoTime() - start);
+        bookmarks.record(adapters, filter, offset, items);
+        return new OffsetPageResult(store, items, page, size, total, false, null);
+    }
+
+    private OffsetPageResult deepPage(StoreAdapters adapters, ExamFilter filter,
+                                      int page, int size, long offset, TotalCount total) {
+        if (deepPageMode == DeepPageMode.REJECT || !adapters.offset().supportsKeyAt() || !adapters.hasCursor()) {
+            throw new InvalidPaginationRequestException("Página além da profundidade máxima (" + maxDepth
+                    + " linhas) para " + adapters.store().key() + ". Use /paginacao/cursor para navegar mais fundo.");
+        }
+        return seekPage(adapters, filter, page, size, offset, total);
+    }
+
+    private OffsetPageResult seekPage(StoreAdapters adapters, ExamFilter filter,
+                                      int page, int size, long offset, TotalCount total) {
+        DatabaseType store = adapters.store();
+        log.debug("↪️ Página {} (offset {}) reescrita como keyset em {}", page, offset, store.key());
+        // página reescrita: registrada como offset na profundidade pedida (keyAt + seek)
+        long start = System.nanoTime();
+        KeysetCursor anchor = bookmarks.keyAt(adapters, filter, offset - 1).orElse(null);
+        if (anchor == null) {
+            return new OffsetPageResult(store, List.of(), page, size, total, true, null);
+        }
+
+        CursorPage keysetPage = adapters.cursor().findPage(filter, anchor, size);
+        metrics.recordQuery(store, PaginationStrategy.OFFSET, offset, System.nanoTime() - start);
+        bookmarks.record(adapters, filter, offset, keysetPage.items());
+        String nextCursor = keysetPage.hasNext() ? cursorCodec.encode(store, keysetPage.lastKey()) : null;
+        return new OffsetPageResult(store, keysetPage.items(), page, size, total, true, nextCursor);
+    }
+
+    private void validate(int page, int size) {
+        if (page < 1) {
+            throw new InvalidPaginationRequestException("page deve ser maior ou igual a 1");
+        }
+        if (size < 1 || size > maxLimit) {
+            throw new InvalidPaginationRequestException("size deve estar entre 1 e " + maxLimit);
+        }
+    }
+}
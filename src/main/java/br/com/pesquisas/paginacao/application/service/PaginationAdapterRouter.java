@@ -0,0 +1,149 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.port.out.CursorPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.ExamCountPort;
+import br.com.pesquisas.paginacao.application.port.out.ExamExportPort;
+import br.com.pesquisas.paginacao.application.port.out.OffsetPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.StoreWarmUpPort;
+import br.com.pesquisas.paginacao.application.port.out.TimeWindowPaginationPort;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Roteia cada requisição para os adaptadores do banco ativo.
+ *
+ * O banco ativo é uma referência volátil para um {@link StoreAdapters} imutável: no
+ * caminho quente a resolução custa uma leitura volátil, sem lock nem alocação. A troca
+ * ('feature.database.active' na subida, depois o endpoint Actuator 'database') aquece o
+ * banco novo antes de publicar a referência; requisições que já leram o conjunto antigo
+ * terminam nele.
+ *
+ * Cada porta é envolvida pelo {@link StoreConcurrencyLimiter}, que limita as chamadas
+ * simultâneas ao banco.
+ */
+@Slf4j
+@Component
+public class PaginationAdapterRouter {
+
+    public record RoutingState(DatabaseType active, Instant switchedAt, List<DatabaseType> available) {
+    }
+
+    private final Map<DatabaseType, StoreAdapters> adaptersByStore = new EnumMap<>(DatabaseType.class);
+    private final Map<DatabaseType, StoreWarmUpPort> warmUps;
+    /** ReentrantLock, não synchronized: o aquecimento faz I/O e prenderia uma virtual thread ao carrier. */
+    private final ReentrantLock switchLock = new ReentrantLock();
+
+    private volatile StoreAdapters active;
+    private volatile Instant switchedAt;
+
+    public PaginationAdapterRouter(
+            List<CursorPaginationPort> cursorPorts,
+            List<OffsetPaginationPort> offsetPorts,
+            List<TimeWindowPaginationPort> timePorts,
+            List<ExamCountPort> countPorts,
+            List<ExamExportPort> exportPorts,
+            List<StoreWarmUpPort> warmUpPorts,
+            StoreConcurrencyLimiter limiter,
+            @Value("${feature.database.active:postgres}") String initialStore
+    ) {
+        Map<DatabaseType, CursorPaginationPort> cursor = byStore(cursorPorts, CursorPaginationPort::store);
+        Map<DatabaseType, OffsetPaginationPort> offset = byStore(offsetPorts, OffsetPaginationPort::store);
+        Map<DatabaseType, TimeWindowPaginationPort> time = byStore(timePorts, TimeWindowPaginationPort::store);
+        Map<DatabaseType, ExamCountPort> count = byStore(countPorts, ExamCountPort::store);
+        Map<DatabaseType, ExamExportPort> export = byStore(exportPorts, ExamExportPort::store);
+        for (DatabaseType store : DatabaseType.values()) {
+            adaptersByStore.put(store, new StoreAdapters(store,
+                    limiter.guard(CursorPaginationPort.class, store, cursor.get(store)),
+                    limiter.guard(OffsetPaginationPort.class, store, offset.get(store)),
+                    limiter.guard(TimeWindowPaginationPort.class, store, time.get(store)),
+                    limiter.guard(ExamCountPort.class, store, count.get(store)),
+                    limiter.guard(ExamExportPort.class, store, export.get(store))));
+        }
+        this.warmUps = byStore(warmUpPorts, StoreWarmUpPort::store);
+        this.active = adaptersByStore.get(DatabaseType.from(initialStore));
+        this.switchedAt = Instant.now();
+        log.info("🔀 Banco ativo da paginação: {}", active.store().key());
+    }
+
+    /**
+     * Adaptadores para a requisição: o banco pedido explicitamente ou o ativo.
+     */
+    public StoreAdapters route(String requestedStore) {
+        if (requestedStore == null || requestedStore.isBlank()) {
+            return active;
+        }
+        try {
+            return adaptersByStore.get(DatabaseType.from(requestedStore));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPaginationRequestException("Banco desconhecido: " + requestedStore, e);
+        }
+    }
+
+    public StoreAdapters forStore(DatabaseType store) {
+        return adaptersByStore.get(store);
+    }
+
+    public DatabaseType activeStore() {
+        return active.store();
+    }
+
+    public RoutingState state() {
+        return new RoutingState(active.store(), switchedAt, List.copyOf(adaptersByStore.keySet()));
+    }
+
+    /**
+     * Aquece o banco alvo e só então o publica como ativo. Se o aquecimento falhar,
+     * o banco atual continua ativo e a exceção é propagada.
+     */
+    public RoutingState switchTo(DatabaseType target) {
+        switchLock.lock();
+        try {
+            DatabaseType previous = active.store();
+            if (previous == target) {
+                return state();
+            }
+            log.info("🔀 Trocando banco da paginação: {} → {} (aquecendo)", previous.key(), target.key());
+            long start = System.nanoTime();
+            warmUp(target);
+            active = adaptersByStore.get(target);
+            switchedAt = Instant.now();
+            log.info("✅ Banco ativo agora é {} (aquecimento em {} ms); requisições em andamento terminam em {}.",
+                    target.key(), Duration.ofNanos(System.nanoTime() - start).toMillis(), previous.key());
+            return state();
+        } finally {
+            switchLock.unlock();
+        }
+    }
+
+    public void warmUp(DatabaseType store) {
+        StoreWarmUpPort warmUp = warmUps.get(store);
+        if (warmUp == null) {
+            log.warn("⚠️ Nenhum aquecimento registrado para {}", store.key());
+            return;
+        }
+        warmUp.warmUp();
+    }
+
+    private static <P> Map<DatabaseType, P> byStore(List<P> ports, Function<P, DatabaseType> store) {
+        Map<DatabaseType, P> map = new EnumMap<>(DatabaseType.class);
+        for (P port : ports) {
+            P previous = map.put(store.apply(port), port);
+            if (previous != null) {
+                throw new IllegalStateException("Mais de um adaptador para " + store.apply(port) + ": "
+                        + previous.getClass().getSimpleName() + ", " + port.getClass().getSimpleName());
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec;
+import br.com.pesquisas.paginacao.application.port.in.CursorPageResult;
+import br.com.pesquisas.paginacao.application.port.in.ReactiveCursorPaginationUseCase;
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.application.port.out.ReactiveCursorPaginationPort;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.exception.UnsupportedPaginationException;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Paginação keyset na stack reativa (profile 'reactive').
+ *
+ * Mesmos tokens, limites e métricas de {@link CursorPaginationService}; o banco é resolvido
+ * pelo {@link PaginationAdapterRouter} (parâmetro 'store' ou banco ativo). Em {@link #pages}
+ * cada página é uma consulta de 'limit' + 1 linhas disparada pela demanda do assinante: um
+ * cliente lento segura a leitura em vez de acumular páginas em memória.
+ */
+@Service
+@Profile("reactive")
+public class ReactiveCursorPaginationService implements ReactiveCursorPaginationUseCase {
+
+    private final PaginationAdapterRouter router;
+    private final CursorTokenCodec cursorCodec;
+    private final PaginationMetricsPort metrics;
+    private final Map<DatabaseType, ReactiveCursorPaginationPort> ports = new EnumMap<>(DatabaseType.class);
+
+    @Value("${paginacao.max-limit:500}")
+    private int maxLimit;
+
+    public ReactiveCursorPaginationService(PaginationAdapterRouter router,
+                                           CursorTokenCodec cursorCodec,
+                                           PaginationMetricsPort metrics,
+                                           List<ReactiveCursorPaginationPort> ports) {
+        this.router = router;
+        this.cursorCodec = cursorCodec;
+        this.metrics = metrics;
+        ports.forEach(port -> this.ports.put(port.store(), port));
+    }
+
+    @Override
+    public Mono<CursorPageResult> page(String store, ExamFilter filter, String cursor, int limit) {
+        return Mono.defer(() -> {
+            validateLimit(limit);
+            ReactiveCursorPaginationPort port = route(store);
+            return fetch(port, filter, decode(port.store(), cursor), limit)
+                    .map(page -> toResult(port.store(), page));
+        });
+    }
+
+    @Override
+    public Flux<CursorPageResult> pages(String store, ExamFilter filter, String cursor, int limit, int maxPages) {
+        return Flux.defer(() -> {
+            validateLimit(limit);
+            if (maxPages < 0) {
+                throw new InvalidPaginationRequestException("pages deve ser maior ou igual a 0");
+            }
+            ReactiveCursorPaginationPort port = route(store);
+            KeysetCursor after = decode(port.store(), cursor);
+            Flux<CursorPage> pages = fetch(port, filter, after, limit)
+                    .expand(page -> page.hasNext() ? fetch(port, filter, page.lastKey(), limit) : Mono.empty());
+            return (maxPages > 0 ? pages.take(maxPages, true) : pages)
+                    .map(page -> toResult(port.store(), page));
+        });
+    }
+
+    private Mono<CursorPage> fetch(ReactiveCursorPaginationPort port, ExamFilter filter, KeysetCursor after, int limit) {
+        long depth = after != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0;
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return port.findPage(filter, after, limit).doOnNext(page ->
+                    metrics.recordQuery(port.store(), PaginationStrategy.KEYSET, depth, System.nanoTime() - start));
+        });
+    }
+
+    private CursorPageResult toResult(DatabaseType store, CursorPage page) {
+        String nextCursor = page.hasNext() ? cursorCodec.encode(store, page.lastKey()) : null;
+        return new CursorPageResult(store, page.items(), nextCursor);
+    }
+
+    private ReactiveCursorPaginationPort route(String store) {
+        DatabaseType target = router.route(store).store();
+        ReactiveCursorPaginationPort port = ports.get(target);
+        if (port == null) {
+            throw new UnsupportedPaginationException("Paginação 'cursor' reativa não implementada para " + target.key());
+        }
+        return port;
+    }
+
+    private KeysetCursor decode(DatabaseType store, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        long start = System.nanoTime();
+        KeysetCursor position = cursorCodec.decode(store, cursor);
+        metrics.recordCursorDecode(store, System.nanoTime() - start);
+        return position;
+    }
+
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > maxLimit) {
+            throw new InvalidPaginationRequestException("limit deve estar entre 1 e " + maxLimit);
+        }
+    }
+}
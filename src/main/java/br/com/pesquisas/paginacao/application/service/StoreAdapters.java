@@ -0,0 +1,56 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.port.out.CursorPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.ExamCountPort;
+import br.com.pesquisas.paginacao.application.port.out.ExamExportPort;
+import br.com.pesquisas.paginacao.application.port.out.OffsetPaginationPort;
+import br.com.pesquisas.paginacao.application.port.out.TimeWindowPaginationPort;
+import br.com.pesquisas.paginacao.domain.exception.UnsupportedPaginationException;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+
+/**
+ * Conjunto imutável de adaptadores de um banco. Uma requisição obtém o conjunto
+ * uma única vez e o usa até o fim, mesmo que o banco ativo seja trocado no meio.
+ * Estratégias sem adaptador ficam nulas e falham com {@link UnsupportedPaginationException}.
+ */
+public record StoreAdapters(
+        DatabaseType store,
+        CursorPaginationPort cursorPort,
+        OffsetPaginationPort offsetPort,
+        TimeWindowPaginationPort timePort,
+        ExamCountPort countPort,
+        ExamExportPort exportPort
+) {
+
+    public CursorPaginationPort cursor() {
+        return require(cursorPort, "cursor");
+    }
+
+    public boolean hasCursor() {
+        return cursorPort != null;
+    }
+
+    public OffsetPaginationPort offset() {
+        return require(offsetPort, "offset");
+    }
+
+    public TimeWindowPaginationPort time() {
+        return require(timePort, "time");
+    }
+
+    public ExamCountPort count() {
+        return require(countPort, "contagem");
+    }
+
+    public ExamExportPort export() {
+        return require(exportPort, "exportação");
+    }
+
+    private <P> P require(P port, String strategy) {
+        if (port == null) {
+            throw new UnsupportedPaginationException(
+                    "Paginação '" + strategy + "' não implementada para " + store.key());
+        }
+        return port;
+    }
+}
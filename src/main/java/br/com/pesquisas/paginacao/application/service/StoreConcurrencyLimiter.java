@@ -0,0 +1,112 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.domain.exception.StoreSaturatedException;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Limite de chamadas simultâneas aos adaptadores de cada banco.
+ *
+ * Com virtual threads ('spring.threads.virtual.enabled') o Tomcat não limita mais as
+ * requisições pelo tamanho do pool: milhares podem chegar juntas aos adaptadores. O semáforo
+ * de cada banco é dimensionado pelo recurso que ele protege (pool do Hikari, pool do driver
+ * do MongoDB, streams gRPC do Firestore) e a espera por uma permissão acontece na virtual
+ * thread, sem ocupar thread de plataforma. Sem permissão em 'paginacao.concurrency.acquire-timeout'
+ * a chamada falha com {@link StoreSaturatedException} em vez de enfileirar indefinidamente.
+ */
+@Component
+public class StoreConcurrencyLimiter {
+
+    /** Métodos das portas que não acessam o banco e dispensam permissão. */
+    private static final Set<String> UNGUARDED = Set.of("store", "supportsKeyAt", "equals", "hashCode", "toString");
+
+    private final boolean enabled;
+    private final long acquireTimeoutNanos;
+    private final int[] permits = new int[DatabaseType.values().length];
+    private final Semaphore[] semaphores = new Semaphore[DatabaseType.values().length];
+    private final AtomicLongArray rejected = new AtomicLongArray(DatabaseType.values().length);
+
+    public StoreConcurrencyLimiter(
+            @Value("${paginacao.concurrency.enabled:true}") boolean enabled,
+            @Value("${paginacao.concurrency.acquire-timeout:PT5S}") Duration acquireTimeout,
+            @Value("${paginacao.concurrency.postgres.permits:10}") int postgresPermits,
+            @Value("${paginacao.concurrency.mongo.permits:100}") int mongoPermits,
+            @Value("${paginacao.concurrency.firestore.permits:500}") int firestorePermits) {
+        this.enabled = enabled;
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        permits[DatabaseType.POSTGRES.ordinal()] = postgresPermits;
+        permits[DatabaseType.MONGO.ordinal()] = mongoPermits;
+        permits[DatabaseType.FIRESTORE.ordinal()] = firestorePermits;
+        for (DatabaseType store : DatabaseType.values()) {
+            semaphores[store.ordinal()] = new Semaphore(permits[store.ordinal()], true);
+        }
+    }
+
+    /**
+     * Envolve a porta de um banco: cada chamada que acessa o banco ocupa uma permissão
+     * do semáforo do banco até retornar.
+     */
+    @SuppressWarnings("unchecked")
+    public <P> P guard(Class<P> portType, DatabaseType store, P port) {
+        if (!enabled || port == null) {
+            return port;
+        }
+        return (P) Proxy.newProxyInstance(portType.getClassLoader(), new Class<?>[]{portType},
+                (proxy, method, args) -> UNGUARDED.contains(method.getName())
+                        ? invoke(port, method, args)
+                        : call(store, port, method, args));
+    }
+
+    public int permits(DatabaseType store) {
+        return permits[store.ordinal()];
+    }
+
+    public int inUse(DatabaseType store) {
+        return permits[store.ordinal()] - semaphores[store.ordinal()].availablePermits();
+    }
+
+    public int waiting(DatabaseType store) {
+        return semaphores[store.ordinal()].getQueueLength();
+    }
+
+    public long rejected(DatabaseType store) {
+        return rejected.get(store.ordinal());
+    }
+
+    private Object call(DatabaseType store, Object port, Method method, Object[] args) throws Throwable {
+        Semaphore semaphore = semaphores[store.ordinal()];
+        try {
+            if (!semaphore.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                rejected.incrementAndGet(store.ordinal());
+                throw new StoreSaturatedException("Limite de " + permits(store) + " chamadas simultâneas a "
+                        + store.key() + " atingido; tente novamente.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StoreSaturatedException("Espera por " + store.key() + " interrompida");
+        }
+        try {
+            return invoke(port, method, args);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private static Object invoke(Object port, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(port, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
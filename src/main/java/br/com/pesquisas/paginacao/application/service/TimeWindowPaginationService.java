@@ -0,0 +1,123 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec;
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec.SortKey;
+import br.com.pesquisas.paginacao.application.port.in.TimePageResult;
+import br.com.pesquisas.paginacao.application.port.in.TimeWindowPaginationUseCase;
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.application.port.out.TimeWindowPaginationPort;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import br.com.pesquisas.paginacao.domain.model.TimeWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Paginação por intervalo de tempo, do mais recente para o mais antigo.
+ *
+ * Cada página percorre [from, to) em janelas consecutivas dimensionadas pelo
+ * {@link AdaptiveWindowSizer}. Uma janela que enche a página encerra a busca e o
+ * cursor aponta para a última linha; janelas incompletas avançam para a próxima,
+ * no máximo 'paginacao.time.max-probes' vezes. Se o limite de janelas acabar antes de
+ * 'from', o cursor vira uma fronteira de tempo e a próxima requisição continua dali.
+ */
+@Service
+@RequiredArgsConstructor
+public class TimeWindowPaginationService implements TimeWindowPaginationUseCase {
+
+    private final PaginationAdapterRouter router;
+    private final AdaptiveWindowSizer windowSizer;
+    private final CursorTokenCodec cursorCodec;
+    private final PaginationMetricsPort metrics;
+
+    @Value("${paginacao.max-limit:500}")
+    private int maxLimit;
+
+    @Value("${paginacao.time.max-probes:6}")
+    private int maxProbes;
+
+    @Override
+    public TimePageResult page(String requestedStore, TimeField field, ExamFilter filter,
+                               Instant from, Instant to, String cursor, int limit) {
+        validate(from, to, limit);
+        TimeWindowPaginationPort port = router.route(requestedStore).time();
+        DatabaseType store = port.store();
+
+        KeysetCursor position = decode(store, field, cursor);
+        long depth = position != null ? PaginationMetricsPort.UNKNOWN_DEPTH : 0;
+        Instant top = position != null ? position.timestamp() : to;
+        Instant upperExclusive = position != null ? null : to;
+
+        List<Exam> items = new ArrayList<>(limit);
+        List<TimeWindow> windows = new ArrayList<>(maxProbes);
+        Duration previousWidth = Duration.ZERO;
+
+        for (int probe = 0; probe < maxProbes && items.size() < limit && top.isAfter(from); probe++) {
+            int remaining = limit - items.size();
+            Duration width = windowSizer.widthFor(store, field, filter, remaining);
+            // garante ao menos o dobro da janela anterior para atravessar trechos vazios
+            if (width.compareTo(previousWidth.multipliedBy(2)) < 0) {
+                width = windowSizer.clamp(previousWidth.multipliedBy(2));
+            }
+            Instant lo = top.minus(width);
+            if (lo.isBefore(from)) {
+                lo = from;
+            }
+
+            long start = System.nanoTime();
+            List<Exam> rows = port.findWindow(field, filter, lo, upperExclusive, position, remaining + 1);
+            metrics.recordQuery(store, PaginationStrategy.TIME_WINDOW, depth, System.nanoTime() - start);
+            if (rows.size() > remaining) {
+                List<Exam> accepted = rows.subList(0, remaining);
+                Exam last = accepted.get(remaining - 1);
+                Instant lastValue = field.valueOf(last);
+                windowSizer.observe(store, field, filter, remaining, Duration.between(lastValue, top));
+                items.addAll(accepted);
+                windows.add(new TimeWindow(lo, top, accepted.size()));
+                String next = cursorCodec.encode(store, SortKey.of(field), new KeysetCursor(lastValue, last.getId()));
+                return new TimePageResult(store, field, items, windows, next);
+            }
+
+            windowSizer.observe(store, field, filter, rows.size(), Duration.between(lo, top));
+            items.addAll(rows);
+            windows.add(new TimeWindow(lo, top, rows.size()));
+            previousWidth = width;
+            top = lo;
+            upperExclusive = lo;
+            position = null;
+        }
+
+        String next = top.isAfter(from) ? cursorCodec.encode(store, SortKey.of(field), KeysetCursor.before(top)) : null;
+        return new TimePageResult(store, field, items, windows, next);
+    }
+
+    private KeysetCursor decode(DatabaseType store, TimeField field, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        long start = System.nanoTime();
+        KeysetCursor position = cursorCodec.decode(store, SortKey.of(field), cursor);
+        metrics.recordCursorDecode(store, System.nanoTime() - start);
+        return position;
+    }
+
+    private void validate(Instant from, Instant to, int limit) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new InvalidPaginationRequestException("Intervalo inválido: 'from' deve ser anterior a 'to'");
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new InvalidPaginationRequestException("limit deve estar entre 1 e " + maxLimit);
+        }
+    }
+}
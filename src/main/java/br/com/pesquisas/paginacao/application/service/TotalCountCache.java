@@ -0,0 +1,95 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.TotalCount;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Cache dos totais usados pela paginação offset.
+ *
+ * Na requisição nunca roda COUNT(*): devolve o último total exato conhecido ou,
+ * na falta dele, a estimativa do banco (guardada por um TTL curto). O total exato
+ * de cada combinação (banco, filtro) rastreada é recalculado pelo agendador.
+ *
+ * São rastreadas no máximo 'paginacao.count.max-tracked-filters' combinações; uma que
+ * não é pedida por 'paginacao.count.idle-ttl' sai do cache e deixa de ser recalculada.
+ */
+@Slf4j
+@Component
+public class TotalCountCache {
+
+    private record CountKey(DatabaseType store, ExamFilter filter) {
+    }
+
+    /** Totais de uma combinação: o exato do agendador e a estimativa com validade. */
+    private static final class Counts {
+        volatile TotalCount exact;
+        volatile TotalCount estimate;
+        volatile long estimateExpiresAtNanos;
+    }
+
+    private final PaginationAdapterRouter router;
+    private final Duration estimateTtl;
+    private final Cache<CountKey, Counts> counts;
+
+    public TotalCountCache(PaginationAdapterRouter router,
+                           @Value("${paginacao.count.estimate-ttl:PT10S}") Duration estimateTtl,
+                           @Value("${paginacao.count.max-tracked-filters:256}") int maxTrackedFilters,
+                           @Value("${paginacao.count.idle-ttl:PT30M}") Duration idleTtl) {
+        this.router = router;
+        this.estimateTtl = estimateTtl;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxTrackedFilters)
+                .expireAfterAccess(idleTtl)
+                .executor(Runnable::run)
+                .build();
+    }
+
+    public TotalCount get(DatabaseType store, ExamFilter filter) {
+        Counts entry = counts.get(new CountKey(store, filter), key -> new Counts());
+        TotalCount exact = entry.exact;
+        if (exact != null) {
+            return exact;
+        }
+
+        long now = System.nanoTime();
+        TotalCount cached = entry.estimate;
+        if (cached != null && now < entry.estimateExpiresAtNanos) {
+            return cached;
+        }
+
+        TotalCount estimate = TotalCount.estimated(router.forStore(store).count().estimatedCount(filter));
+        entry.estimateExpiresAtNanos = now + estimateTtl.toNanos();
+        entry.estimate = estimate;
+        return estimate;
+    }
+
+    @Scheduled(
+            initialDelayString = "${paginacao.count.refresh-initial-delay:PT15S}",
+            fixedDelayString = "${paginacao.count.refresh-interval:PT60S}"
+    )
+    public void refreshExactCounts() {
+        // a varredura do mapa não conta como acesso: combinações ociosas expiram mesmo recalculadas
+        for (Map.Entry<CountKey, Counts> tracked : counts.asMap().entrySet()) {
+            CountKey key = tracked.getKey();
+            try {
+                long start = System.nanoTime();
+                long exact = router.forStore(key.store()).count().exactCount(key.filter());
+                tracked.getValue().exact = TotalCount.exact(exact);
+                log.debug("🔢 Total exato {} {} = {} ({} ms)", key.store().key(), key.filter(), exact,
+                        Duration.ofNanos(System.nanoTime() - start).toMillis());
+            } catch (Exception e) {
+                log.warn("⚠️ Falha ao recalcular total exato de {} {}: {}", key.store().key(), key.filter(), e.getMessage());
+            }
+        }
+    }
+}
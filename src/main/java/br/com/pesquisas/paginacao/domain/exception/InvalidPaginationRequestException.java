@@ -0,0 +1,16 @@
+package br.com.pesquisas.paginacao.domain.exception;
+
+/**
+ * Parâmetros de paginação inválidos (cursor corrompido, limite fora da faixa, etc.).
+ * Mapeada para HTTP 400 pelo handler REST.
+ */
+public class InvalidPaginationRequestException extends RuntimeException {
+
+    public InvalidPaginationRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidPaginationRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.pesquisas.paginacao.domain.exception;
+
+/**
+ * O banco atingiu o limite de chamadas simultâneas e a espera por uma vaga esgotou.
+ * Mapeada para HTTP 503 (com Retry-After) pelo handler REST.
+ */
+public class StoreSaturatedException extends RuntimeException {
+
+    public StoreSaturatedException(String message) {
+        super(message);
+    }
+}
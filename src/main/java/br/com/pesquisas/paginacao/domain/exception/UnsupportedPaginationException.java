@@ -0,0 +1,12 @@
+package br.com.pesquisas.paginacao.domain.exception;
+
+/**
+ * A estratégia de paginação pedida não tem adaptador para o banco selecionado.
+ * Mapeada para HTTP 501 pelo handler REST.
+ */
+public class UnsupportedPaginationException extends RuntimeException {
+
+    public UnsupportedPaginationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import java.util.List;
+
+/**
+ * Página retornada por um adaptador keyset. 'hasNext' indica se existem
+ * linhas depois do último item (o adaptador busca limit + 1 para descobrir).
+ */
+public record CursorPage(List<Exam> items, boolean hasNext) {
+
+    public KeysetCursor lastKey() {
+        if (items.isEmpty()) {
+            return null;
+        }
+        Exam last = items.get(items.size() - 1);
+        return new KeysetCursor(last.getCreatedAt(), last.getId());
+    }
+}
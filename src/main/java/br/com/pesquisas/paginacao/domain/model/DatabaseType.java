@@ -0,0 +1,25 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Bancos suportados pela POC. O valor textual é o mesmo usado em
+ * 'feature.database.active' (postgres | mongo | firestore).
+ */
+public enum DatabaseType {
+
+    POSTGRES,
+    MONGO,
+    FIRESTORE;
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static DatabaseType from(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Banco não informado");
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
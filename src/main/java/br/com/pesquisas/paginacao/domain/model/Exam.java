@@ -0,0 +1,46 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Representação de domínio de um exame, independente do banco de origem.
+ * Os adaptadores de saída convertem suas linhas/documentos direto para este modelo
+ * (ResultSet, bytes BSON, DocumentSnapshot), sem entidade intermediária.
+ */
+@Value
+@Builder
+public class Exam {
+
+    String id;
+    String pacienteId;
+    String nomePaciente;
+    String tipoExame;
+    String statusExame;
+    Double valorResultado;
+    Instant dataColeta;
+    Instant dataResultado;
+    String laboratorio;
+    Instant createdAt;
+
+    /** Tipo, status e laboratório entram pela instância canônica ({@link ExamVocabulary}). */
+    public static class ExamBuilder {
+
+        public ExamBuilder tipoExame(String tipoExame) {
+            this.tipoExame = ExamVocabulary.canonical(tipoExame);
+            return this;
+        }
+
+        public ExamBuilder statusExame(String statusExame) {
+            this.statusExame = ExamVocabulary.canonical(statusExame);
+            return this;
+        }
+
+        public ExamBuilder laboratorio(String laboratorio) {
+            this.laboratorio = ExamVocabulary.canonical(laboratorio);
+            return this;
+        }
+    }
+}
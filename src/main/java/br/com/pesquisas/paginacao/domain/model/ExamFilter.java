@@ -0,0 +1,42 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+/**
+ * Filtros opcionais aceitos pelas paginações. Campos nulos não filtram.
+ */
+public record ExamFilter(String pacienteId, String statusExame) {
+
+    private static final ExamFilter NONE = new ExamFilter(null, null);
+
+    public ExamFilter {
+        pacienteId = blankToNull(pacienteId);
+        statusExame = blankToNull(statusExame);
+    }
+
+    public static ExamFilter none() {
+        return NONE;
+    }
+
+    public boolean hasPaciente() {
+        return pacienteId != null;
+    }
+
+    public boolean hasStatus() {
+        return statusExame != null;
+    }
+
+    /**
+     * Forma do filtro (quais campos estão presentes) como máscara de bits:
+     * 1 = paciente, 2 = status. Útil para escolher SQL pré-montado ou agrupar estatísticas.
+     */
+    public int shape() {
+        return (pacienteId != null ? 1 : 0) | (statusExame != null ? 2 : 0);
+    }
+
+    public boolean isEmpty() {
+        return pacienteId == null && statusExame == null;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Instâncias canônicas dos campos de baixa cardinalidade de {@link Exam} (tipo, status,
+ * laboratório).
+ *
+ * Cada driver cria uma String nova por linha lida; com a instância canônica, as páginas
+ * mantidas em memória (leitura antecipada, marcadores, exportação em lote) guardam uma cópia
+ * por valor em vez de uma por exame. Os conjuntos de valores são abertos (vêm dos dados), por
+ * isso não viram enum; o pool é limitado e, cheio, devolve o próprio valor.
+ */
+final class ExamVocabulary {
+
+    private static final int MAX_VALUES = 4096;
+    private static final ConcurrentHashMap<String, String> VALUES = new ConcurrentHashMap<>();
+
+    private ExamVocabulary() {
+    }
+
+    static String canonical(String value) {
+        if (value == null) {
+            return null;
+        }
+        String canonical = VALUES.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        if (VALUES.size() >= MAX_VALUES) {
+            return value;
+        }
+        canonical = VALUES.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+}
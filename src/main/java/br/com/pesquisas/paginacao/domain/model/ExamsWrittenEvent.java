@@ -0,0 +1,11 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Exames gravados em um banco por este processo (ex.: carga em massa).
+ *
+ * @param oldestCreatedAt menor created_at gravado; nulo quando a faixa não é conhecida
+ */
+public record ExamsWrittenEvent(DatabaseType store, Instant oldestCreatedAt) {
+}
@@ -0,0 +1,25 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Resultado de um banco em uma página federada.
+ *
+ * OK: respondeu no prazo. EXHAUSTED: já tinha sido lido até o fim e não foi consultado.
+ * TIMEOUT e FAILED: ficou de fora da página (resultado parcial) e mantém a posição anterior.
+ */
+public enum FederatedStoreStatus {
+
+    OK,
+    EXHAUSTED,
+    TIMEOUT,
+    FAILED;
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public boolean missing() {
+        return this == TIMEOUT || this == FAILED;
+    }
+}
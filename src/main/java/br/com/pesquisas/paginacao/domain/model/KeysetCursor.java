@@ -0,0 +1,28 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Posição de uma paginação keyset: a chave (timestamp, id) da última linha entregue.
+ * A próxima página começa estritamente depois dessa chave na ordem DESC.
+ *
+ * Um id vazio representa uma fronteira de tempo: a próxima página começa em
+ * qualquer linha com timestamp estritamente anterior (usado pela paginação por janela
+ * quando a página termina sem uma última linha).
+ */
+public record KeysetCursor(Instant timestamp, String id) {
+
+    public KeysetCursor {
+        Objects.requireNonNull(timestamp, "timestamp");
+        Objects.requireNonNull(id, "id");
+    }
+
+    public static KeysetCursor before(Instant timestamp) {
+        return new KeysetCursor(timestamp, "");
+    }
+
+    public boolean isTimeBoundary() {
+        return id.isEmpty();
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Estratégias de paginação da POC, usadas para separar métricas e comparações.
+ */
+public enum PaginationStrategy {
+
+    OFFSET,
+    KEYSET,
+    TIME_WINDOW;
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+/**
+ * Posição de um banco na paginação federada: a chave da última linha dele já entregue
+ * ('after' nulo enquanto o banco não entregou nenhuma) e se ele já foi lido até o fim.
+ */
+public record StorePosition(KeysetCursor after, boolean exhausted) {
+
+    public static final StorePosition START = new StorePosition(null, false);
+}
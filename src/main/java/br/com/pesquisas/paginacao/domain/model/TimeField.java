@@ -0,0 +1,35 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import java.time.Instant;
+import java.util.Locale;
+
+/**
+ * Campos temporais que podem ordenar a paginação por janela de tempo.
+ */
+public enum TimeField {
+
+    DATA_COLETA("data_coleta"),
+    DATA_RESULTADO("data_resultado");
+
+    private final String column;
+
+    TimeField(String column) {
+        this.column = column;
+    }
+
+    /** Nome da coluna/campo nos três bancos. */
+    public String column() {
+        return column;
+    }
+
+    public Instant valueOf(Exam exam) {
+        return this == DATA_COLETA ? exam.getDataColeta() : exam.getDataResultado();
+    }
+
+    public static TimeField from(String value) {
+        if (value == null || value.isBlank()) {
+            return DATA_COLETA;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
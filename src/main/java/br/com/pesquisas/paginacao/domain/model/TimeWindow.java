@@ -0,0 +1,9 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+import java.time.Instant;
+
+/**
+ * Janela [from, to) consultada para compor uma página e quantas linhas ela devolveu.
+ */
+public record TimeWindow(Instant from, Instant to, int rows) {
+}
@@ -0,0 +1,16 @@
+package br.com.pesquisas.paginacao.domain.model;
+
+/**
+ * Total de registros de uma consulta. 'exact' é falso quando o valor vem de
+ * estatísticas do banco (pg_class.reltuples, estimatedDocumentCount, plano do EXPLAIN).
+ */
+public record TotalCount(long value, boolean exact) {
+
+    public static TotalCount estimated(long value) {
+        return new TotalCount(Math.max(value, 0), false);
+    }
+
+    public static TotalCount exact(long value) {
+        return new TotalCount(value, true);
+    }
+}
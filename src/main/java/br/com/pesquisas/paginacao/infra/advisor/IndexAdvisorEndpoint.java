@@ -0,0 +1,47 @@
+package br.com.pesquisas.paginacao.infra.advisor;
+
+import br.com.pesquisas.paginacao.application.port.out.IndexAdvice;
+import br.com.pesquisas.paginacao.application.service.IndexAdvisorService;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.exception.UnsupportedPaginationException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Endpoint Actuator do advisor de índices:
+ *
+ * GET  /actuator/indexes[?store=postgres]
+ * POST /actuator/indexes  {"store": "postgres", "index": "idx_cover_created_at_id"}
+ */
+@Component
+@Endpoint(id = "indexes")
+@RequiredArgsConstructor
+public class IndexAdvisorEndpoint {
+
+    private final IndexAdvisorService advisor;
+
+    @ReadOperation
+    public List<IndexAdvice> report(@Nullable String store) {
+        try {
+            return advisor.report(store);
+        } catch (InvalidPaginationRequestException | UnsupportedPaginationException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "store inválido");
+        }
+    }
+
+    @WriteOperation
+    public List<IndexAdvice> apply(String store, String index) {
+        try {
+            return advisor.apply(store, index);
+        } catch (InvalidPaginationRequestException | UnsupportedPaginationException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), "índice não aplicado");
+        }
+    }
+}
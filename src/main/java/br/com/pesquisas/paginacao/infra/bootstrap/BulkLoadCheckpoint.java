@@ -0,0 +1,85 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Checkpoint da carga de um banco: guarda as sequências de lotes já gravadas.
+ *
+ * Como os workers terminam lotes fora de ordem, não basta uma marca d'água: o arquivo
+ * registra cada lote concluído. O cabeçalho amarra o checkpoint ao arquivo e ao tamanho
+ * de lote; se algum mudar, a numeração não bate mais e o checkpoint é descartado.
+ */
+@Slf4j
+final class BulkLoadCheckpoint implements AutoCloseable {
+
+    private final Set<Long> completed = ConcurrentHashMap.newKeySet();
+    private final BufferedWriter writer;
+
+    private BulkLoadCheckpoint(Path file, String header, boolean resume) throws IOException {
+        if (resume && Files.exists(file)) {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (!lines.isEmpty() && lines.get(0).equals(header)) {
+                lines.stream().skip(1).filter(l -> !l.isBlank()).map(Long::valueOf).forEach(completed::add);
+            } else {
+                log.warn("⚠️ Checkpoint {} não corresponde ao arquivo/lote atual; recomeçando.", file);
+                Files.delete(file);
+            }
+        } else {
+            Files.deleteIfExists(file);
+        }
+        if (!Files.exists(file)) {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, header + "\n", StandardCharsets.UTF_8);
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    static BulkLoadCheckpoint open(Path dir, DatabaseType store, Path csv, int batchSize, boolean resume) {
+        String header = "file=" + csv.toAbsolutePath().normalize() + "|batchSize=" + batchSize;
+        try {
+            return new BulkLoadCheckpoint(dir.resolve(store.key() + ".checkpoint"), header, resume);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir checkpoint de " + store.key(), e);
+        }
+    }
+
+    boolean isDone(long sequence) {
+        return completed.contains(sequence);
+    }
+
+    int completedBatches() {
+        return completed.size();
+    }
+
+    void markDone(long sequence) {
+        completed.add(sequence);
+        synchronized (writer) {
+            try {
+                writer.write(Long.toString(sequence));
+                writer.newLine();
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao gravar checkpoint", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (writer) {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+
+/**
+ * Destino da carga em massa. Cada banco recebe os mesmos lotes em uma fila própria
+ * e os grava com {@link #parallelism()} workers concorrentes.
+ *
+ * A gravação de um lote deve ser idempotente ou atômica: um lote marcado no
+ * checkpoint não é reenviado, e um lote interrompido é reenviado inteiro na retomada.
+ */
+interface BulkLoadSink {
+
+    DatabaseType store();
+
+    int parallelism();
+
+    void write(CsvBatch batch) throws Exception;
+
+    /** Chamado depois que os workers terminam, com ou sem falha. */
+    default void complete() throws Exception {
+    }
+}
@@ -0,0 +1,13 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import java.util.List;
+
+/**
+ * Lote de linhas do CSV de exames. 'sequence' identifica o lote de forma
+ * determinística (mesmo arquivo + mesmo tamanho de lote = mesma numeração),
+ * o que permite retomar a carga pelos checkpoints.
+ *
+ * @param firstLine número (base 1, sem contar o cabeçalho) da primeira linha de dados do lote
+ */
+record CsvBatch(long sequence, long firstLine, List<String> lines) {
+}
@@ -0,0 +1,63 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Linha do 'exames.csv' já convertida para tipos nativos, usada pelas cargas
+ * que não aceitam CSV direto (MongoDB e Firestore).
+ *
+ * O CSV gerado não usa aspas nem vírgulas dentro dos campos, então o split simples é suficiente.
+ */
+record CsvExamRow(
+        String id,
+        String pacienteId,
+        String nomePaciente,
+        String tipoExame,
+        String statusExame,
+        Double valorResultado,
+        Instant dataColeta,
+        Instant dataResultado,
+        String laboratorio,
+        Instant createdAt
+) {
+
+    static final String HEADER =
+            "paciente_id,nome_paciente,tipo_exame,status_exame,valor_resultado,data_coleta,data_resultado,laboratorio,created_at";
+
+    private static final int FIELDS = 9;
+
+    /**
+     * Id determinístico derivado do número da linha: recarregar o mesmo arquivo
+     * sobrescreve os mesmos documentos em vez de duplicá-los. É o mesmo texto que o
+     * PostgreSQL devolve para o id numérico da linha, então as cópias de um exame têm o
+     * mesmo id nos três bancos.
+     */
+    static String idForLine(long lineNumber) {
+        return Long.toString(lineNumber);
+    }
+
+    static CsvExamRow parse(long lineNumber, String line) {
+        String[] f = line.split(",", -1);
+        if (f.length != FIELDS) {
+            throw new IllegalArgumentException("Linha " + lineNumber + " com " + f.length + " campos (esperado " + FIELDS + ")");
+        }
+        return new CsvExamRow(
+                idForLine(lineNumber),
+                f[0],
+                f[1],
+                f[2],
+                f[3],
+                f[4].isEmpty() ? null : Double.valueOf(f[4]),
+                toInstant(f[5]),
+                toInstant(f[6]),
+                f[7],
+                toInstant(f[8])
+        );
+    }
+
+    private static Instant toInstant(String value) {
+        return value.isEmpty() ? null : LocalDateTime.parse(value).toInstant(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+/**
+ * Perfis de distribuição da massa sintética ('data.csv.profile').
+ *
+ * Com tudo uniforme, qualquer faixa de keyset tem o mesmo custo e os índices parecem
+ * igualmente seletivos; o perfil REALISTIC reproduz as assimetrias que mudam isso em produção.
+ * Cada valor pode ser sobrescrito individualmente ('data.csv.skew', 'data.csv.burstiness',
+ * 'data.csv.status-weights').
+ */
+enum DataProfile {
+
+    /** Pacientes, datas e status uniformes, como o gerador original. */
+    UNIFORM(0, 0, new double[]{1, 1, 1}),
+
+    /** Pacientes "quentes" (Zipf 1.1), coletas em rajadas e status concentrado em CONCLUIDO. */
+    REALISTIC(1.1, 0.85, new double[]{12, 85, 3});
+
+    /** Expoente de Zipf na escolha do paciente: 0 = uniforme. */
+    final double patientSkew;
+
+    /** 0 = coletas uniformes no período; 1 = totalmente guiadas por horário, dia da semana e picos. */
+    final double burstiness;
+
+    /** Pesos relativos de PENDENTE, CONCLUIDO e CANCELADO. */
+    final double[] statusWeights;
+
+    DataProfile(double patientSkew, double burstiness, double[] statusWeights) {
+        this.patientSkew = patientSkew;
+        this.burstiness = burstiness;
+        this.statusWeights = statusWeights;
+    }
+}
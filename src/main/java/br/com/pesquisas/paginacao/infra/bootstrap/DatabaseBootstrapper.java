@@ -1,9 +1,14 @@
 package br.com.pesquisas.paginacao.infra.bootstrap;
 
+import br.com.pesquisas.paginacao.adapters.out.repository.mongo.MongoCursorPaginationAdapter;
+import com.google.cloud.firestore.DocumentSnapshot;
 import com.google.cloud.firestore.Firestore;
-import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationContext;
@@ -13,27 +18,53 @@ import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+/**
+ * Cria tabela, coleção e índices dos três bancos no startup.
+ *
+ * Os bancos são preparados em paralelo (uma virtual thread cada) e a carga em massa só começa
+ * quando os três terminaram. Cada banco guarda o checksum do schema aplicado: o PostgreSQL na
+ * tabela 'schema_scripts' do {@link SqlScriptRunner} (um registro por script ou fallback), o
+ * MongoDB na coleção 'schema_bootstrap' e o Firestore no sentinel 'exames/_init'. Com o
+ * checksum igual o startup faz só essa leitura por banco e não executa DDL.
+ *
+ * Os índices são construídos sem bloquear a escrita (CREATE INDEX CONCURRENTLY no PostgreSQL,
+ * background no MongoDB): a aplicação já atende requisições enquanto um índice grande é criado.
+ */
 @Slf4j
 @Component
 public class DatabaseBootstrapper {
 
+    /** Versão do DDL dos fallbacks em código: incremente ao alterá-los para forçar a reaplicação. */
+    static final int SCHEMA_VERSION = 2;
+
+    private static final String SCHEMA_COLLECTION = "schema_bootstrap";
+
     private final Firestore firestore;
     private final MongoTemplate mongoTemplate;
     private final JdbcTemplate jdbcTemplate;
     private final ApplicationContext applicationContext; // ✅ evita ambiguidade de ResourceLoader
+    private final ObjectProvider<ExameCsvBulkLoader> bulkLoader; // só existe com 'bootstrap.bulk-load.enabled=true'
+    private final ObjectProvider<FirestoreEmulatorSeeder> emulatorSeeder; // só existe no profile 'emulator'
+    private final ObjectProvider<PostgresMonthlyPartitions> partitions; // só existe com 'bootstrap.postgres.partitioning=monthly'
+    private final SqlScriptRunner sqlScriptRunner;
 
     @Value("${bootstrap.enabled:true}")
     private boolean bootstrapEnabled;
 
+    @Value("${bootstrap.schema.skip-unchanged:true}")
+    private boolean skipUnchanged;
+
     @Value("${firestore.startup-check.enabled:true}")
     private boolean firestoreEnabled;
 
@@ -44,12 +75,20 @@ public class DatabaseBootstrapper {
             Firestore firestore,
             MongoTemplate mongoTemplate,
             JdbcTemplate jdbcTemplate,
-            ApplicationContext applicationContext
+            ApplicationContext applicationContext,
+            ObjectProvider<ExameCsvBulkLoader> bulkLoader,
+            ObjectProvider<FirestoreEmulatorSeeder> emulatorSeeder,
+            ObjectProvider<PostgresMonthlyPartitions> partitions,
+            SqlScriptRunner sqlScriptRunner
     ) {
         this.firestore = firestore;
         this.mongoTemplate = mongoTemplate;
         this.jdbcTemplate = jdbcTemplate;
         this.applicationContext = applicationContext;
+        this.bulkLoader = bulkLoader;
+        this.emulatorSeeder = emulatorSeeder;
+        this.partitions = partitions;
+        this.sqlScriptRunner = sqlScriptRunner;
     }
 
     @EventListener(ApplicationReadyEvent.class)
@@ -60,145 +99,235 @@ public class DatabaseBootstrapper {
         }
 
         log.info("🚀 Iniciando bootstrap de bancos...");
-        runScriptsOrFallback();
+        long start = System.nanoTime();
+        log.info("📜 Verificando scripts externos em {}", scriptsPath);
+        // cada banco espera só pela própria rede: um por virtual thread, a carga começa depois dos três
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(() -> timed("PostgreSQL", this::bootstrapPostgres), executor),
+                    CompletableFuture.runAsync(() -> timed("MongoDB", this::bootstrapMongo), executor),
+                    CompletableFuture.runAsync(() -> timed("Firestore", this::bootstrapFirestore), executor)
+            ).join();
+        }
+        log.info("⏱️ Schema dos bancos verificado em {} ms", (System.nanoTime() - start) / 1_000_000);
+        bulkLoader.ifAvailable(ExameCsvBulkLoader::load);
         log.info("✨ Bootstrap concluído!");
     }
 
-    private void runScriptsOrFallback() {
-        log.info("📜 Verificando scripts externos em {}", scriptsPath);
-
-        executeSqlScript("create_tables.sql", this::initPostgres);
-        executeSqlScript("create_indexes.sql", this::initPostgresIndexes);
-        executeMongoScript("mongo-init.js", this::initMongo);
-        executeFirestoreJson("firestore.indexes.json", this::initFirestore);
+    @FunctionalInterface
+    private interface StoreBootstrap {
+        void run() throws Exception;
     }
 
-    // ======================= POSTGRES =======================
-    private void initPostgres() {
+    private void timed(String store, StoreBootstrap bootstrap) {
+        long start = System.nanoTime();
         try {
-            log.info("🧩 Criando tabela 'exames' no PostgreSQL (fallback)...");
-            // language=PostgreSQL
-            jdbcTemplate.execute("""
-                CREATE TABLE IF NOT EXISTS exames (
-                    id SERIAL PRIMARY KEY,
-                    paciente_id VARCHAR(50),
-                    nome_paciente VARCHAR(120),
-                    tipo_exame VARCHAR(100),
-                    status_exame VARCHAR(40),
-                    valor_resultado NUMERIC(10,2),
-                    data_coleta TIMESTAMP,
-                    data_resultado TIMESTAMP,
-                    laboratorio VARCHAR(100),
-                    observacao TEXT,
-                    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-                )
-            """);
-            log.info("✅ Tabela criada/verificada no PostgreSQL.");
+            bootstrap.run();
+            log.info("✅ Bootstrap do {} em {} ms", store, (System.nanoTime() - start) / 1_000_000);
         } catch (Exception e) {
-            log.error("❌ Erro ao criar tabela no PostgreSQL: {}", e.getMessage(), e);
+            log.error("❌ Bootstrap do {} falhou: {}", store, e.getMessage(), e);
         }
     }
 
-    private void initPostgresIndexes() {
-        try {
-            log.info("🔧 Criando índices no PostgreSQL (fallback)...");
-            // language=PostgreSQL
-            jdbcTemplate.execute("""
-                CREATE INDEX IF NOT EXISTS idx_paciente_data
-                ON exames (paciente_id, data_coleta DESC)
-            """);
-            // language=PostgreSQL
-            jdbcTemplate.execute("""
-                CREATE INDEX IF NOT EXISTS idx_status_resultado
-                ON exames (status_exame, data_resultado DESC)
-            """);
-            // language=PostgreSQL
-            jdbcTemplate.execute("""
-                CREATE INDEX IF NOT EXISTS idx_created_at
-                ON exames (created_at DESC)
-            """);
-            log.info("✅ Índices PostgreSQL criados/verificados.");
-        } catch (Exception e) {
-            log.error("❌ Erro ao criar índices no PostgreSQL: {}", e.getMessage(), e);
+    // ======================= POSTGRES =======================
+    private void bootstrapPostgres() {
+        PostgresMonthlyPartitions monthly = partitions.getIfAvailable();
+        String tablesScript = monthly != null ? "create_tables_partitioned.sql" : "create_tables.sql";
+        // cada script é pulado pelo próprio checksum em 'schema_scripts'
+        executeSqlScript(tablesScript, true, monthly != null ? this::initPostgresPartitioned : this::initPostgres);
+        // o pai particionado não aceita CONCURRENTLY; o índice criado nele gera os das partições
+        boolean partitioned = partitionedTable();
+        executeSqlScript("create_indexes.sql", !partitioned, () -> initPostgresIndexes(partitioned));
+        if (monthly != null) {
+            // não é DDL fixo: os meses da janela mudam com a data
+            monthly.createInitialPartitions();
         }
     }
 
-    // ======================= MONGODB ========================
-    private void initMongo() {
-        try {
-            MongoDatabase db = mongoTemplate.getDb();
+    private void initPostgres() {
+        log.info("🧩 Criando tabela 'exames' no PostgreSQL (fallback)...");
+        // language=PostgreSQL
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS exames (
+                id SERIAL PRIMARY KEY,
+                paciente_id VARCHAR(50),
+                nome_paciente VARCHAR(120),
+                tipo_exame VARCHAR(100),
+                status_exame VARCHAR(40),
+                valor_resultado NUMERIC(10,2),
+                data_coleta TIMESTAMP,
+                data_resultado TIMESTAMP,
+                laboratorio VARCHAR(100),
+                observacao TEXT,
+                created_at TIMESTAMP DEFAULT (now() AT TIME ZONE 'UTC')
+            )
+        """);
+        log.info("✅ Tabela criada/verificada no PostgreSQL.");
+    }
 
-            log.info("🧩 Garantindo coleção e índices no MongoDB (fallback)...");
-            var collections = db.listCollectionNames().into(new java.util.ArrayList<>());
-            if (!collections.contains("exames")) {
-                db.createCollection("exames");
-                log.info("✅ Coleção 'exames' criada.");
-            }
+    private void initPostgresPartitioned() {
+        log.info("🧩 Criando tabela 'exames' particionada por mês no PostgreSQL (fallback)...");
+        // language=PostgreSQL
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS exames (
+                id SERIAL,
+                paciente_id VARCHAR(50),
+                nome_paciente VARCHAR(120),
+                tipo_exame VARCHAR(100),
+                status_exame VARCHAR(40),
+                valor_resultado NUMERIC(10,2),
+                data_coleta TIMESTAMP NOT NULL,
+                data_resultado TIMESTAMP,
+                laboratorio VARCHAR(100),
+                observacao TEXT,
+                created_at TIMESTAMP DEFAULT (now() AT TIME ZONE 'UTC'),
+                PRIMARY KEY (id, data_coleta)
+            ) PARTITION BY RANGE (data_coleta)
+        """);
+        // language=PostgreSQL
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS exames_default PARTITION OF exames DEFAULT");
+        log.info("✅ Tabela particionada criada/verificada no PostgreSQL.");
+    }
 
-            // índices programáticos (equivalente ao mongo-init.js)
-            db.runCommand(new Document("createIndexes", "exames")
-                    .append("indexes", List.of(
-                            new Document("key", new Document("paciente_id", Optional.of(1))
-                                    .append("data_coleta", Optional.of(-1)))
-                                    .append("name", "idx_paciente_data"),
-                            new Document("key", new Document("status_exame", Optional.of(1))
-                                    .append("data_resultado", Optional.of(-1)))
-                                    .append("name", "idx_status_resultado"),
-                            new Document("key", new Document("created_at", Optional.of(-1)))
-                                    .append("name", "idx_created_at")
-                    )));
-            log.info("✅ Índices MongoDB aplicados.");
-        } catch (Exception e) {
-            log.error("❌ Erro ao inicializar MongoDB: {}", e.getMessage(), e);
+    private void initPostgresIndexes(boolean partitioned) {
+        log.info("🔧 Criando índices no PostgreSQL (fallback)...");
+        String create = partitioned ? "CREATE INDEX IF NOT EXISTS " : "CREATE INDEX CONCURRENTLY IF NOT EXISTS ";
+        jdbcTemplate.execute(create + "idx_paciente_data ON exames (paciente_id, data_coleta DESC)");
+        jdbcTemplate.execute(create + "idx_status_resultado ON exames (status_exame, data_resultado DESC)");
+        jdbcTemplate.execute(create + "idx_created_at ON exames (created_at DESC)");
+        jdbcTemplate.execute(create + "idx_created_at_id ON exames (created_at DESC, id DESC)");
+        jdbcTemplate.execute(create + "idx_data_coleta_id ON exames (data_coleta DESC, id DESC)");
+        jdbcTemplate.execute(create + "idx_data_resultado_id ON exames (data_resultado DESC, id DESC)");
+        log.info("✅ Índices PostgreSQL criados/verificados.");
+    }
+
+    private boolean partitionedTable() {
+        // language=PostgreSQL
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('exames'))", Boolean.class));
+    }
+
+    // ======================= MONGODB ========================
+    private void bootstrapMongo() {
+        List<Document> indexes = mongoIndexes();
+        String checksum = checksum("mongo", indexes.stream().map(Document::toJson).toList().toString());
+        MongoCollection<Document> schema = mongoTemplate.getDb().getCollection(SCHEMA_COLLECTION);
+
+        Document applied = schema.find(Filters.eq("_id", "mongo")).first();
+        if (skipUnchanged && applied != null && checksum.equals(applied.getString("checksum"))) {
+            log.info("⏩ Schema do MongoDB inalterado ({}), índices ignorados.", checksum.substring(0, 12));
+            return;
+        }
+        if (executeMongoScript("mongo-init.js", () -> initMongo(indexes))) {
+            schema.replaceOne(Filters.eq("_id", "mongo"),
+                    new Document("_id", "mongo").append("checksum", checksum).append("appliedAt", Instant.now()),
+                    new ReplaceOptions().upsert(true));
         }
     }
 
+    private void initMongo(List<Document> indexes) {
+        log.info("🧩 Garantindo coleção e índices no MongoDB (fallback)...");
+        // createIndexes cria a coleção se ela não existir: sem listar as coleções do banco
+        mongoTemplate.getDb().runCommand(new Document("createIndexes", "exames").append("indexes", indexes));
+        log.info("✅ Índices MongoDB aplicados.");
+    }
+
+    /**
+     * Índices programáticos (equivalente ao mongo-init.js). 'background' só vale antes do
+     * MongoDB 4.2; a partir dele toda construção bloqueia a coleção apenas no início e no fim.
+     */
+    private static List<Document> mongoIndexes() {
+        return List.of(
+                new Document("key", new Document("paciente_id", 1)
+                        .append("data_coleta", -1))
+                        .append("name", "idx_paciente_data"),
+                new Document("key", new Document("status_exame", 1)
+                        .append("data_resultado", -1))
+                        .append("name", "idx_status_resultado"),
+                new Document("key", new Document("created_at", -1))
+                        .append("name", "idx_created_at"),
+                new Document("key", new Document("created_at", -1)
+                        .append("_id", -1))
+                        .append("name", "idx_created_at_id"),
+                new Document("key", MongoCursorPaginationAdapter.coverIndexKeys())
+                        .append("name", MongoCursorPaginationAdapter.IDX_COVER),
+                new Document("key", MongoCursorPaginationAdapter.pacienteIndexKeys())
+                        .append("name", MongoCursorPaginationAdapter.IDX_PACIENTE)
+        ).stream().map(index -> index.append("background", true)).toList();
+    }
+
     // ======================= FIRESTORE ======================
-    private void initFirestore() {
+    private void bootstrapFirestore() throws Exception {
         if (!firestoreEnabled) {
             log.info("⚠️ Firestore desabilitado via 'firestore.startup-check.enabled=false'");
             return;
         }
+        String checksum = checksum("firestore.indexes.json", scriptChecksum("firestore.indexes.json"));
+        if (skipUnchanged) {
+            DocumentSnapshot sentinel = firestore.collection("exames").document("_init").get().get();
+            if (checksum.equals(sentinel.getString("schemaChecksum"))) {
+                log.info("⏩ Firestore já inicializado ({}), sentinel mantido.", checksum.substring(0, 12));
+                return;
+            }
+        }
+        executeFirestoreJson("firestore.indexes.json", () -> initFirestore(checksum));
+    }
+
+    private void initFirestore(String checksum) {
         try {
-            log.info("🧩 Criando documento sentinel no Firestore...");
+            FirestoreEmulatorSeeder seeder = emulatorSeeder.getIfAvailable();
+            if (seeder != null) {
+                seeder.seedIfEmpty();
+            } else {
+                log.info("ℹ️ Índices Firestore: use 'scripts/firestore.indexes.json' com gcloud CLI.");
+            }
+            // sentinel por último: com o checksum gravado o próximo startup não repete o seed
+            log.info("🧩 Gravando documento sentinel no Firestore...");
             firestore.collection("exames")
                     .document("_init")
-                    .set(Map.of("initializedAt", Instant.now()))
+                    .set(Map.of("initializedAt", Instant.now(), "schemaChecksum", checksum))
                     .get();
             log.info("✅ Firestore acessível e coleção inicializada.");
-            log.info("ℹ️ Índices Firestore: use 'scripts/firestore.indexes.json' com gcloud CLI.");
         } catch (Exception e) {
-            log.error("❌ Falha ao inicializar Firestore: {}", e.getMessage(), e);
+            throw new IllegalStateException("Falha ao inicializar Firestore: " + e.getMessage(), e);
         }
     }
 
     // ======================= EXECUTORES DE SCRIPTS =======================
-    private void executeSqlScript(String fileName, Runnable fallback) {
+    private String scriptChecksum(String fileName) {
+        return SqlScriptRunner.checksum(applicationContext.getResource(scriptsPath + fileName));
+    }
+
+    /** SHA-256 de {@link #SCHEMA_VERSION} e dos pares nome/checksum do arquivo ("fallback" = DDL em código). */
+    private static String checksum(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(Integer.toString(SCHEMA_VERSION).getBytes(StandardCharsets.UTF_8));
+            for (String part : parts) {
+                digest.update((byte) 0);
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Executa o script pelo {@link SqlScriptRunner} (ou o fallback se ele não existe); ambos ficam no registro dele. */
+    private void executeSqlScript(String fileName, boolean concurrentIndexes, Runnable fallback) {
         try {
             Resource resource = applicationContext.getResource(scriptsPath + fileName);
             if (resource.exists()) {
-                log.info("📜 Executando script SQL: {}", fileName);
-                String sql = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))
-                        .lines().collect(Collectors.joining("\n"));
-                // divide por ';' e executa cada statement
-                for (String statement : sql.split(";")) {
-                    if (!statement.isBlank()) {
-                        // language=PostgreSQL
-                        jdbcTemplate.execute(statement);
-                    }
-                }
-
-                log.info("✅ Script '{}' executado com sucesso.", fileName);
+                sqlScriptRunner.run(fileName, resource, concurrentIndexes);
             } else {
-                log.info("⏭️ Script '{}' não encontrado, usando fallback.", fileName);
-                if (fallback != null) fallback.run();
+                sqlScriptRunner.runFallback(fileName, SCHEMA_VERSION, concurrentIndexes, fallback);
             }
         } catch (Exception e) {
             log.error("❌ Erro ao executar script '{}': {}", fileName, e.getMessage(), e);
         }
     }
 
-    private void executeMongoScript(String fileName, Runnable fallback) {
+    private boolean executeMongoScript(String fileName, Runnable fallback) {
         try {
             Resource resource = applicationContext.getResource(scriptsPath + fileName);
             if (resource.exists()) {
@@ -212,15 +341,20 @@ public class DatabaseBootstrapper {
                 log.info("⏭️ Script '{}' não encontrado, usando fallback.", fileName);
                 if (fallback != null) fallback.run();
             }
+            return true;
         } catch (Exception e) {
             log.error("❌ Erro ao processar script Mongo '{}': {}", fileName, e.getMessage(), e);
+            return false;
         }
     }
 
     private void executeFirestoreJson(String fileName, Runnable fallback) {
         try {
             Resource resource = applicationContext.getResource(scriptsPath + fileName);
-            if (resource.exists()) {
+            if (resource.exists() && emulatorSeeder.getIfAvailable() != null) {
+                // o emulador atende qualquer consulta sem índice composto; a cobertura do arquivo é conferida no startup
+                log.info("📜 '{}' detectado. Emulador não exige índices compostos (conferidos pelo FirestoreStartupVerifier).", fileName);
+            } else if (resource.exists()) {
                 log.info("📜 '{}' detectado. Aplique os índices via CLI:", fileName);
                 log.info("   gcloud firestore indexes composite create --file=scripts/{}", fileName);
             } else {
@@ -0,0 +1,258 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamsWrittenEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Carga em massa do 'exames.csv' nos bancos configurados.
+ *
+ * O arquivo é lido uma única vez, em streaming, e cada lote é entregue à fila de cada
+ * banco. As filas são limitadas: um banco lento bloqueia o leitor (backpressure) em vez
+ * de acumular o arquivo em memória. Cada banco grava com seus próprios workers e mantém
+ * um checkpoint por lote, então uma carga interrompida retoma de onde parou.
+ *
+ * Ativado com 'bootstrap.bulk-load.enabled=true'; executado pelo {@link DatabaseBootstrapper}
+ * depois da criação do schema.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bootstrap.bulk-load.enabled", havingValue = "true")
+public class ExameCsvBulkLoader {
+
+    private static final CsvBatch END = new CsvBatch(-1, -1, List.of());
+
+    private final List<BulkLoadSink> sinks;
+    private final ApplicationEventPublisher events;
+
+    @Value("${bootstrap.bulk-load.file:src/main/resources/data/exames.csv}")
+    private Path csvFile;
+
+    @Value("${bootstrap.bulk-load.stores:postgres,mongo,firestore}")
+    private Set<String> stores;
+
+    @Value("${bootstrap.bulk-load.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${bootstrap.bulk-load.queue-capacity:4}")
+    private int queueCapacity;
+
+    @Value("${bootstrap.bulk-load.checkpoint-dir:target/bulk-load}")
+    private Path checkpointDir;
+
+    @Value("${bootstrap.bulk-load.resume:true}")
+    private boolean resume;
+
+    @Value("${bootstrap.bulk-load.max-retries:3}")
+    private int maxRetries;
+
+    ExameCsvBulkLoader(List<BulkLoadSink> sinks, ApplicationEventPublisher events) {
+        this.sinks = sinks;
+        this.events = events;
+    }
+
+    /** Estado da carga de um banco: fila, checkpoint, workers e contadores. */
+    private final class StoreLoad {
+        final BulkLoadSink sink;
+        final BlockingQueue<CsvBatch> queue = new ArrayBlockingQueue<>(queueCapacity);
+        final BulkLoadCheckpoint checkpoint;
+        final List<Thread> workers = new ArrayList<>();
+        final AtomicLong rows = new AtomicLong();
+        volatile Throwable failure;
+
+        StoreLoad(BulkLoadSink sink) {
+            this.sink = sink;
+            this.checkpoint = BulkLoadCheckpoint.open(checkpointDir, sink.store(), csvFile, batchSize, resume);
+        }
+
+        void start() {
+            for (int i = 0; i < sink.parallelism(); i++) {
+                Thread worker = Thread.ofPlatform()
+                        .name("bulk-load-" + sink.store().key() + "-" + i)
+                        .start(this::drain);
+                workers.add(worker);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (CsvBatch batch = queue.take(); batch != END; batch = queue.take()) {
+                    if (failure == null && !checkpoint.isDone(batch.sequence())) {
+                        writeWithRetry(batch);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void writeWithRetry(CsvBatch batch) throws InterruptedException {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    sink.write(batch);
+                    checkpoint.markDone(batch.sequence());
+                    rows.addAndGet(batch.lines().size());
+                    return;
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    if (attempt > maxRetries) {
+                        failure = e;
+                        log.error("❌ Carga {} falhou no lote {} (linha {}): {}",
+                                sink.store().key(), batch.sequence(), batch.firstLine(), e.getMessage(), e);
+                        return;
+                    }
+                    log.warn("⚠️ Lote {} de {} falhou (tentativa {}/{}): {}",
+                            batch.sequence(), sink.store().key(), attempt, maxRetries, e.getMessage());
+                    Thread.sleep(200L * attempt);
+                }
+            }
+        }
+
+        /**
+         * Encerra os workers, finaliza o banco e fecha o checkpoint. Roda também quando a
+         * leitura abortou ('abort' != null): os lotes ainda na fila são descartados e os
+         * workers, que não são daemon, recebem END do mesmo jeito.
+         */
+        void finish(Throwable abort) {
+            // a espera pelos workers não pode ser cortada por uma interrupção do leitor
+            boolean interrupted = Thread.interrupted();
+            try {
+                if (abort != null) {
+                    queue.clear();
+                    if (failure == null) {
+                        failure = abort;
+                    }
+                }
+                for (int i = 0; i < workers.size(); i++) {
+                    queue.put(END);
+                }
+                for (Thread worker : workers) {
+                    worker.join();
+                }
+                sink.complete();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (Exception e) {
+                log.warn("⚠️ Finalização da carga {} falhou: {}", sink.store().key(), e.getMessage());
+            } finally {
+                try {
+                    checkpoint.close();
+                } catch (IOException e) {
+                    log.warn("⚠️ Checkpoint da carga {} não foi fechado: {}", sink.store().key(), e.getMessage());
+                }
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    public void load() {
+        if (!Files.exists(csvFile)) {
+            log.warn("⏭️ Carga em massa ignorada: arquivo {} não encontrado.", csvFile);
+            return;
+        }
+        List<StoreLoad> loads = sinks.stream()
+                .filter(sink -> stores.contains(sink.store().key()))
+                .map(StoreLoad::new)
+                .toList();
+        if (loads.isEmpty()) {
+            log.warn("⏭️ Carga em massa sem bancos selecionados (bootstrap.bulk-load.stores={}).", stores);
+            return;
+        }
+
+        log.info("🚚 Carga em massa de {} para {} (lote={}, fila={})", csvFile,
+                loads.stream().map(l -> l.sink.store().key() + "×" + l.sink.parallelism()).collect(Collectors.joining(", ")),
+                batchSize, queueCapacity);
+        long start = System.nanoTime();
+        loads.forEach(StoreLoad::start);
+
+        long lines = 0;
+        Throwable abort = null;
+        try {
+            lines = readAndDispatch(loads);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort = e;
+            log.error("❌ Carga em massa interrompida.");
+        } catch (IOException | RuntimeException e) {
+            abort = e;
+            log.error("❌ Erro lendo {}: {}", csvFile, e.getMessage(), e);
+        } finally {
+            for (StoreLoad load : loads) {
+                load.finish(abort);
+            }
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        for (StoreLoad load : loads) {
+            DatabaseType store = load.sink.store();
+            long rows = load.rows.get();
+            if (rows > 0) {
+                events.publishEvent(new ExamsWrittenEvent(store, null));
+            }
+            if (load.failure != null) {
+                log.error("❌ {}: carga incompleta ({} linhas gravadas nesta execução). Rode de novo para retomar.", store.key(), rows);
+            } else {
+                log.info("✅ {}: {} linhas gravadas nesta execução ({} lotes no checkpoint), {} linhas/s",
+                        store.key(), rows, load.checkpoint.completedBatches(),
+                        rows * 1000 / Math.max(elapsed.toMillis(), 1));
+            }
+        }
+        log.info("✨ Carga em massa concluída: {} linhas lidas em {} s.", lines, elapsed.toSeconds());
+    }
+
+    private long readAndDispatch(List<StoreLoad> loads) throws IOException, InterruptedException {
+        long lineNumber = 0;
+        long sequence = 0;
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (!CsvExamRow.HEADER.equals(header)) {
+                throw new IOException("Cabeçalho inesperado em " + csvFile + ": " + header);
+            }
+            List<String> lines = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) continue;
+                lines.add(line);
+                lineNumber++;
+                if (lines.size() == batchSize) {
+                    dispatch(loads, new CsvBatch(sequence++, lineNumber - lines.size() + 1, lines));
+                    lines = new ArrayList<>(batchSize);
+                }
+            }
+            if (!lines.isEmpty()) {
+                dispatch(loads, new CsvBatch(sequence, lineNumber - lines.size() + 1, lines));
+            }
+        }
+        return lineNumber;
+    }
+
+    private static void dispatch(List<StoreLoad> loads, CsvBatch batch) throws InterruptedException {
+        for (StoreLoad load : loads) {
+            // lotes já no checkpoint nem entram na fila: a retomada só relê o arquivo
+            if (load.failure == null && !load.checkpoint.isDone(batch.sequence())) {
+                load.queue.put(batch);
+            }
+        }
+    }
+}
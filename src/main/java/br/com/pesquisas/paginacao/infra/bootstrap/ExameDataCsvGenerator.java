@@ -1,22 +1,38 @@
 package br.com.pesquisas.paginacao.infra.bootstrap;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import java.io.FileWriter;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Gera um arquivo CSV com dados de exames simulados.
  * Ativado apenas se 'data.csv.generate=true' em application.properties.
+ *
+ * A massa é dividida em partições, cada uma com seu próprio gerador aleatório (derivado de
+ * 'data.csv.seed', então a mesma configuração gera sempre os mesmos dados), geradas em paralelo
+ * e escritas por um buffer de bytes reaproveitado direto no {@link FileChannel}: nenhuma String,
+ * data ou BigDecimal é criado por linha. No fim as partições são concatenadas com transferTo.
+ * A forma da distribuição vem do {@link DataProfile}.
  */
 @Slf4j
 @Component
@@ -28,88 +44,131 @@ import java.util.concurrent.ThreadLocalRandom;
 )
 public class ExameDataCsvGenerator implements CommandLineRunner {
 
-    private static final int TOTAL_REGISTROS = 500_000;
-    private static final int TOTAL_PACIENTES = 1_000;
+    private static final int BUFFER_BYTES = 1 << 20;
+    private static final long PROGRESS_EVERY = 5_000_000;
 
-    private static final List<String> TIPOS_EXAME = List.of("Glicose", "Colesterol", "Hemograma", "Creatinina", "Triglicerídeos");
-    private static final List<String> STATUS_EXAME = List.of("PENDENTE", "CONCLUIDO", "CANCELADO");
-    private static final List<String> LABORATORIOS = List.of("Laboratório Dasa", "Laboratório Fleury", "Laboratório São Lucas", "Lab Anhembi", "Lab Paulista");
-    private static final List<String> NOMES_PACIENTES = List.of(
-            "João Silva", "Maria Oliveira", "Carlos Souza", "Ana Paula", "Fernanda Lima",
-            "Paulo Mendes", "Juliana Rocha", "Eduardo Alves", "Camila Costa", "Felipe Martins"
-    );
+    private final SyntheticExamSettings settings;
+
+    @Value("${data.csv.file:src/main/resources/data/exames.csv}")
+    private Path file;
+
+    @Value("${data.csv.threads:0}")
+    private int threads;
+
+    /** false = mantém as partições (cada uma com cabeçalho) em vez de concatenar em 'data.csv.file'. */
+    @Value("${data.csv.merge:true}")
+    private boolean merge;
+
+    ExameDataCsvGenerator(SyntheticExamSettings settings) {
+        this.settings = settings;
+    }
 
     @Override
     public void run(String... args) {
-        String filePath = "src/main/resources/data/exames.csv";
-        log.info("📄 Iniciando geração do arquivo CSV de exames ({} registros)...", TOTAL_REGISTROS);
-
-        try (FileWriter writer = new FileWriter(filePath)) {
-            writer.append("paciente_id,nome_paciente,tipo_exame,status_exame,valor_resultado,data_coleta,data_resultado,laboratorio,created_at\n");
-
-            ThreadLocalRandom random = ThreadLocalRandom.current();
-            List<String> pacientesFixos = gerarPacientesFixos();
-
-            for (int i = 0; i < TOTAL_REGISTROS; i++) {
-                String pacienteId = pacientesFixos.get(random.nextInt(pacientesFixos.size()));
-                String nome = NOMES_PACIENTES.get(random.nextInt(NOMES_PACIENTES.size()));
-                String tipo = TIPOS_EXAME.get(random.nextInt(TIPOS_EXAME.size()));
-                String status = STATUS_EXAME.get(random.nextInt(STATUS_EXAME.size()));
-                String lab = LABORATORIOS.get(random.nextInt(LABORATORIOS.size()));
-
-                LocalDateTime dataColeta = randomDateInLastMonths(6);
-                LocalDateTime dataResultado = dataColeta.plusDays(random.nextInt(1, 4));
-                BigDecimal valor = gerarValorPorTipo(tipo, random);
-
-                writer.append(String.join(",",
-                        pacienteId,
-                        nome,
-                        tipo,
-                        status,
-                        String.valueOf(valor),
-                        dataColeta.toString(),
-                        dataResultado.toString(),
-                        lab,
-                        dataResultado.toString()
-                )).append("\n");
-
-                if (i > 0 && i % 50_000 == 0) {
-                    writer.flush(); // 🔥 força a escrita no disco
-                    log.info("🧩 Gerados {} registros...", i);
-                }
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        long rows = settings.rows();
+
+        log.info("📄 Iniciando geração do arquivo CSV de exames ({} registros, {}, {} partições em {} threads)...",
+                rows, settings.describe(), settings.partitions(), workers);
+        long start = System.nanoTime();
+
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            SyntheticExamDataset dataset = settings.dataset();
+            List<Path> files = generatePartitions(dataset, workers);
+            if (merge) {
+                mergeInto(file, files);
             }
-            writer.flush(); // 🔥 garante o flush final antes do close
-
-            log.info("✅ Arquivo CSV gerado com sucesso em: {}", filePath);
 
-        } catch (IOException e) {
+            long elapsedMs = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+            log.info("✅ Arquivo CSV gerado com sucesso em: {} ({} registros em {} ms, {} linhas/s)",
+                    merge ? file : file.resolveSibling(partitionName(0)) + " (+ partições)", rows, elapsedMs, rows * 1000 / elapsedMs);
+        } catch (IOException | UncheckedIOException e) {
             log.error("❌ Erro ao gerar CSV: {}", e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("❌ Geração do CSV interrompida.");
         }
     }
 
-    private List<String> gerarPacientesFixos() {
-        return java.util.stream.IntStream.range(0, TOTAL_PACIENTES)
-                .mapToObj(i -> UUID.randomUUID().toString().substring(0, 8))
-                .toList();
+    private List<Path> generatePartitions(SyntheticExamDataset dataset, int workers) throws InterruptedException, IOException {
+        AtomicLong generated = new AtomicLong();
+        SplittableRandom root = settings.rootRandom();
+        int partitions = settings.partitions();
+        List<Future<Path>> futures = new ArrayList<>(partitions);
+
+        try (ExecutorService pool = Executors.newFixedThreadPool(workers)) {
+            for (int p = 0; p < partitions; p++) {
+                long count = settings.partitionRows(p);
+                // split() no laço, na ordem das partições: a sequência de cada partição não depende do agendamento
+                SplittableRandom random = root.split();
+                Path target = merge ? file.resolveSibling(partitionName(p) + ".tmp") : file.resolveSibling(partitionName(p));
+                futures.add(pool.submit(() -> writePartition(target, dataset, random, count, generated)));
+            }
+        }
+
+        List<Path> files = new ArrayList<>(futures.size());
+        for (Future<Path> future : futures) {
+            try {
+                files.add(future.get());
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+            }
+        }
+        return files;
     }
 
-    private LocalDateTime randomDateInLastMonths(int months) {
-        var now = LocalDateTime.now();
-        var start = now.minusMonths(months);
-        long startEpoch = start.toEpochSecond(java.time.ZoneOffset.UTC);
-        long endEpoch = now.toEpochSecond(java.time.ZoneOffset.UTC);
-        long randomEpoch = ThreadLocalRandom.current().nextLong(startEpoch, endEpoch);
-        return LocalDateTime.ofEpochSecond(randomEpoch, 0, java.time.ZoneOffset.UTC);
+    private String partitionName(int partition) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return String.format("%s-%03d.csv", base, partition);
     }
 
-    private BigDecimal gerarValorPorTipo(String tipo, ThreadLocalRandom random) {
-        return switch (tipo.toLowerCase()) {
-            case "glicose" -> BigDecimal.valueOf(70 + random.nextDouble() * 90);
-            case "colesterol" -> BigDecimal.valueOf(120 + random.nextDouble() * 100);
-            case "hemograma" -> BigDecimal.valueOf(4 + random.nextDouble() * 3);
-            case "creatinina" -> BigDecimal.valueOf(0.5 + random.nextDouble() * 1.5);
-            case "triglicerídeos" -> BigDecimal.valueOf(50 + random.nextDouble() * 200);
-            default -> BigDecimal.valueOf(random.nextDouble() * 100);
-        };
+    private Path writePartition(Path target, SyntheticExamDataset dataset, SplittableRandom random, long count, AtomicLong generated)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+        try (FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            if (!merge) {
+                buffer.put(CsvExamRow.HEADER.getBytes(StandardCharsets.UTF_8)).put((byte) '\n');
+            }
+            for (long i = 0; i < count; i++) {
+                if (buffer.remaining() < SyntheticExamDataset.MAX_ROW_BYTES) {
+                    drain(buffer, channel);
+                }
+                dataset.writeRow(buffer, random);
+                long total = generated.incrementAndGet();
+                if (total % PROGRESS_EVERY == 0) {
+                    log.info("🧩 Gerados {} registros...", total);
+                }
+            }
+            drain(buffer, channel);
+        }
+        return target;
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void mergeInto(Path target, List<Path> files) throws IOException {
+        try (FileChannel out = FileChannel.open(target,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            out.write(ByteBuffer.wrap((CsvExamRow.HEADER + "\n").getBytes(StandardCharsets.UTF_8)));
+            for (Path partition : files) {
+                try (FileChannel in = FileChannel.open(partition, StandardOpenOption.READ)) {
+                    long size = in.size();
+                    for (long pos = 0; pos < size; ) {
+                        pos += in.transferTo(pos, size - pos, out);
+                    }
+                }
+                Files.delete(partition);
+            }
+        }
     }
 }
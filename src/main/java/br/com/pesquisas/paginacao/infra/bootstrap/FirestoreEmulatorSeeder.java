@@ -0,0 +1,81 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamsWrittenEvent;
+import com.google.cloud.firestore.BulkWriter;
+import com.google.cloud.firestore.BulkWriterOptions;
+import com.google.cloud.firestore.CollectionReference;
+import com.google.cloud.firestore.Firestore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * Popula o emulador do Firestore, que guarda tudo em memória e volta vazio a cada restart.
+ *
+ * Gera as linhas como o {@link ExameDataCsvGenerator}: mesma configuração 'data.csv.*'
+ * ({@link SyntheticExamSettings}, inclusive sobrescritas do perfil e fim do período) e mesmas
+ * partições, cada uma com seu split() do gerador raiz, percorridas na ordem do arquivo.
+ * Com os ids por linha da carga em massa, os 'seed-rows' documentos são os mesmos que a carga
+ * das primeiras 'seed-rows' linhas do CSV gerado com a mesma configuração (e no mesmo dia,
+ * fora do modo reproduzível).
+ */
+@Slf4j
+@Component
+@Profile("emulator")
+@RequiredArgsConstructor
+class FirestoreEmulatorSeeder {
+
+    private final Firestore firestore;
+    private final ApplicationEventPublisher events;
+    private final SyntheticExamSettings settings;
+
+    @Value("${firestore.emulator.seed-rows:50000}")
+    private long seedRows;
+
+    void seedIfEmpty() throws Exception {
+        CollectionReference exames = firestore.collection("exames");
+        if (seedRows <= 0) {
+            log.info("⚙️ Seed do emulador Firestore desabilitado ('firestore.emulator.seed-rows=0').");
+            return;
+        }
+        // orderBy em created_at ignora o sentinel '_init'
+        if (!exames.orderBy("created_at").limit(1).get().get().isEmpty()) {
+            log.info("⏭️ Emulador Firestore já possui exames, seed ignorado.");
+            return;
+        }
+
+        long rows = Math.min(seedRows, settings.rows());
+        log.info("🌱 Populando emulador Firestore com {} exames ({})...", rows, settings.describe());
+        long start = System.nanoTime();
+        SyntheticExamDataset dataset = settings.dataset();
+        SplittableRandom root = settings.rootRandom();
+        ByteBuffer row = ByteBuffer.allocate(SyntheticExamDataset.MAX_ROW_BYTES);
+
+        // emulador: sem ramp-up 500/50/5
+        try (BulkWriter writer = firestore.bulkWriter(BulkWriterOptions.builder().setThrottlingEnabled(false).build())) {
+            long line = 1;
+            for (int p = 0; p < settings.partitions() && line <= rows; p++) {
+                SplittableRandom random = root.split();
+                long count = settings.partitionRows(p);
+                for (long i = 0; i < count && line <= rows; i++, line++) {
+                    row.clear();
+                    dataset.writeRow(row, random);
+                    String csv = new String(row.array(), 0, row.position() - 1, StandardCharsets.UTF_8);
+                    CsvExamRow exam = CsvExamRow.parse(line, csv);
+                    writer.set(exames.document(exam.id()), FirestoreBulkLoadSink.toFields(exam));
+                }
+            }
+            writer.flush().get();
+        }
+        events.publishEvent(new ExamsWrittenEvent(DatabaseType.FIRESTORE, null));
+        log.info("✅ Emulador Firestore populado em {} ms.", (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertManyOptions;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Carga no MongoDB com insertMany não ordenado: o servidor aplica o lote sem
+ * parar no primeiro erro. Os ids são derivados da linha do CSV, então ao retomar um
+ * lote interrompido as chaves duplicadas (E11000) são esperadas e ignoradas.
+ */
+@Component
+@ConditionalOnProperty(name = "bootstrap.bulk-load.enabled", havingValue = "true")
+class MongoBulkLoadSink implements BulkLoadSink {
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final InsertManyOptions UNORDERED = new InsertManyOptions().ordered(false);
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${bootstrap.bulk-load.mongo.parallelism:4}")
+    private int parallelism;
+
+    MongoBulkLoadSink(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.MONGO;
+    }
+
+    @Override
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void write(CsvBatch batch) {
+        List<Document> documents = new ArrayList<>(batch.lines().size());
+        long lineNumber = batch.firstLine();
+        for (String line : batch.lines()) {
+            documents.add(toDocument(CsvExamRow.parse(lineNumber++, line)));
+        }
+        try {
+            mongoTemplate.getCollection("exames").insertMany(documents, UNORDERED);
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static Document toDocument(CsvExamRow row) {
+        return new Document("_id", row.id())
+                .append("paciente_id", row.pacienteId())
+                .append("nome_paciente", row.nomePaciente())
+                .append("tipo_exame", row.tipoExame())
+                .append("status_exame", row.statusExame())
+                .append("valor_resultado", row.valorResultado())
+                .append("data_coleta", toDate(row.dataColeta()))
+                .append("data_resultado", toDate(row.dataResultado()))
+                .append("laboratorio", row.laboratorio())
+                .append("created_at", toDate(row.createdAt()));
+    }
+
+    private static Date toDate(Instant instant) {
+        return instant != null ? Date.from(instant) : null;
+    }
+}
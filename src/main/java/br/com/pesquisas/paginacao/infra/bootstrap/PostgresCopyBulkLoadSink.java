@@ -0,0 +1,113 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Statement;
+
+/**
+ * Carga no PostgreSQL pela API de streaming do COPY ({@link CopyIn}).
+ *
+ * As linhas do CSV já estão no formato do COPY, então vão direto para o servidor sem
+ * parse no Java; só ganham na frente o id derivado da linha ({@link CsvExamRow#idForLine}),
+ * o mesmo do MongoDB e do Firestore. Cada lote é uma transação: COPY para uma tabela
+ * temporária e INSERT ... ON CONFLICT DO NOTHING em 'exames', então um lote gravado antes
+ * do checkpoint e reenviado na retomada não duplica linhas. No fim da carga a sequence do
+ * id avança até o maior id gravado.
+ */
+@Component
+@ConditionalOnProperty(name = "bootstrap.bulk-load.enabled", havingValue = "true")
+class PostgresCopyBulkLoadSink implements BulkLoadSink {
+
+    private static final String COLUMNS = "id," + CsvExamRow.HEADER;
+
+    // language=PostgreSQL
+    private static final String STAGING_SQL =
+            "CREATE TEMP TABLE IF NOT EXISTS exames_carga (LIKE exames) ON COMMIT DELETE ROWS";
+    // language=PostgreSQL
+    private static final String COPY_SQL = "COPY exames_carga(" + COLUMNS + ") FROM STDIN WITH (FORMAT csv)";
+    // language=PostgreSQL
+    private static final String INSERT_SQL = "INSERT INTO exames(" + COLUMNS + ") SELECT " + COLUMNS
+            + " FROM exames_carga ON CONFLICT DO NOTHING";
+    // language=PostgreSQL
+    private static final String SYNC_SEQUENCE_SQL =
+            "SELECT setval(pg_get_serial_sequence('exames', 'id'), GREATEST((SELECT max(id) FROM exames), 1))";
+
+    private final DataSource dataSource;
+
+    @Value("${bootstrap.bulk-load.postgres.parallelism:4}")
+    private int parallelism;
+
+    /** Buffer reaproveitado por worker: o lote é enviado em uma única escrita ao COPY. */
+    private final ThreadLocal<ByteArrayOutputStream> buffers =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(1 << 20));
+
+    PostgresCopyBulkLoadSink(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public DatabaseType store() {
+        return DatabaseType.POSTGRES;
+    }
+
+    @Override
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public void write(CsvBatch batch) throws Exception {
+        ByteArrayOutputStream buffer = buffers.get();
+        buffer.reset();
+        long lineNumber = batch.firstLine();
+        for (String line : batch.lines()) {
+            buffer.writeBytes(CsvExamRow.idForLine(lineNumber++).getBytes(StandardCharsets.US_ASCII));
+            buffer.write(',');
+            buffer.writeBytes(line.getBytes(StandardCharsets.UTF_8));
+            buffer.write('\n');
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                // a tabela temporária fica na sessão: conexões reaproveitadas do pool não a recriam
+                statement.execute(STAGING_SQL);
+                CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+                try {
+                    copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+                    copyIn.endCopy();
+                } finally {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                }
+                statement.executeUpdate(INSERT_SQL);
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    @Override
+    public void complete() throws Exception {
+        // os ids vieram do CSV: sem isso o próximo INSERT da sequence colide com eles
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(SYNC_SEQUENCE_SQL);
+        }
+    }
+}
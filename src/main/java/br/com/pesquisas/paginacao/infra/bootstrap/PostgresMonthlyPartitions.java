@@ -0,0 +1,117 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Partições mensais da tabela 'exames' no PostgreSQL (particionada por RANGE em data_coleta).
+ *
+ * No bootstrap, antes da carga em massa, cria uma partição por mês do período dos dados
+ * ('from'..'to', ou o período da massa 'data.csv.*' quando vazios) e outra por mês de
+ * 'months-back' meses atrás até 'months-ahead' meses à frente. Sem isso uma massa fora da
+ * janela do relógio (a reproduzível termina em 2025-01-01) cairia toda na partição default:
+ * nada seria podado, e a partição do mês não poderia mais ser criada depois (a default já
+ * teria linhas dela). A manutenção agendada mantém sempre 'months-ahead' meses futuros
+ * criados, para que gravações novas nunca caiam na partição default. Cada partição nasce com os
+ * índices do pai (o PostgreSQL cria e anexa os índices locais), então cada índice cresce
+ * só com o mês dele e o VACUUM trabalha partição a partição.
+ *
+ * Os limites são meses em UTC, o mesmo fuso em que data_coleta é gravada (TIMESTAMP sem fuso).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bootstrap.postgres.partitioning", havingValue = "monthly")
+public class PostgresMonthlyPartitions {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'exames_p'yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyntheticExamSettings dataSettings;
+
+    /** Primeiro e último mês dos dados ('yyyy-MM'); vazios = período da massa 'data.csv.*'. */
+    @Value("${bootstrap.postgres.partitions.from:}")
+    private String from;
+
+    @Value("${bootstrap.postgres.partitions.to:}")
+    private String to;
+
+    @Value("${bootstrap.postgres.partitions.months-back:12}")
+    private int monthsBack;
+
+    @Value("${bootstrap.postgres.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    PostgresMonthlyPartitions(JdbcTemplate jdbcTemplate, SyntheticExamSettings dataSettings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSettings = dataSettings;
+    }
+
+    /** Chamado pelo bootstrap depois de criar a tabela e antes da carga em massa. */
+    void createInitialPartitions() {
+        if (!isPartitioned()) {
+            // CREATE TABLE IF NOT EXISTS não converte a tabela comum de uma execução anterior
+            log.warn("⚠️ 'exames' já existe sem particionamento; remova-a (ou renomeie) para recriá-la particionada.");
+            return;
+        }
+        YearMonth dataFrom = from.isBlank() ? dataSettings.firstMonth() : YearMonth.parse(from);
+        YearMonth dataTo = to.isBlank() ? dataSettings.lastMonth() : YearMonth.parse(to);
+        YearMonth now = YearMonth.now(ZoneOffset.UTC);
+        int created = createMissing(dataFrom, dataTo)
+                + createMissing(now.minusMonths(monthsBack), now.plusMonths(monthsAhead));
+        log.info("✅ Partições mensais de 'exames' verificadas ({} criadas; dados {} a {}, relógio {} a {}).",
+                created, dataFrom, dataTo, now.minusMonths(monthsBack), now.plusMonths(monthsAhead));
+    }
+
+    @Scheduled(
+            initialDelayString = "${bootstrap.postgres.partitions.maintenance-interval:PT6H}",
+            fixedDelayString = "${bootstrap.postgres.partitions.maintenance-interval:PT6H}"
+    )
+    public void createFuturePartitions() {
+        try {
+            if (isPartitioned()) {
+                YearMonth now = YearMonth.now(ZoneOffset.UTC);
+                int created = createMissing(now, now.plusMonths(monthsAhead));
+                if (created > 0) {
+                    log.info("🗓️ {} partições futuras de 'exames' criadas.", created);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Manutenção das partições de 'exames' falhou: {}", e.getMessage());
+        }
+    }
+
+    private int createMissing(YearMonth first, YearMonth last) {
+        int created = 0;
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            String partition = PARTITION_NAME.format(month);
+            if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))) {
+                continue;
+            }
+            try {
+                // language=PostgreSQL
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF exames FOR VALUES FROM ('"
+                        + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+                created++;
+            } catch (DataAccessException e) {
+                // a default já tem linhas do mês: o PostgreSQL recusa a partição nova
+                log.warn("⚠️ Partição {} não criada: {}", partition, e.getMostSpecificCause().getMessage());
+            }
+        }
+        return created;
+    }
+
+    private boolean isPartitioned() {
+        // language=PostgreSQL
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('exames'))", Boolean.class));
+    }
+}
@@ -0,0 +1,175 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+
+/**
+ * Divide um script SQL do PostgreSQL em statements, lendo em streaming.
+ *
+ * O ';' só termina um statement fora de literais ('...', E'...' com escapes de barra),
+ * identificadores ("..."), corpos com dollar quote ($$...$$, $tag$...$tag$) e comentários
+ * (-- e blocos, aninháveis). Os comentários de fora dos literais são removidos; trechos
+ * só com comentários e espaços não viram statements.
+ */
+final class SqlScriptParser {
+
+    /** Statement com a linha do script em que ele começa. */
+    record SqlStatement(String sql, int line) {
+    }
+
+    private final PushbackReader reader;
+    private int line = 1;
+
+    SqlScriptParser(Reader reader) {
+        // lookahead do maior dollar quote aceito
+        this.reader = new PushbackReader(reader, 256);
+    }
+
+    /** Próximo statement, sem o ';' final; nulo no fim do script. */
+    SqlStatement next() throws IOException {
+        StringBuilder sql = new StringBuilder();
+        int start = -1;
+        int prev = -1;
+        int prevPrev = -1;
+        for (int c = read(); c != -1; c = read()) {
+            if (c == ';') {
+                if (start >= 0) {
+                    return new SqlStatement(sql.toString().strip(), start);
+                }
+                continue;
+            }
+            if (c == '-' && peek() == '-') {
+                skipLineComment();
+                sql.append(' ');
+                continue;
+            }
+            if (c == '/' && peek() == '*') {
+                read();
+                skipBlockComment();
+                sql.append(' ');
+                continue;
+            }
+            if (start < 0 && !Character.isWhitespace(c)) {
+                start = line;
+            }
+            sql.append((char) c);
+            if (c == '\'') {
+                // E'...' aceita \' como escape; o E não pode ser o fim de um identificador
+                boolean escapes = (prev == 'E' || prev == 'e') && !isIdentifierPart(prevPrev);
+                copyQuoted(sql, '\'', escapes);
+            } else if (c == '"') {
+                copyQuoted(sql, '"', false);
+            } else if (c == '$' && !isIdentifierPart(prev)) {
+                String tag = dollarTag();
+                if (tag != null) {
+                    sql.append(tag, 1, tag.length());
+                    copyDollarQuoted(sql, tag);
+                }
+            }
+            prevPrev = prev;
+            prev = c;
+        }
+        return start >= 0 ? new SqlStatement(sql.toString().strip(), start) : null;
+    }
+
+    private void copyQuoted(StringBuilder sql, char quote, boolean escapes) throws IOException {
+        for (int c = read(); c != -1; c = read()) {
+            sql.append((char) c);
+            if (escapes && c == '\\') {
+                int escaped = read();
+                if (escaped != -1) sql.append((char) escaped);
+            } else if (c == quote) {
+                // aspas duplicadas são a própria aspa dentro do literal
+                if (peek() != quote) {
+                    return;
+                }
+                sql.append((char) read());
+            }
+        }
+        throw new IllegalStateException("Literal não terminado (" + quote + ") no fim do script, linha " + line);
+    }
+
+    private void copyDollarQuoted(StringBuilder sql, String tag) throws IOException {
+        int matched = 0;
+        for (int c = read(); c != -1; c = read()) {
+            sql.append((char) c);
+            if (c == tag.charAt(matched)) {
+                if (++matched == tag.length()) {
+                    return;
+                }
+            } else {
+                matched = c == tag.charAt(0) ? 1 : 0;
+            }
+        }
+        throw new IllegalStateException("Dollar quote " + tag + " não terminado no fim do script, linha " + line);
+    }
+
+    /**
+     * Depois de um '$': a tag completa ('$$' ou '$nome$') se houver uma, ou nulo (ex.: '$1'),
+     * devolvendo ao reader o que foi lido.
+     */
+    private String dollarTag() throws IOException {
+        StringBuilder tag = new StringBuilder("$");
+        for (int c = read(); c != -1; c = read()) {
+            if (c == '$') {
+                return tag.append('$').toString();
+            }
+            boolean valid = tag.length() == 1 ? Character.isLetter(c) || c == '_' : isIdentifierPart(c) && c != '$';
+            if (!valid || tag.length() >= 255) {
+                unread(c);
+                break;
+            }
+            tag.append((char) c);
+        }
+        for (int i = tag.length() - 1; i >= 1; i--) {
+            unread(tag.charAt(i));
+        }
+        return null;
+    }
+
+    private void skipLineComment() throws IOException {
+        for (int c = read(); c != -1; c = read()) {
+            if (c == '\n') {
+                return;
+            }
+        }
+    }
+
+    private void skipBlockComment() throws IOException {
+        int depth = 1;
+        for (int c = read(); c != -1; c = read()) {
+            if (c == '*' && peek() == '/') {
+                read();
+                if (--depth == 0) {
+                    return;
+                }
+            } else if (c == '/' && peek() == '*') {
+                read();
+                depth++;
+            }
+        }
+        throw new IllegalStateException("Comentário /* não terminado no fim do script, linha " + line);
+    }
+
+    private static boolean isIdentifierPart(int c) {
+        return c != -1 && (Character.isLetterOrDigit(c) || c == '_' || c == '$');
+    }
+
+    private int read() throws IOException {
+        int c = reader.read();
+        if (c == '\n') line++;
+        return c;
+    }
+
+    private void unread(int c) throws IOException {
+        if (c == '\n') line--;
+        reader.unread(c);
+    }
+
+    private int peek() throws IOException {
+        int c = reader.read();
+        if (c != -1) reader.unread(c);
+        return c;
+    }
+}
@@ -0,0 +1,282 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import br.com.pesquisas.paginacao.infra.bootstrap.SqlScriptParser.SqlStatement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Executa scripts SQL do PostgreSQL em streaming ({@link SqlScriptParser}).
+ *
+ * Os statements vão em lotes JDBC de até 'bootstrap.scripts.batch-size' dentro de uma
+ * transação, e o checksum do arquivo é gravado em 'schema_scripts' na mesma transação: o
+ * script entra inteiro ou não entra. 'schema_scripts' é o único registro do schema do
+ * PostgreSQL: com 'bootstrap.schema.skip-unchanged=true' um script (ou fallback em código)
+ * com o checksum já gravado não roda de novo, e o startup faz só essa leitura.
+ *
+ * Statements que o PostgreSQL não aceita em transação (CREATE/DROP INDEX CONCURRENTLY,
+ * VACUUM, DETACH PARTITION CONCURRENTLY...) fecham o trecho anterior e rodam sozinhos em
+ * autocommit; com eles o script deixa de ser atômico e uma reexecução depende do IF NOT
+ * EXISTS dos statements. É o caso de todo o 'create_indexes.sql', só de CREATE INDEX
+ * CONCURRENTLY: os lotes não se aplicam a ele, e o checksum só é gravado depois do último
+ * índice. Na tabela particionada ele roda sem CONCURRENTLY e volta aos lotes.
+ *
+ * Cada lote (ou statement isolado) é cronometrado: os que passam de
+ * 'bootstrap.scripts.slow-statement' saem em INFO, os demais em DEBUG. Com batch-size=1
+ * cada statement tem o próprio tempo.
+ */
+@Slf4j
+@Component
+class SqlScriptRunner {
+
+    private static final Pattern NON_TRANSACTIONAL = Pattern.compile(
+            "^(CREATE\\s+(UNIQUE\\s+)?INDEX\\s+CONCURRENTLY|DROP\\s+INDEX\\s+CONCURRENTLY|REINDEX\\b.*\\bCONCURRENTLY"
+                    + "|VACUUM|CREATE\\s+DATABASE|DROP\\s+DATABASE|ALTER\\s+SYSTEM|CREATE\\s+TABLESPACE|DROP\\s+TABLESPACE"
+                    + "|ALTER\\s+TABLE\\b.*\\bDETACH\\s+PARTITION\\b.*\\bCONCURRENTLY)",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern CONCURRENT_INDEX = Pattern.compile(
+            "^((CREATE\\s+(UNIQUE\\s+)?|DROP\\s+)INDEX)\\s+CONCURRENTLY", Pattern.CASE_INSENSITIVE);
+
+    // language=PostgreSQL
+    private static final String RECORD_SQL = """
+            INSERT INTO schema_scripts (script, checksum, statements, elapsed_ms) VALUES (?, ?, ?, ?)
+            ON CONFLICT (script) DO UPDATE SET checksum = EXCLUDED.checksum, statements = EXCLUDED.statements,
+                elapsed_ms = EXCLUDED.elapsed_ms, applied_at = CURRENT_TIMESTAMP""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long slowNanos;
+    private final boolean skipUnchanged;
+
+    SqlScriptRunner(JdbcTemplate jdbcTemplate,
+                    @Value("${bootstrap.scripts.batch-size:50}") int batchSize,
+                    @Value("${bootstrap.scripts.slow-statement:PT1S}") Duration slowStatement,
+                    @Value("${bootstrap.schema.skip-unchanged:true}") boolean skipUnchanged) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.slowNanos = slowStatement.toNanos();
+        this.skipUnchanged = skipUnchanged;
+    }
+
+    /**
+     * Executa o script, a menos que o mesmo conteúdo já tenha sido aplicado. Com
+     * 'concurrentIndexes' falso, CREATE/DROP INDEX CONCURRENTLY rodam sem CONCURRENTLY
+     * (tabela particionada) e o checksum registra a variante.
+     */
+    void run(String name, Resource resource, boolean concurrentIndexes) {
+        String checksum = checksum(resource) + variant(concurrentIndexes);
+        if (alreadyApplied(name, checksum)) {
+            return;
+        }
+        ensureHistoryTable();
+        log.info("📜 Executando script SQL: {}", name);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            execute(connection, name, resource, concurrentIndexes, checksum);
+            return null;
+        });
+    }
+
+    /**
+     * DDL em código no lugar de um script ausente, registrado em 'schema_scripts' com o nome
+     * do script e a versão do fallback: só roda de novo quando a versão ou a variante mudam.
+     */
+    void runFallback(String name, int version, boolean concurrentIndexes, Runnable fallback) {
+        String checksum = "fallback:v" + version + variant(concurrentIndexes);
+        if (alreadyApplied(name, checksum)) {
+            return;
+        }
+        ensureHistoryTable();
+        log.info("⏭️ Script '{}' não encontrado, usando fallback.", name);
+        long start = System.nanoTime();
+        fallback.run();
+        record(name, checksum, 0, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static String variant(boolean concurrentIndexes) {
+        return concurrentIndexes ? "" : ":nc";
+    }
+
+    private boolean alreadyApplied(String name, String checksum) {
+        if (!skipUnchanged) {
+            return false;
+        }
+        List<String> applied;
+        try {
+            // language=PostgreSQL
+            applied = jdbcTemplate.queryForList(
+                    "SELECT checksum FROM schema_scripts WHERE script = ?", String.class, name);
+        } catch (DataAccessException e) {
+            return false; // primeiro startup: a tabela ainda não existe
+        }
+        if (applied.contains(checksum)) {
+            log.info("⏩ Script '{}' já aplicado com este conteúdo ({}), ignorado.", name,
+                    checksum.substring(0, Math.min(12, checksum.length())));
+            return true;
+        }
+        return false;
+    }
+
+    private void execute(Connection connection, String name, Resource resource, boolean concurrentIndexes,
+                         String checksum) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        long start = System.nanoTime();
+        int statements = 0;
+        connection.setAutoCommit(false);
+        try (Statement batch = connection.createStatement();
+             BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            SqlScriptParser parser = new SqlScriptParser(reader);
+            List<SqlStatement> pending = new ArrayList<>(batchSize);
+            for (SqlStatement statement = parser.next(); statement != null; statement = parser.next()) {
+                statements++;
+                String sql = concurrentIndexes ? statement.sql() : CONCURRENT_INDEX.matcher(statement.sql()).replaceFirst("$1");
+                statement = new SqlStatement(sql, statement.line());
+                if (NON_TRANSACTIONAL.matcher(sql).find()) {
+                    flush(batch, pending, name);
+                    connection.commit();
+                    connection.setAutoCommit(true);
+                    pending.add(statement);
+                    flush(batch, pending, name);
+                    connection.setAutoCommit(false);
+                } else {
+                    pending.add(statement);
+                    if (pending.size() >= batchSize) {
+                        flush(batch, pending, name);
+                    }
+                }
+            }
+            flush(batch, pending, name);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+            try (PreparedStatement history = connection.prepareStatement(RECORD_SQL)) {
+                history.setString(1, name);
+                history.setString(2, checksum);
+                history.setInt(3, statements);
+                history.setLong(4, elapsedMs);
+                history.executeUpdate();
+            }
+            connection.commit();
+            log.info("✅ Script '{}' executado: {} statements em {} ms.", name, statements, elapsedMs);
+        } catch (SQLException | RuntimeException e) {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+            }
+            throw e;
+        } catch (IOException e) {
+            connection.rollback();
+            throw new UncheckedIOException("Falha ao ler o script '" + name + "'", e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /** Envia os statements pendentes em um lote; em erro, aponta o statement que falhou. */
+    private void flush(Statement batch, List<SqlStatement> pending, String name) throws SQLException {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            if (pending.size() == 1) {
+                batch.execute(pending.get(0).sql());
+            } else {
+                for (SqlStatement statement : pending) {
+                    batch.addBatch(statement.sql());
+                }
+                batch.executeBatch();
+            }
+        } catch (SQLException e) {
+            SqlStatement failed = pending.get(failedIndex(e, pending.size()));
+            throw new SQLException("Erro em '" + name + "' (linha " + failed.line() + "): " + summary(failed.sql())
+                    + " — " + e.getMessage(), e.getSQLState(), e);
+        } finally {
+            batch.clearBatch();
+        }
+        long elapsed = System.nanoTime() - start;
+        SqlStatement first = pending.get(0);
+        String what = pending.size() == 1
+                ? "linha " + first.line() + ": " + summary(first.sql())
+                : pending.size() + " statements das linhas " + first.line() + "–" + pending.get(pending.size() - 1).line();
+        if (elapsed >= slowNanos) {
+            log.info("🐢 '{}' {} em {} ms", name, what, elapsed / 1_000_000);
+        } else {
+            log.debug("'{}' {} em {} ms", name, what, elapsed / 1_000_000);
+        }
+        pending.clear();
+    }
+
+    private static int failedIndex(SQLException e, int size) {
+        if (e instanceof BatchUpdateException batch) {
+            int[] counts = batch.getUpdateCounts();
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == Statement.EXECUTE_FAILED) return i;
+            }
+            return Math.min(counts.length, size - 1);
+        }
+        return 0;
+    }
+
+    private static String summary(String sql) {
+        String line = sql.replaceAll("\\s+", " ");
+        return line.length() <= 80 ? line : line.substring(0, 77) + "...";
+    }
+
+    private void record(String name, String checksum, int statements, long elapsedMs) {
+        jdbcTemplate.update(RECORD_SQL, name, checksum, statements, elapsedMs);
+    }
+
+    private void ensureHistoryTable() {
+        // language=PostgreSQL
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS schema_scripts (
+                script VARCHAR(200) PRIMARY KEY,
+                checksum VARCHAR(80) NOT NULL,
+                statements INT NOT NULL,
+                elapsed_ms BIGINT NOT NULL,
+                applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+            )
+        """);
+    }
+
+    /** SHA-256 do arquivo, lido em streaming; "fallback" se ele não existe. */
+    static String checksum(Resource resource) {
+        if (!resource.exists()) {
+            return "fallback";
+        }
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream in = new DigestInputStream(resource.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler " + resource.getDescription(), e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
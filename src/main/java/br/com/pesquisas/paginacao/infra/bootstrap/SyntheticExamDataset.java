@@ -0,0 +1,191 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Tabelas imutáveis da massa sintética, compartilhadas pelas threads do
+ * {@link ExameDataCsvGenerator}: ids de paciente, distribuições acumuladas (paciente,
+ * hora de coleta e status) e as datas do período já formatadas em bytes.
+ *
+ * Tudo é derivado do seed: a mesma configuração monta as mesmas tabelas, e cada linha
+ * depende só delas e do gerador aleatório da partição.
+ */
+final class SyntheticExamDataset {
+
+    private static final byte[][] TIPOS = encode("Glicose", "Colesterol", "Hemograma", "Creatinina", "Triglicerídeos");
+    private static final byte[][] STATUS = encode("PENDENTE", "CONCLUIDO", "CANCELADO");
+    private static final byte[][] LABS = encode("Laboratório Dasa", "Laboratório Fleury", "Laboratório São Lucas", "Lab Anhembi", "Lab Paulista");
+    private static final byte[][] NOMES = encode(
+            "João Silva", "Maria Oliveira", "Carlos Souza", "Ana Paula", "Fernanda Lima",
+            "Paulo Mendes", "Juliana Rocha", "Eduardo Alves", "Camila Costa", "Felipe Martins"
+    );
+
+    /** Faixa de valor_resultado por tipo (mesma ordem de TIPOS): mínimo e amplitude. */
+    private static final double[][] FAIXA_VALOR = {{70, 90}, {120, 100}, {4, 3}, {0.5, 1.5}, {50, 200}};
+
+    /** Volume relativo de coletas por hora do dia: madrugada quase vazia, pico entre 7h e 10h. */
+    private static final double[] HOURLY = {
+            0.05, 0.03, 0.02, 0.02, 0.03, 0.10, 0.40, 1.00, 1.00, 0.90, 0.70, 0.60,
+            0.45, 0.40, 0.45, 0.40, 0.35, 0.30, 0.25, 0.20, 0.15, 0.10, 0.08, 0.06
+    };
+
+    /** Chance de um dia ser de pico (campanha, surto) e o multiplicador de volume nesse dia. */
+    private static final double BURST_DAY_CHANCE = 0.04;
+    private static final double BURST_DAY_FACTOR = 6;
+
+    private static final int SECONDS_PER_HOUR = 3_600;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int RESULT_MAX_DAYS = 3;
+
+    static final int MAX_ROW_BYTES = 512;
+
+    private final byte[][] patientIds;
+    private final double[] patientCdf; // null = escolha uniforme
+    private final double[] hourCdf;    // null = coleta uniforme no período
+    private final double[] statusCdf;
+    private final byte[][] days;       // "yyyy-MM-dd" de cada dia do período (+ folga do resultado)
+    private final int collectionDays;
+
+    SyntheticExamDataset(int patients, double skew, double burstiness, double[] statusWeights,
+                         long seed, int months, LocalDate end) {
+        if (statusWeights.length != STATUS.length) {
+            throw new IllegalArgumentException("data.csv.status-weights precisa de " + STATUS.length
+                    + " pesos (PENDENTE, CONCLUIDO, CANCELADO)");
+        }
+        SplittableRandom random = new SplittableRandom(seed ^ 0x9E3779B97F4A7C15L);
+        this.patientIds = new byte[patients][];
+        for (int i = 0; i < patients; i++) {
+            patientIds[i] = String.format("%012x", random.nextLong() & 0xFFFF_FFFF_FFFFL).getBytes(StandardCharsets.US_ASCII);
+        }
+        this.patientCdf = skew > 0 ? zipfCdf(patients, skew) : null;
+        this.statusCdf = cdf(statusWeights);
+
+        LocalDate first = end.minusMonths(months);
+        this.collectionDays = (int) (end.toEpochDay() - first.toEpochDay());
+        this.days = new byte[collectionDays + RESULT_MAX_DAYS + 1][];
+        for (int d = 0; d < days.length; d++) {
+            days[d] = first.plusDays(d).toString().getBytes(StandardCharsets.US_ASCII);
+        }
+        this.hourCdf = burstiness > 0 ? arrivalCdf(first, collectionDays, burstiness, random) : null;
+    }
+
+    /**
+     * Peso de cada hora do período: mistura entre uniforme e o formato "real"
+     * (hora do dia × dia da semana × dias de pico sorteados pelo seed).
+     */
+    private static double[] arrivalCdf(LocalDate first, int days, double burstiness, SplittableRandom random) {
+        double[] weights = new double[days * 24];
+        for (int d = 0; d < days; d++) {
+            DayOfWeek dow = first.plusDays(d).getDayOfWeek();
+            double dayFactor = dow == DayOfWeek.SUNDAY ? 0.2 : dow == DayOfWeek.SATURDAY ? 0.4 : 1.0;
+            if (random.nextDouble() < BURST_DAY_CHANCE) {
+                dayFactor *= BURST_DAY_FACTOR;
+            }
+            for (int h = 0; h < 24; h++) {
+                weights[d * 24 + h] = (1 - burstiness) + burstiness * dayFactor * HOURLY[h];
+            }
+        }
+        return cdf(weights);
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int k = 0; k < n; k++) {
+            weights[k] = 1.0 / Math.pow(k + 1, exponent);
+        }
+        return cdf(weights);
+    }
+
+    private static double[] cdf(double[] weights) {
+        double[] cdf = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < cdf.length; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    private static int sample(double[] cdf, SplittableRandom random) {
+        int idx = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(idx >= 0 ? idx : -idx - 1, cdf.length - 1);
+    }
+
+    private int nextPatient(SplittableRandom random) {
+        return patientCdf == null ? random.nextInt(patientIds.length) : sample(patientCdf, random);
+    }
+
+    /** Segundos desde o início do período. */
+    private long nextCollection(SplittableRandom random) {
+        if (hourCdf == null) {
+            return random.nextLong((long) collectionDays * SECONDS_PER_DAY);
+        }
+        return (long) sample(hourCdf, random) * SECONDS_PER_HOUR + random.nextInt(SECONDS_PER_HOUR);
+    }
+
+    void writeRow(ByteBuffer out, SplittableRandom random) {
+        int tipo = random.nextInt(TIPOS.length);
+        long coleta = nextCollection(random);
+        long resultado = coleta + (long) random.nextInt(1, RESULT_MAX_DAYS + 1) * SECONDS_PER_DAY;
+        double[] faixa = FAIXA_VALOR[tipo];
+
+        out.put(patientIds[nextPatient(random)]).put((byte) ',');
+        out.put(NOMES[random.nextInt(NOMES.length)]).put((byte) ',');
+        out.put(TIPOS[tipo]).put((byte) ',');
+        out.put(STATUS[sample(statusCdf, random)]).put((byte) ',');
+        putCents(out, Math.round((faixa[0] + random.nextDouble() * faixa[1]) * 100));
+        out.put((byte) ',');
+        putTimestamp(out, coleta);
+        out.put((byte) ',');
+        putTimestamp(out, resultado);
+        out.put((byte) ',');
+        out.put(LABS[random.nextInt(LABS.length)]).put((byte) ',');
+        putTimestamp(out, resultado); // created_at = data_resultado, como no gerador original
+        out.put((byte) '\n');
+    }
+
+    /** "yyyy-MM-ddTHH:mm:ss" a partir dos segundos desde o início do período. */
+    private void putTimestamp(ByteBuffer out, long secondsFromStart) {
+        int secondOfDay = (int) (secondsFromStart % SECONDS_PER_DAY);
+        out.put(days[(int) (secondsFromStart / SECONDS_PER_DAY)]).put((byte) 'T');
+        put2(out, secondOfDay / 3600);
+        out.put((byte) ':');
+        put2(out, secondOfDay / 60 % 60);
+        out.put((byte) ':');
+        put2(out, secondOfDay % 60);
+    }
+
+    private static void put2(ByteBuffer out, int value) {
+        out.put((byte) ('0' + value / 10)).put((byte) ('0' + value % 10));
+    }
+
+    /** Valor com duas casas (NUMERIC(10,2) no PostgreSQL), sem BigDecimal nem String. */
+    private static void putCents(ByteBuffer out, long cents) {
+        putLong(out, cents / 100);
+        out.put((byte) '.');
+        put2(out, (int) (cents % 100));
+    }
+
+    private static void putLong(ByteBuffer out, long value) {
+        if (value >= 10) {
+            putLong(out, value / 10);
+        }
+        out.put((byte) ('0' + value % 10));
+    }
+
+    private static byte[][] encode(String... values) {
+        byte[][] encoded = new byte[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i].getBytes(StandardCharsets.UTF_8);
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,122 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Configuração 'data.csv.*' da massa sintética, resolvida uma vez e compartilhada pelo
+ * {@link ExameDataCsvGenerator}, pelo {@link FirestoreEmulatorSeeder} e pelas
+ * {@link PostgresMonthlyPartitions} (meses da massa): sobrescritas do
+ * perfil, fim do período e divisão em partições. A linha N do CSV é sempre a mesma para a
+ * mesma configuração, seja ela escrita no arquivo ou gravada direto no emulador.
+ */
+@Component
+class SyntheticExamSettings {
+
+    /** Fim do período quando 'data.csv.reproducible=true' e nenhum 'end-date' é informado. */
+    static final LocalDate REPRODUCIBLE_END = LocalDate.of(2025, 1, 1);
+
+    @Value("${data.csv.rows:500000}")
+    private long rows;
+
+    @Value("${data.csv.patients:1000}")
+    private int patients;
+
+    @Value("${data.csv.profile:UNIFORM}")
+    private DataProfile profile;
+
+    /** Sobrescritas do perfil; vazio = valor do perfil. */
+    @Value("${data.csv.skew:}")
+    private String skew;
+
+    @Value("${data.csv.burstiness:}")
+    private String burstiness;
+
+    @Value("${data.csv.status-weights:}")
+    private double[] statusWeights;
+
+    @Value("${data.csv.seed:42}")
+    private long seed;
+
+    @Value("${data.csv.months:6}")
+    private int months;
+
+    /** Último dia do período gerado; vazio = hoje (UTC), ou {@link #REPRODUCIBLE_END} no modo reproduzível. */
+    @Value("${data.csv.end-date:}")
+    private String endDate;
+
+    /** true = mesmo seed gera o mesmo arquivo, byte a byte, em qualquer dia e máquina. */
+    @Value("${data.csv.reproducible:false}")
+    private boolean reproducible;
+
+    /**
+     * Partições lógicas da massa. O conteúdo de cada uma depende só do seed e do seu índice,
+     * então o arquivo não muda com o número de threads.
+     */
+    @Value("${data.csv.partitions:32}")
+    private int partitions;
+
+    long rows() {
+        return rows;
+    }
+
+    int partitions() {
+        return partitions;
+    }
+
+    /** Linhas da partição: as 'rows % partitions' primeiras levam uma a mais. */
+    long partitionRows(int partition) {
+        return rows / partitions + (partition < rows % partitions ? 1 : 0);
+    }
+
+    /**
+     * Gerador raiz; as partições usam split() dele na ordem dos índices, então a sequência
+     * de cada uma não depende do agendamento.
+     */
+    SplittableRandom rootRandom() {
+        return new SplittableRandom(seed);
+    }
+
+    SyntheticExamDataset dataset() {
+        return new SyntheticExamDataset(patients, patientSkew(), burstiness(), statusWeights(), seed, months, end());
+    }
+
+    /** Mês (UTC) da data_coleta mais antiga da massa: 'months' meses antes do fim. */
+    YearMonth firstMonth() {
+        return YearMonth.from(end().minusMonths(months));
+    }
+
+    /** Mês (UTC) da data_coleta mais recente da massa: o dia anterior ao fim. */
+    YearMonth lastMonth() {
+        return YearMonth.from(end().minusDays(1));
+    }
+
+    /** Resumo para os logs de quem gera a massa. */
+    String describe() {
+        return String.format("%d pacientes, perfil %s: skew=%s, burstiness=%s, status=%s; seed=%d, fim=%s",
+                patients, profile, patientSkew(), burstiness(), Arrays.toString(statusWeights()), seed, end());
+    }
+
+    private double patientSkew() {
+        return skew.isBlank() ? profile.patientSkew : Double.parseDouble(skew);
+    }
+
+    private double burstiness() {
+        return burstiness.isBlank() ? profile.burstiness : Double.parseDouble(burstiness);
+    }
+
+    private double[] statusWeights() {
+        return statusWeights.length > 0 ? statusWeights : profile.statusWeights;
+    }
+
+    private LocalDate end() {
+        return !endDate.isBlank() ? LocalDate.parse(endDate)
+                : reproducible ? REPRODUCIBLE_END : LocalDate.now(ZoneOffset.UTC);
+    }
+}
@@ -1,39 +1,67 @@
 package br.com.pesquisas.paginacao.infra.config;
 
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.cloud.NoCredentials;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.FirestoreOptions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
 
-import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 /**
  * Configuração manual do Firestore para garantir controle total
  * sobre a autenticação e o contexto de banco de dados.
  *
  * Evita dependência de autoconfiguração e permite alternar entre
- * credenciais locais e ADC (Application Default Credentials) em Cloud Run.
+ * credenciais locais ('spring.cloud.gcp.credentials.location'), ADC
+ * (Application Default Credentials) em Cloud Run e o emulador local (profile 'emulator').
  */
 @Configuration
 public class FirestoreConfig {
 
-    @Bean
-    public Firestore firestore() throws IOException {
+    @Value("${spring.cloud.gcp.project-id:pocs-estudos-gerais}")
+    private String projectId;
 
-        // Caminho local do arquivo de credenciais
-        String credentialsPath = "/Users/silva.rodriguesedu/Estudos/POCs/GCP/pocs-estudos-gerais-1160c4fcc3d7.json";
+    @Bean
+    @Profile("!emulator")
+    public Firestore firestore(
+            @Value("${spring.cloud.gcp.credentials.location:#{null}}") Resource credentialsLocation) throws IOException {
 
-        GoogleCredentials credentials = GoogleCredentials
-                .fromStream(new FileInputStream(credentialsPath));
+        GoogleCredentials credentials;
+        if (credentialsLocation != null && credentialsLocation.exists()) {
+            try (InputStream in = credentialsLocation.getInputStream()) {
+                credentials = GoogleCredentials.fromStream(in);
+            }
+        } else {
+            credentials = GoogleCredentials.getApplicationDefault();
+        }
 
         FirestoreOptions firestoreOptions = FirestoreOptions.newBuilder()
                 .setCredentials(credentials)
-                .setProjectId("pocs-estudos-gerais")
+                .setProjectId(projectId)
                 .setDatabaseId("(default)") // obrigatório para Firestore Native
                 .build();
 
         return firestoreOptions.getService();
     }
+
+    /**
+     * Firestore apontando para o emulador (sem rede nem credenciais).
+     */
+    @Bean
+    @Profile("emulator")
+    public Firestore emulatorFirestore(
+            @Value("${firestore.emulator.host:localhost:8081}") String emulatorHost) {
+        return FirestoreOptions.newBuilder()
+                .setEmulatorHost(emulatorHost)
+                .setCredentials(NoCredentials.getInstance())
+                .setProjectId(projectId)
+                .build()
+                .getService();
+    }
 }
@@ -0,0 +1,64 @@
+package br.com.pesquisas.paginacao.infra.config;
+
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import com.mongodb.reactivestreams.client.MongoDatabase;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Clientes da stack reativa (profile 'reactive'), montados à mão como o {@link FirestoreConfig}.
+ *
+ * A autoconfiguração do R2DBC e do MongoDB reativo fica desligada em application.properties:
+ * sem este profile a aplicação não abre pool R2DBC nem um segundo cliente do MongoDB. A URL
+ * R2DBC vem de 'spring.r2dbc.url' ou, vazia, de 'spring.datasource.url' (jdbc: → r2dbc:),
+ * com o mesmo usuário e tamanho de pool do Hikari para comparar as stacks nas mesmas condições.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveStackConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool r2dbcConnectionPool(
+            @Value("${spring.r2dbc.url:}") String r2dbcUrl,
+            @Value("${spring.datasource.url:jdbc:postgresql://localhost:5432/paginacao_db}") String jdbcUrl,
+            @Value("${spring.datasource.username:postgres}") String username,
+            @Value("${spring.datasource.password:postgres}") String password,
+            @Value("${paginacao.reactive.postgres.pool-size:10}") int poolSize) {
+        String url = r2dbcUrl.isBlank() ? jdbcUrl.replaceFirst("^jdbc:", "r2dbc:") : r2dbcUrl;
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("paginacao-r2dbc")
+                .initialSize(0)
+                .maxSize(poolSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionPool r2dbcConnectionPool) {
+        return DatabaseClient.create(r2dbcConnectionPool);
+    }
+
+    @Bean(destroyMethod = "close")
+    public MongoClient reactiveMongoClient(
+            @Value("${spring.data.mongodb.uri:mongodb://localhost:27017/paginacao_db}") String uri) {
+        return MongoClients.create(uri);
+    }
+
+    @Bean
+    public MongoDatabase reactiveMongoDatabase(
+            MongoClient reactiveMongoClient,
+            @Value("${spring.data.mongodb.database:paginacao_db}") String database) {
+        return reactiveMongoClient.getDatabase(database);
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.pesquisas.paginacao.infra.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas em background (ex.: recálculo dos totais exatos da paginação offset).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,50 @@
+package br.com.pesquisas.paginacao.infra.metrics;
+
+import br.com.pesquisas.paginacao.application.service.CursorPrefetcher;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Leitura antecipada de páginas keyset ({@link CursorPrefetcher}), por banco.
+ *
+ * Métricas: paginacao.prefetch (tag 'result': iniciada, acerto, erro, desperdicio, descartada),
+ * paginacao.prefetch.em.andamento e paginacao.prefetch.buffer. Taxa de acerto =
+ * acerto / (acerto + erro); desperdício = desperdicio / iniciada.
+ */
+@Component
+@RequiredArgsConstructor
+public class CursorPrefetchMetrics implements MeterBinder {
+
+    private final CursorPrefetcher prefetcher;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (DatabaseType store : DatabaseType.values()) {
+            counter(registry, store, "iniciada", p -> p.started(store));
+            counter(registry, store, "acerto", p -> p.hits(store));
+            counter(registry, store, "erro", p -> p.misses(store));
+            counter(registry, store, "desperdicio", p -> p.wasted(store));
+            counter(registry, store, "descartada", p -> p.skipped(store));
+        }
+        Gauge.builder("paginacao.prefetch.em.andamento", prefetcher, CursorPrefetcher::inFlight)
+                .description("Consultas antecipadas em andamento")
+                .register(registry);
+        Gauge.builder("paginacao.prefetch.buffer", prefetcher, CursorPrefetcher::buffered)
+                .description("Páginas antecipadas aguardando o próximo pedido")
+                .register(registry);
+    }
+
+    private void counter(MeterRegistry registry, DatabaseType store, String result, ToDoubleFunction<CursorPrefetcher> count) {
+        FunctionCounter.builder("paginacao.prefetch", prefetcher, count)
+                .description("Leituras antecipadas da próxima página keyset, por resultado")
+                .tags("store", store.key(), "result", result)
+                .register(registry);
+    }
+}
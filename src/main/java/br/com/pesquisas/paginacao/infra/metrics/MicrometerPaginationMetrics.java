@@ -0,0 +1,186 @@
+package br.com.pesquisas.paginacao.infra.metrics;
+
+import br.com.pesquisas.paginacao.application.port.out.PaginationMetricsPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.FederatedStoreStatus;
+import io.micrometer.core.instrument.Counter;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Implementação Micrometer das métricas de paginação.
+ *
+ * Todos os medidores (banco x estratégia x faixa de profundidade) são registrados na
+ * criação e guardados em arrays indexados por ordinal: registrar uma medida é só um
+ * acesso a array, sem montar tags nem buscar no registry a cada requisição.
+ *
+ * Métricas: paginacao.consulta, paginacao.mapeamento, paginacao.cursor.decode,
+ * paginacao.payload, paginacao.linhas.lidas, paginacao.linhas.retornadas, paginacao.leituras.cobradas
+ * e paginacao.federada.bancos.
+ */
+@Slf4j
+@Component
+public class MicrometerPaginationMetrics implements PaginationMetricsPort {
+
+    /** Faixas de profundidade (linhas antes da página); a última é posição vinda de cursor. */
+    static final String[] DEPTHS = {"0-1k", "1k-10k", "10k-100k", "100k+", "cursor"};
+
+    private static final int STORES = DatabaseType.values().length;
+    private static final int STRATEGIES = PaginationStrategy.values().length;
+
+    private final Timer[] query = new Timer[STORES * STRATEGIES * DEPTHS.length];
+    private final Timer[] mapping = new Timer[STORES * STRATEGIES];
+    private final Timer[] cursorDecode = new Timer[STORES];
+    private final DistributionSummary[] payload = new DistributionSummary[STORES * STRATEGIES];
+    private final DistributionSummary[] scanned = new DistributionSummary[STORES * STRATEGIES * DEPTHS.length];
+    private final DistributionSummary[] returned = new DistributionSummary[STORES * STRATEGIES * DEPTHS.length];
+    private final DistributionSummary[] billedReads = new DistributionSummary[STORES * STRATEGIES * DEPTHS.length];
+    private final Counter[] federated = new Counter[STORES * FederatedStoreStatus.values().length];
+
+    private final ThreadPoolExecutor sampler = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(16),
+            runnable -> Thread.ofPlatform().daemon().name("paginacao-scan-sampler").unstarted(runnable),
+            new ThreadPoolExecutor.DiscardPolicy());
+
+    private final double sampleRate;
+
+    public MicrometerPaginationMetrics(MeterRegistry registry,
+                                       @Value("${paginacao.metrics.scan-sample-rate:0.01}") double sampleRate) {
+        this.sampleRate = sampleRate;
+        for (DatabaseType store : DatabaseType.values()) {
+            cursorDecode[store.ordinal()] = Timer.builder("paginacao.cursor.decode")
+                    .description("Decodificação e validação do token de cursor")
+                    .tag("store", store.key())
+                    .register(registry);
+            for (FederatedStoreStatus status : FederatedStoreStatus.values()) {
+                federated[index(store, status)] = Counter.builder("paginacao.federada.bancos")
+                        .description("Participação de cada banco nas páginas federadas, por situação")
+                        .tags("store", store.key(), "status", status.key())
+                        .register(registry);
+            }
+            for (PaginationStrategy strategy : PaginationStrategy.values()) {
+                int ss = index(store, strategy);
+                mapping[ss] = Timer.builder("paginacao.mapeamento")
+                        .description("Conversão de linhas/documentos em Exam, por página")
+                        .tags("store", store.key(), "strategy", strategy.key())
+                        .register(registry);
+                payload[ss] = DistributionSummary.builder("paginacao.payload")
+                        .description("Tamanho da resposta da página")
+                        .baseUnit("bytes")
+                        .tags("store", store.key(), "strategy", strategy.key())
+                        .register(registry);
+                for (int d = 0; d < DEPTHS.length; d++) {
+                    int i = ss * DEPTHS.length + d;
+                    query[i] = Timer.builder("paginacao.consulta")
+                            .description("Tempo de cada consulta de página ao banco (execução + mapeamento)")
+                            .tags("store", store.key(), "strategy", strategy.key(), "depth", DEPTHS[d])
+                            .register(registry);
+                    scanned[i] = DistributionSummary.builder("paginacao.linhas.lidas")
+                            .description("Linhas/entradas de índice lidas pelo banco (amostragem do plano)")
+                            .baseUnit("rows")
+                            .tags("store", store.key(), "strategy", strategy.key(), "depth", DEPTHS[d])
+                            .register(registry);
+                    returned[i] = DistributionSummary.builder("paginacao.linhas.retornadas")
+                            .description("Linhas devolvidas pelo banco (amostragem do plano)")
+                            .baseUnit("rows")
+                            .tags("store", store.key(), "strategy", strategy.key(), "depth", DEPTHS[d])
+                            .register(registry);
+                    billedReads[i] = DistributionSummary.builder("paginacao.leituras.cobradas")
+                            .description("Leituras de documento cobradas por página (Firestore)")
+                            .baseUnit("reads")
+                            .tags("store", store.key(), "strategy", strategy.key(), "depth", DEPTHS[d])
+                            .register(registry);
+                }
+            }
+        }
+    }
+
+    private static int index(DatabaseType store, PaginationStrategy strategy) {
+        return store.ordinal() * STRATEGIES + strategy.ordinal();
+    }
+
+    private static int index(DatabaseType store, FederatedStoreStatus status) {
+        return store.ordinal() * FederatedStoreStatus.values().length + status.ordinal();
+    }
+
+    private static int index(DatabaseType store, PaginationStrategy strategy, long depth) {
+        return index(store, strategy) * DEPTHS.length + depthBucket(depth);
+    }
+
+    static int depthBucket(long depth) {
+        if (depth < 0) return 4;
+        if (depth < 1_000) return 0;
+        if (depth < 10_000) return 1;
+        if (depth < 100_000) return 2;
+        return 3;
+    }
+
+    @Override
+    public void recordQuery(DatabaseType store, PaginationStrategy strategy, long depth, long nanos) {
+        query[index(store, strategy, depth)].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordMapping(DatabaseType store, PaginationStrategy strategy, long nanos) {
+        mapping[index(store, strategy)].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordCursorDecode(DatabaseType store, long nanos) {
+        cursorDecode[store.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordPayload(DatabaseType store, PaginationStrategy strategy, long bytes) {
+        payload[index(store, strategy)].record(bytes);
+    }
+
+    @Override
+    public void recordScan(DatabaseType store, PaginationStrategy strategy, long depth, long rowsScanned, long rowsReturned) {
+        int i = index(store, strategy, depth);
+        scanned[i].record(rowsScanned);
+        returned[i].record(rowsReturned);
+    }
+
+    @Override
+    public void recordBilledReads(DatabaseType store, PaginationStrategy strategy, long depth, long reads) {
+        billedReads[index(store, strategy, depth)].record(reads);
+    }
+
+    @Override
+    public void recordFederatedStore(DatabaseType store, FederatedStoreStatus status) {
+        federated[index(store, status)].increment();
+    }
+
+    @Override
+    public boolean sampleScan() {
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    @Override
+    public void runSample(Runnable sample) {
+        sampler.execute(() -> {
+            try {
+                sample.run();
+            } catch (RuntimeException e) {
+                log.debug("Amostragem de plano falhou: {}", e.getMessage());
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        sampler.shutdownNow();
+    }
+}
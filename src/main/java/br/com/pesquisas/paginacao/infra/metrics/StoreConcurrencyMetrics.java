@@ -0,0 +1,46 @@
+package br.com.pesquisas.paginacao.infra.metrics;
+
+import br.com.pesquisas.paginacao.application.service.StoreConcurrencyLimiter;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ocupação dos semáforos do {@link StoreConcurrencyLimiter}, por banco.
+ *
+ * Métricas: paginacao.concorrencia.limite, paginacao.concorrencia.em.uso,
+ * paginacao.concorrencia.espera e paginacao.concorrencia.rejeitadas. Os eventos de pinning
+ * das virtual threads vêm do micrometer-java21 (jvm.threads.virtual.pinned).
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreConcurrencyMetrics implements MeterBinder {
+
+    private final StoreConcurrencyLimiter limiter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (DatabaseType store : DatabaseType.values()) {
+            Gauge.builder("paginacao.concorrencia.limite", limiter, l -> l.permits(store))
+                    .description("Chamadas simultâneas permitidas ao banco")
+                    .tag("store", store.key())
+                    .register(registry);
+            Gauge.builder("paginacao.concorrencia.em.uso", limiter, l -> l.inUse(store))
+                    .description("Chamadas ao banco em andamento")
+                    .tag("store", store.key())
+                    .register(registry);
+            Gauge.builder("paginacao.concorrencia.espera", limiter, l -> l.waiting(store))
+                    .description("Chamadas aguardando vaga no semáforo do banco")
+                    .tag("store", store.key())
+                    .register(registry);
+            FunctionCounter.builder("paginacao.concorrencia.rejeitadas", limiter, l -> l.rejected(store))
+                    .description("Chamadas recusadas por falta de vaga no tempo limite")
+                    .tag("store", store.key())
+                    .register(registry);
+        }
+    }
+}
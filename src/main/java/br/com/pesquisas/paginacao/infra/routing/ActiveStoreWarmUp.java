@@ -0,0 +1,35 @@
+package br.com.pesquisas.paginacao.infra.routing;
+
+import br.com.pesquisas.paginacao.application.service.PaginationAdapterRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aquece o banco ativo na subida, para que a primeira requisição não pague a abertura do pool.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActiveStoreWarmUp {
+
+    private final PaginationAdapterRouter router;
+
+    @Value("${feature.database.warm-up-on-startup:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpActiveStore() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            router.warmUp(router.activeStore());
+        } catch (Exception e) {
+            log.error("❌ Falha ao aquecer o banco ativo {}: {}", router.activeStore().key(), e.getMessage());
+        }
+    }
+}
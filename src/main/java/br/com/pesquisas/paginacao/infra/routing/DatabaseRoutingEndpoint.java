@@ -0,0 +1,41 @@
+package br.com.pesquisas.paginacao.infra.routing;
+
+import br.com.pesquisas.paginacao.application.service.PaginationAdapterRouter;
+import br.com.pesquisas.paginacao.application.service.PaginationAdapterRouter.RoutingState;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Endpoint Actuator para consultar e trocar o banco ativo sem reiniciar:
+ *
+ * GET  /actuator/database
+ * POST /actuator/database  {"store": "mongo"}
+ */
+@Component
+@Endpoint(id = "database")
+@RequiredArgsConstructor
+public class DatabaseRoutingEndpoint {
+
+    private final PaginationAdapterRouter router;
+
+    @ReadOperation
+    public RoutingState state() {
+        return router.state();
+    }
+
+    @WriteOperation
+    public RoutingState switchTo(String store) {
+        DatabaseType target;
+        try {
+            target = DatabaseType.from(store);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Banco desconhecido: " + store, "store inválido");
+        }
+        return router.switchTo(target);
+    }
+}
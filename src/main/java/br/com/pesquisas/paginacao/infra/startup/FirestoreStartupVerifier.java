@@ -1,25 +1,52 @@
 package br.com.pesquisas.paginacao.infra.startup;
 
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.cloud.firestore.Firestore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Testa a conexão com o Firestore e confere se 'firestore.indexes.json' declara um índice
+ * composto para cada consulta das paginações com filtro. O emulador atende qualquer consulta
+ * sem índice, então um índice faltando só apareceria no Firestore real: a conferência
+ * antecipa esse erro para o ambiente local.
+ */
 @Slf4j
 @Component
-@Profile("local")
+@Profile({"local", "emulator"})
 @RequiredArgsConstructor
 public class FirestoreStartupVerifier implements ApplicationRunner {
 
+    private static final String INDEXES_FILE = "firestore.indexes.json";
+
+    /** Campos de igualdade aceitos pelas paginações, por forma do filtro (ExamFilter.shape). */
+    private static final List<List<String>> FILTER_FIELDS = List.of(
+            List.of("paciente_id"), List.of("status_exame"), List.of("paciente_id", "status_exame"));
+
     private final Firestore firestore;
+    private final ApplicationContext applicationContext;
+    private final ObjectMapper objectMapper;
 
     @Value("${firestore.startup-check.enabled:true}")
     private boolean enabled;
 
+    @Value("${bootstrap.scripts.path:classpath:/scripts/}")
+    private String scriptsPath;
 
     @Override
     public void run(ApplicationArguments args) throws Exception {
@@ -35,5 +62,70 @@ public class FirestoreStartupVerifier implements ApplicationRunner {
         } catch (Exception e) {
             log.error("❌ Falha ao conectar ao Firestore: {}", e.getMessage(), e);
         }
+
+        try {
+            verifyIndexes();
+        } catch (Exception e) {
+            log.error("❌ Falha ao ler '{}': {}", INDEXES_FILE, e.getMessage(), e);
+        }
+    }
+
+    private void verifyIndexes() throws Exception {
+        Resource resource = applicationContext.getResource(scriptsPath + INDEXES_FILE);
+        if (!resource.exists()) {
+            log.info("⏭️ '{}' não encontrado, conferência de índices ignorada.", INDEXES_FILE);
+            return;
+        }
+
+        Set<String> declared = new HashSet<>();
+        try (InputStream in = resource.getInputStream()) {
+            for (JsonNode index : objectMapper.readTree(in).path("indexes")) {
+                if (!"exames".equals(index.path("collectionGroup").asText())) {
+                    continue;
+                }
+                List<String> equality = new ArrayList<>();
+                String order = null;
+                for (JsonNode field : index.path("fields")) {
+                    if ("DESCENDING".equals(field.path("order").asText())) {
+                        order = field.path("fieldPath").asText();
+                    } else {
+                        equality.add(field.path("fieldPath").asText());
+                    }
+                }
+                declared.add(signature(equality, order));
+            }
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (List<String> equality : FILTER_FIELDS) {
+            for (String order : orderFields()) {
+                String required = signature(equality, order);
+                if (!declared.contains(required)) {
+                    missing.add(required);
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            log.info("✅ '{}' cobre todas as consultas filtradas da paginação.", INDEXES_FILE);
+        } else {
+            log.warn("⚠️ '{}' não declara índices para: {} (o emulador aceita, o Firestore real rejeita)", INDEXES_FILE, missing);
+        }
+    }
+
+    private static List<String> orderFields() {
+        List<String> fields = new ArrayList<>();
+        fields.add("created_at");
+        for (TimeField field : TimeField.values()) {
+            fields.add(field.column());
+        }
+        return fields;
+    }
+
+    /** "(a, b, ordem DESC)" com os campos de igualdade ordenados: a ordem deles no índice não importa. */
+    private static String signature(List<String> equality, String order) {
+        List<String> fields = new ArrayList<>(equality);
+        fields.sort(null);
+        fields.add(order + " DESC");
+        return "(" + String.join(", ", fields) + ")";
     }
-}
\ No newline at end of file
+}
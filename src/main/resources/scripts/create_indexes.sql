@@ -3,11 +3,27 @@
 -- Objetivo: Criação de índices adicionais no PostgreSQL
 -- ===============================================
 
-CREATE INDEX IF NOT EXISTS idx_paciente_data
+-- CONCURRENTLY: a tabela continua aceitando escrita durante a construção (fora de transação).
+-- Uma construção interrompida deixa o índice INVALID, e o IF NOT EXISTS não o recria:
+-- remova-o com DROP INDEX CONCURRENTLY antes de rodar o script de novo.
+-- Na tabela particionada o bootstrap executa sem CONCURRENTLY (o pai não aceita).
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_paciente_data
     ON exames (paciente_id, data_coleta DESC);
 
-CREATE INDEX IF NOT EXISTS idx_status_resultado
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_status_resultado
     ON exames (status_exame, data_resultado DESC);
 
-CREATE INDEX IF NOT EXISTS idx_created_at
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_created_at
     ON exames (created_at DESC);
+
+-- Índice da paginação keyset: (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_created_at_id
+    ON exames (created_at DESC, id DESC);
+
+-- Índices da paginação por janela de tempo sem filtro: range scan já na ordem (campo DESC, id DESC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_data_coleta_id
+    ON exames (data_coleta DESC, id DESC);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_data_resultado_id
+    ON exames (data_resultado DESC, id DESC);
@@ -14,7 +14,7 @@ CREATE TABLE IF NOT EXISTS exames (
     data_resultado TIMESTAMP,
     laboratorio VARCHAR(100),
     observacao TEXT,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT (now() AT TIME ZONE 'UTC')
     );
 
 -- Índices adicionais podem ser aplicados via 'create_indexes.sql'
@@ -0,0 +1,27 @@
+-- ===============================================
+-- Script: create_tables_partitioned.sql
+-- Objetivo: Tabela 'exames' particionada por mês em data_coleta
+--           (bootstrap.postgres.partitioning=monthly)
+-- ===============================================
+
+-- A chave primária de uma tabela particionada precisa conter a chave de partição
+CREATE TABLE IF NOT EXISTS exames (
+    id SERIAL,
+    paciente_id VARCHAR(50),
+    nome_paciente VARCHAR(120),
+    tipo_exame VARCHAR(100),
+    status_exame VARCHAR(40),
+    valor_resultado NUMERIC(10,2),
+    data_coleta TIMESTAMP NOT NULL,
+    data_resultado TIMESTAMP,
+    laboratorio VARCHAR(100),
+    observacao TEXT,
+    created_at TIMESTAMP DEFAULT (now() AT TIME ZONE 'UTC'),
+    PRIMARY KEY (id, data_coleta)
+    ) PARTITION BY RANGE (data_coleta);
+
+-- Linhas fora dos meses criados (histórico antigo, datas futuras demais)
+CREATE TABLE IF NOT EXISTS exames_default PARTITION OF exames DEFAULT;
+
+-- As partições mensais são criadas pela aplicação (PostgresMonthlyPartitions).
+-- Os índices de 'create_indexes.sql' são criados no pai e replicados em cada partição.
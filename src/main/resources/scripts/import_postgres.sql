@@ -9,7 +9,7 @@ CREATE TABLE IF NOT EXISTS exames (
     data_coleta TIMESTAMP,
     data_resultado TIMESTAMP,
     laboratorio VARCHAR(100),
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT (now() AT TIME ZONE 'UTC')
     );
 
 -- Importa os dados a partir do CSV (ajuste o caminho se estiver fora do container)
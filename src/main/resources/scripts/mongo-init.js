@@ -24,6 +24,23 @@ db.exames.createIndexes([
     {
         key: { created_at: -1 },
         name: 'idx_created_at'
+    },
+    {
+        key: { created_at: -1, _id: -1 },
+        name: 'idx_created_at_id'
+    },
+    {
+        // keyset sem paciente: cobre a projeção da página (consulta respondida só pelo índice)
+        key: {
+            created_at: -1, _id: -1, paciente_id: 1, status_exame: 1, nome_paciente: 1,
+            tipo_exame: 1, valor_resultado: 1, data_coleta: 1, data_resultado: 1, laboratorio: 1
+        },
+        name: 'idx_cover_created_at_id'
+    },
+    {
+        // keyset filtrado por paciente
+        key: { paciente_id: 1, created_at: -1, _id: -1 },
+        name: 'idx_paciente_created_at_id'
     }
 ]);
 
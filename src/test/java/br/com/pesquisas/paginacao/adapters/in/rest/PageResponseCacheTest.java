@@ -0,0 +1,106 @@
+package br.com.pesquisas.paginacao.adapters.in.rest;
+
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec;
+import br.com.pesquisas.paginacao.application.service.PaginationAdapterRouter;
+import br.com.pesquisas.paginacao.application.service.StoreConcurrencyLimiter;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.ExamsWrittenEvent;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageResponseCacheTest {
+
+    private static final Instant WATERMARK = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final CursorTokenCodec codec = new CursorTokenCodec();
+
+    private final PageResponseCache cache = new PageResponseCache(
+            new PaginationAdapterRouter(List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+                    new StoreConcurrencyLimiter(false, Duration.ZERO, 1, 1, 1), "postgres"),
+            codec, new ObjectMapper(), new SimpleMeterRegistry(), true, DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void hitServesStoredBytesWithoutLoading() {
+        String first = new String(head().getBody());
+        String second = new String(head().getBody());
+
+        assertThat(second).isEqualTo(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void watermarkAdvanceDropsHeadPagesButKeepsDeeperKeysetPages() {
+        head();
+        deep(WATERMARK.minusSeconds(60));
+
+        cache.invalidate(DatabaseType.POSTGRES, WATERMARK);
+        head();
+        deep(WATERMARK.minusSeconds(60));
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void backfillBelowTheCursorDropsTheKeysetPageEvenWhenEmpty() {
+        deep(WATERMARK.minusSeconds(60));
+
+        // linha retroativa entre a chave do cursor e a primeira linha da página
+        cache.invalidate(DatabaseType.POSTGRES, WATERMARK.minusSeconds(120));
+        deep(WATERMARK.minusSeconds(60));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void invalidationRacingThePutDoesNotLeaveAStalePage() {
+        // o limite é calculado depois da primeira conferência da geração: a invalidação cai entre ela e o put
+        cache.get(null, PaginationStrategy.KEYSET, ExamFilter.none(), null, 10,
+                store -> Map.of("load", loads.incrementAndGet()),
+                store -> {
+                    cache.invalidate(store, null);
+                    return null;
+                });
+        head();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void writeEventWithoutRangeDropsEveryPageOfTheStore() {
+        head();
+        deep(WATERMARK.minusSeconds(60));
+
+        cache.onExamsWritten(new ExamsWrittenEvent(DatabaseType.POSTGRES, null));
+        head();
+        deep(WATERMARK.minusSeconds(60));
+
+        assertThat(loads).hasValue(4);
+    }
+
+    private org.springframework.http.ResponseEntity<byte[]> head() {
+        return cache.get(null, PaginationStrategy.KEYSET, ExamFilter.none(), null, 10,
+                store -> Map.of("load", loads.incrementAndGet()), cache.keysetUpperBound(null));
+    }
+
+    /** Página depois de um cursor em 'cursorAt'; o loader devolve página vazia (o limite vem só do cursor). */
+    private void deep(Instant cursorAt) {
+        String token = codec.encode(DatabaseType.POSTGRES, new KeysetCursor(cursorAt, "42"));
+        cache.get(null, PaginationStrategy.KEYSET, ExamFilter.none(), token, 10,
+                store -> Map.of("load", loads.incrementAndGet()), cache.keysetUpperBound(token));
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.pesquisas.paginacao.adapters.in.rest;
+
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeParamsTest {
+
+    @Test
+    void acceptsEveryIsoOffsetForm() {
+        Instant expected = Instant.parse("2025-01-01T03:00:00Z");
+
+        assertThat(TimeParams.parseFrom("2025-01-01T03:00:00Z")).isEqualTo(expected);
+        assertThat(TimeParams.parseFrom("2025-01-01T00:00:00-03:00")).isEqualTo(expected);
+        assertThat(TimeParams.parseFrom("2025-01-01T06:00:00+03:00")).isEqualTo(expected);
+        assertThat(TimeParams.parseFrom("2025-01-01T06:00:00 03:00")).isEqualTo(expected);
+    }
+
+    @Test
+    void localValuesAreUtcAndPlainDateToIsInclusive() {
+        assertThat(TimeParams.parseFrom("2025-01-01T03:00:00")).isEqualTo(Instant.parse("2025-01-01T03:00:00Z"));
+        assertThat(TimeParams.parseFrom("2025-01-01")).isEqualTo(Instant.parse("2025-01-01T00:00:00Z"));
+        assertThat(TimeParams.parseTo("2025-01-01")).isEqualTo(Instant.parse("2025-01-02T00:00:00Z"));
+        assertThatThrownBy(() -> TimeParams.parseFrom("01/01/2025"))
+                .isInstanceOf(InvalidPaginationRequestException.class);
+    }
+}
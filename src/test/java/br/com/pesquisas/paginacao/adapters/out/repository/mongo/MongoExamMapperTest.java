@@ -0,0 +1,70 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.mongo;
+
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MongoExamMapperTest {
+
+    private static final Instant COLETA = Instant.parse("2025-03-10T08:15:30.123Z");
+
+    @Test
+    void readsRawBsonStraightIntoTheDomainModel() {
+        ObjectId id = new ObjectId();
+        Exam exam = MongoExamMapper.toExam(raw(new Document("_id", id)
+                .append("paciente_id", "P-7")
+                .append("tipo_exame", "Hemograma")
+                .append("status_exame", "CONCLUIDO")
+                .append("valor_resultado", new Decimal128(new BigDecimal("12.50")))
+                .append("data_coleta", Date.from(COLETA))
+                .append("data_resultado", null)
+                .append("observacao", new Document("ignorado", true))
+                .append("created_at", Date.from(COLETA))));
+
+        assertThat(exam.getId()).isEqualTo(id.toHexString());
+        assertThat(exam.getPacienteId()).isEqualTo("P-7");
+        assertThat(exam.getStatusExame()).isEqualTo("CONCLUIDO");
+        assertThat(exam.getValorResultado()).isEqualTo(12.5);
+        assertThat(exam.getDataColeta()).isEqualTo(COLETA);
+        assertThat(exam.getDataResultado()).isNull();
+        assertThat(exam.getNomePaciente()).isNull();
+        assertThat(exam.getCreatedAt()).isEqualTo(COLETA);
+    }
+
+    @Test
+    void lowCardinalityFieldsShareOneInstancePerValue() {
+        Exam first = MongoExamMapper.toExam(raw(new Document("_id", "000000000001").append("tipo_exame", "Glicemia")
+                .append("laboratorio", "Lab Central").append("valor_resultado", 90)));
+        Exam second = MongoExamMapper.toExam(raw(new Document("_id", "000000000002").append("tipo_exame", "Glicemia")
+                .append("laboratorio", "Lab Central").append("valor_resultado", 91L)));
+
+        assertThat(second.getTipoExame()).isSameAs(first.getTipoExame());
+        assertThat(second.getLaboratorio()).isSameAs(first.getLaboratorio());
+        assertThat(first.getValorResultado()).isEqualTo(90.0);
+        assertThat(second.getId()).isEqualTo("000000000002");
+    }
+
+    @Test
+    void rejectsTextDatesInsteadOfDroppingThemFromLaterPages() {
+        RawBsonDocument untyped = raw(new Document("_id", new ObjectId()).append("created_at", "2025-03-10T08:15:30"));
+
+        assertThatThrownBy(() -> MongoExamMapper.toExam(untyped))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("import_mongo.sh");
+    }
+
+    private static RawBsonDocument raw(Document document) {
+        return new RawBsonDocument(document, new DocumentCodec());
+    }
+}
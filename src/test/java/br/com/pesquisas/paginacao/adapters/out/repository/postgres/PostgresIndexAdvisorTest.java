@@ -0,0 +1,33 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresIndexAdvisorTest {
+
+    private static final String SELECT = "SELECT " + ExamSql.COLUMNS + " FROM exames";
+
+    @Test
+    void keysetPageGetsCoveringIndexOnSortKey() {
+        PostgresIndexAdvisor.Proposal proposal = PostgresIndexAdvisor.propose(
+                SELECT + " WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?", "");
+
+        assertThat(proposal.index()).isEqualTo("idx_cover_created_at_id");
+        assertThat(proposal.definition()).isEqualTo("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cover_created_at_id"
+                + " ON exames (created_at DESC, id DESC) INCLUDE (paciente_id, nome_paciente, tipo_exame, status_exame,"
+                + " valor_resultado, data_coleta, data_resultado, laboratorio)");
+    }
+
+    @Test
+    void statusFilterGetsPartialIndexPerValue() {
+        PostgresIndexAdvisor.Proposal proposal = PostgresIndexAdvisor.propose(
+                SELECT + " WHERE paciente_id = ? AND status_exame = ? ORDER BY created_at DESC, id DESC LIMIT ?",
+                "EM ANDAMENTO");
+
+        assertThat(proposal.index()).isEqualTo("idx_cover_paciente_created_at_id_em_andamento");
+        assertThat(proposal.definition())
+                .contains("ON exames (paciente_id, created_at DESC, id DESC) INCLUDE (nome_paciente,")
+                .endsWith(" WHERE status_exame = 'EM ANDAMENTO'");
+    }
+}
@@ -0,0 +1,60 @@
+package br.com.pesquisas.paginacao.adapters.out.repository.postgres;
+
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.PaginationStrategy;
+import br.com.pesquisas.paginacao.domain.model.TimeField;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostgresTimeWindowPaginationAdapterTest {
+
+    private static final Instant FROM = Instant.parse("2025-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2025-02-01T00:00:00Z");
+
+    private final List<String> sqls = new ArrayList<>();
+    private final List<Object[]> binds = new ArrayList<>();
+
+    private final PostgresTimeWindowPaginationAdapter adapter = new PostgresTimeWindowPaginationAdapter(
+            new PostgresPageQuery(null, null, null, null) {
+                @Override
+                List<Exam> query(PaginationStrategy strategy, long depth, String sql, Object[] args) {
+                    sqls.add(sql);
+                    binds.add(args);
+                    return List.of();
+                }
+            });
+
+    @Test
+    void everyPreBuiltSqlGetsOneBindPerPlaceholder() {
+        List<KeysetCursor> cursors = new ArrayList<>();
+        cursors.add(null);
+        cursors.add(new KeysetCursor(TO.minusSeconds(60), "42"));
+        cursors.add(KeysetCursor.before(TO.minusSeconds(60)));
+
+        for (TimeField field : TimeField.values()) {
+            for (int mask = 0; mask < 4; mask++) {
+                ExamFilter filter = new ExamFilter((mask & 1) != 0 ? "PAC-1" : null, (mask & 2) != 0 ? "CONCLUIDO" : null);
+                for (Instant to : new Instant[]{null, TO}) {
+                    for (KeysetCursor after : cursors) {
+                        adapter.findWindow(field, filter, FROM, to, after, 20);
+                    }
+                }
+            }
+        }
+
+        assertThat(sqls).hasSize(TimeField.values().length * 4 * 2 * 3);
+        for (int i = 0; i < sqls.size(); i++) {
+            String sql = sqls.get(i);
+            Object[] args = binds.get(i);
+            assertThat(args).as(sql).hasSize((int) sql.chars().filter(c -> c == '?').count()).doesNotContainNull();
+            assertThat(args[args.length - 1]).as(sql).isEqualTo(20);
+        }
+    }
+}
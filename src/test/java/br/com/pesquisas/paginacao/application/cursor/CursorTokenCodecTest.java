@@ -0,0 +1,77 @@
+package br.com.pesquisas.paginacao.application.cursor;
+
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec.SortKey;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.domain.model.StorePosition;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTokenCodecTest {
+
+    private final CursorTokenCodec codec = new CursorTokenCodec();
+
+    @Test
+    void roundTripPreservesKeyWithMicrosecondPrecision() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2024-05-10T12:30:45.123456Z"), "42");
+
+        String token = codec.encode(DatabaseType.POSTGRES, cursor);
+
+        assertThat(codec.decode(DatabaseType.POSTGRES, token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsTokenIssuedForAnotherStore() {
+        String token = codec.encode(DatabaseType.MONGO, new KeysetCursor(Instant.EPOCH, "abc"));
+
+        assertThatThrownBy(() -> codec.decode(DatabaseType.POSTGRES, token))
+                .isInstanceOf(InvalidPaginationRequestException.class);
+    }
+
+    @Test
+    void rejectsTokenIssuedForAnotherSortKey() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2024-05-10T12:30:45Z"), "42");
+        String timeToken = codec.encode(DatabaseType.POSTGRES, SortKey.DATA_COLETA, cursor);
+
+        assertThat(codec.decode(DatabaseType.POSTGRES, SortKey.DATA_COLETA, timeToken)).isEqualTo(cursor);
+        assertThatThrownBy(() -> codec.decode(DatabaseType.POSTGRES, timeToken))
+                .isInstanceOf(InvalidPaginationRequestException.class)
+                .hasMessageContaining("created_at");
+        assertThatThrownBy(() -> codec.decode(DatabaseType.POSTGRES, SortKey.DATA_RESULTADO, timeToken))
+                .isInstanceOf(InvalidPaginationRequestException.class);
+        assertThatThrownBy(() -> codec.decode(DatabaseType.POSTGRES, SortKey.DATA_COLETA,
+                codec.encode(DatabaseType.POSTGRES, cursor)))
+                .isInstanceOf(InvalidPaginationRequestException.class);
+    }
+
+    @Test
+    void rejectsGarbage() {
+        assertThatThrownBy(() -> codec.decode(DatabaseType.POSTGRES, "não-é-base64"))
+                .isInstanceOf(InvalidPaginationRequestException.class);
+        assertThatThrownBy(() -> codec.decode(DatabaseType.POSTGRES, "AQ"))
+                .isInstanceOf(InvalidPaginationRequestException.class);
+    }
+
+    @Test
+    void federatedRoundTripKeepsEachStorePosition() {
+        Map<DatabaseType, StorePosition> positions = new EnumMap<>(DatabaseType.class);
+        positions.put(DatabaseType.POSTGRES, new StorePosition(new KeysetCursor(Instant.parse("2024-05-10T12:30:45.123456Z"), "42"), false));
+        positions.put(DatabaseType.MONGO, StorePosition.START);
+        positions.put(DatabaseType.FIRESTORE, new StorePosition(new KeysetCursor(Instant.EPOCH, "exame-ç"), true));
+
+        String token = codec.encodeFederated(positions);
+
+        assertThat(codec.decodeFederated(token)).isEqualTo(positions);
+        assertThatThrownBy(() -> codec.decode(DatabaseType.POSTGRES, token))
+                .isInstanceOf(InvalidPaginationRequestException.class);
+        assertThatThrownBy(() -> codec.decodeFederated(codec.encode(DatabaseType.POSTGRES, new KeysetCursor(Instant.EPOCH, "1"))))
+                .isInstanceOf(InvalidPaginationRequestException.class);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.ExamsWrittenEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CursorPrefetcherTest {
+
+    private static final CursorPage PAGE = new CursorPage(List.of(), false);
+
+    private final CursorPrefetcher prefetcher = new CursorPrefetcher(true, 8, 1, Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        prefetcher.shutdown();
+    }
+
+    @Test
+    void nextRequestWithTheSameTokenIsServedOnce() {
+        AtomicInteger loads = new AtomicInteger();
+        prefetcher.prefetch(DatabaseType.POSTGRES, ExamFilter.none(), "t1", 10, () -> {
+            loads.incrementAndGet();
+            return PAGE;
+        });
+
+        assertThat(prefetcher.take(DatabaseType.POSTGRES, ExamFilter.none(), "t1", 20)).isNull();
+        assertThat(prefetcher.take(DatabaseType.POSTGRES, ExamFilter.none(), "t1", 10)).isSameAs(PAGE);
+        assertThat(prefetcher.take(DatabaseType.POSTGRES, ExamFilter.none(), "t1", 10)).isNull();
+        assertThat(loads).hasValue(1);
+        assertThat(prefetcher.hits(DatabaseType.POSTGRES)).isEqualTo(1);
+        assertThat(prefetcher.misses(DatabaseType.POSTGRES)).isEqualTo(2);
+    }
+
+    @Test
+    void prefetchIsDroppedWhenAllSlotsAreBusy() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        prefetcher.prefetch(DatabaseType.MONGO, ExamFilter.none(), "t1", 10, () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return PAGE;
+        });
+
+        prefetcher.prefetch(DatabaseType.MONGO, ExamFilter.none(), "t2", 10, () -> PAGE);
+
+        assertThat(prefetcher.skipped(DatabaseType.MONGO)).isEqualTo(1);
+        assertThat(prefetcher.inFlight()).isEqualTo(1);
+        release.countDown();
+        assertThat(prefetcher.take(DatabaseType.MONGO, ExamFilter.none(), "t1", 10)).isSameAs(PAGE);
+    }
+
+    @Test
+    void writesToTheStoreDiscardBufferedPagesAsWaste() {
+        prefetcher.prefetch(DatabaseType.FIRESTORE, ExamFilter.none(), "t1", 10, () -> PAGE);
+
+        prefetcher.onExamsWritten(new ExamsWrittenEvent(DatabaseType.FIRESTORE, null));
+
+        assertThat(prefetcher.take(DatabaseType.FIRESTORE, ExamFilter.none(), "t1", 10)).isNull();
+        assertThat(prefetcher.wasted(DatabaseType.FIRESTORE)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,139 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.cursor.CursorTokenCodec;
+import br.com.pesquisas.paginacao.application.port.in.FederatedPageResult;
+import br.com.pesquisas.paginacao.application.port.out.CursorPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.CursorPage;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.FederatedStoreStatus;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import br.com.pesquisas.paginacao.infra.metrics.MicrometerPaginationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FederatedPaginationServiceTest {
+
+    private static final Comparator<Exam> ORDER = Comparator.comparing(Exam::getCreatedAt)
+            .thenComparing(Exam::getId).reversed();
+
+    /** Linhas 0..29 no Postgres; no Mongo as pares de 10..29 (cópias migradas) e 30..39. */
+    private final InMemoryCursorPort postgres = new InMemoryCursorPort(DatabaseType.POSTGRES,
+            IntStream.range(0, 30).mapToObj(FederatedPaginationServiceTest::exam).toList());
+    private final InMemoryCursorPort mongo = new InMemoryCursorPort(DatabaseType.MONGO,
+            IntStream.range(10, 40).filter(i -> i >= 30 || i % 2 == 0).mapToObj(FederatedPaginationServiceTest::exam).toList());
+
+    private FederatedPaginationService service;
+
+    @BeforeEach
+    void setUp() {
+        PaginationAdapterRouter router = new PaginationAdapterRouter(List.of(postgres, mongo), List.of(), List.of(),
+                List.of(), List.of(), List.of(), new StoreConcurrencyLimiter(false, Duration.ZERO, 1, 1, 1), "postgres");
+        service = new FederatedPaginationService(router, new CursorTokenCodec(),
+                new MicrometerPaginationMetrics(new SimpleMeterRegistry(), 0));
+        ReflectionTestUtils.setField(service, "maxLimit", 500);
+        ReflectionTestUtils.setField(service, "storeTimeout", Duration.ofMillis(200));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void mergesStoresInKeyOrderWithoutLosingOrRepeatingRows() {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            FederatedPageResult page = service.page("postgres,mongo", ExamFilter.none(), cursor, 7);
+            assertThat(page.partial()).isFalse();
+            assertThat(page.items()).hasSizeLessThanOrEqualTo(7);
+            page.items().forEach(exam -> ids.add(exam.getId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null && pages < 20);
+
+        assertThat(ids).containsExactlyElementsOf(
+                IntStream.iterate(39, i -> i >= 0, i -> i - 1).mapToObj(FederatedPaginationServiceTest::id).toList());
+    }
+
+    @Test
+    void slowStoreIsLeftOutAndResumesFromItsPosition() {
+        mongo.delay = Duration.ofSeconds(2);
+
+        FederatedPageResult first = service.page("postgres,mongo", ExamFilter.none(), null, 5);
+
+        assertThat(first.partial()).isTrue();
+        assertThat(first.stores()).extracting(FederatedPageResult.StoreSlice::status)
+                .containsExactly(FederatedStoreStatus.OK, FederatedStoreStatus.TIMEOUT);
+        assertThat(first.items()).extracting(Exam::getId).containsExactly(id(29), id(28), id(27), id(26), id(25));
+
+        mongo.delay = Duration.ZERO;
+        FederatedPageResult second = service.page(null, ExamFilter.none(), first.nextCursor(), 5);
+
+        assertThat(second.partial()).isFalse();
+        assertThat(second.items()).extracting(Exam::getId).containsExactly(id(39), id(38), id(37), id(36), id(35));
+    }
+
+    private static Exam exam(int i) {
+        return Exam.builder().id(id(i)).createdAt(Instant.EPOCH.plusSeconds(i)).build();
+    }
+
+    private static String id(int i) {
+        return String.format("%03d", i);
+    }
+
+    private static final class InMemoryCursorPort implements CursorPaginationPort {
+
+        private final DatabaseType store;
+        private final List<Exam> rows;
+        volatile Duration delay = Duration.ZERO;
+
+        InMemoryCursorPort(DatabaseType store, List<Exam> rows) {
+            this.store = store;
+            this.rows = rows.stream().sorted(ORDER).toList();
+        }
+
+        @Override
+        public DatabaseType store() {
+            return store;
+        }
+
+        @Override
+        public CursorPage findPage(ExamFilter filter, KeysetCursor after, int limit) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            List<Exam> tail = rows.stream()
+                    .filter(exam -> after == null
+                            || ORDER.compare(exam, Exam.builder().id(after.id()).createdAt(after.timestamp()).build()) > 0)
+                    .limit(limit + 1L)
+                    .toList();
+            boolean hasNext = tail.size() > limit;
+            return new CursorPage(hasNext ? tail.subList(0, limit) : tail, hasNext);
+        }
+
+        @Override
+        public Optional<KeysetCursor> keyOf(String id) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.port.out.OffsetPaginationPort;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.Exam;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import br.com.pesquisas.paginacao.domain.model.KeysetCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffsetBookmarkIndexTest {
+
+    private static final List<KeysetCursor> ROWS = IntStream.range(0, 5_000)
+            .mapToObj(i -> new KeysetCursor(Instant.EPOCH.minusSeconds(i), String.valueOf(i)))
+            .toList();
+
+    private final InMemoryOffsetPort offsetPort = new InMemoryOffsetPort();
+    private final StoreAdapters adapters = new StoreAdapters(DatabaseType.POSTGRES, null, offsetPort, null, null, null);
+    private final OffsetBookmarkIndex index = new OffsetBookmarkIndex(
+            new PaginationAdapterRouter(List.of(), List.of(offsetPort), List.of(), List.of(), List.of(), List.of(),
+                    new StoreConcurrencyLimiter(false, Duration.ZERO, 1, 1, 1), "postgres"));
+
+    @BeforeEach
+    void configure() {
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "interval", 100);
+        ReflectionTestUtils.setField(index, "maxPerFilter", 1_000);
+        ReflectionTestUtils.setField(index, "maxTrackedFilters", 16);
+        ReflectionTestUtils.setField(index, "maxWalkSteps", 32);
+    }
+
+    @Test
+    void seeksFromNearestBookmarkAfterTheFirstWalk() {
+        assertThat(index.keyAt(adapters, ExamFilter.none(), 2_499)).contains(ROWS.get(2_499));
+        assertThat(offsetPort.skipped).isEqualTo(2_499 - 24);
+
+        offsetPort.skipped = 0;
+        assertThat(index.keyAt(adapters, ExamFilter.none(), 2_449)).contains(ROWS.get(2_449));
+        assertThat(offsetPort.skipped).isEqualTo(48);
+    }
+
+    @Test
+    void coldDeepOffsetJumpsStraightToTheLastBookmarkBeforeIt() {
+        ReflectionTestUtils.setField(index, "maxWalkSteps", 4);
+
+        assertThat(index.keyAt(adapters, ExamFilter.none(), 2_499)).contains(ROWS.get(2_499));
+        assertThat(offsetPort.calls).isEqualTo(2);
+        assertThat(offsetPort.skipped).isEqualTo(2_400 + 98);
+
+        offsetPort.calls = 0;
+        offsetPort.skipped = 0;
+        assertThat(index.keyAt(adapters, ExamFilter.none(), 2_450)).contains(ROWS.get(2_450));
+        assertThat(offsetPort.calls).isEqualTo(1);
+        assertThat(offsetPort.skipped).isEqualTo(49);
+    }
+
+    @Test
+    void servedPagesLeaveBookmarks() {
+        List<Exam> page = ROWS.subList(190, 210).stream()
+                .map(key -> Exam.builder().id(key.id()).createdAt(key.timestamp()).build())
+                .toList();
+        index.record(adapters, ExamFilter.none(), 190, page);
+
+        assertThat(index.keyAt(adapters, ExamFilter.none(), 205)).contains(ROWS.get(205));
+        assertThat(offsetPort.skipped).isEqualTo(4);
+    }
+
+    @Test
+    void rowsWithoutCreatedAtLeaveNoBookmark() {
+        index.record(adapters, ExamFilter.none(), 200, List.of(Exam.builder().id("200").build()));
+
+        assertThat(index.keyAt(adapters, ExamFilter.none(), 200)).contains(ROWS.get(200));
+        assertThat(offsetPort.skipped).isEqualTo(100 + 99);
+    }
+
+    @Test
+    void rebuildKeepsPositionsAfterInsertsAtTheHead() {
+        index.keyAt(adapters, ExamFilter.none(), 300);
+        offsetPort.shift = 7;
+
+        index.refreshBookmarks();
+
+        assertThat(index.keyAt(adapters, ExamFilter.none(), 300)).contains(ROWS.get(300 - 7));
+    }
+
+    @Test
+    void pastTheEndReturnsEmpty() {
+        assertThat(index.keyAt(adapters, ExamFilter.none(), 7_000)).isEmpty();
+    }
+
+    /** Linhas em ordem; 'shift' simula linhas novas no topo (todas as posições andam). */
+    private static final class InMemoryOffsetPort implements OffsetPaginationPort {
+
+        long skipped;
+        int calls;
+        int shift;
+
+        @Override
+        public DatabaseType store() {
+            return DatabaseType.POSTGRES;
+        }
+
+        @Override
+        public List<Exam> findPage(ExamFilter filter, long offset, int size) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<KeysetCursor> keyAt(ExamFilter filter, KeysetCursor after, long position) {
+            calls++;
+            skipped += position;
+            long row = after != null ? ROWS.indexOf(after) + 1 + position : position - shift;
+            return row < ROWS.size() ? Optional.of(ROWS.get(Math.toIntExact(row))) : Optional.empty();
+        }
+    }
+}
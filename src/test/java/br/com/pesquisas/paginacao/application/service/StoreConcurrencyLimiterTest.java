@@ -0,0 +1,82 @@
+package br.com.pesquisas.paginacao.application.service;
+
+import br.com.pesquisas.paginacao.application.port.out.ExamCountPort;
+import br.com.pesquisas.paginacao.domain.exception.InvalidPaginationRequestException;
+import br.com.pesquisas.paginacao.domain.exception.StoreSaturatedException;
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import br.com.pesquisas.paginacao.domain.model.ExamFilter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoreConcurrencyLimiterTest {
+
+    private final StoreConcurrencyLimiter limiter =
+            new StoreConcurrencyLimiter(true, Duration.ofMillis(50), 1, 1, 1);
+
+    @Test
+    void rejectsWhenEveryPermitIsTakenAndReleasesAfterTheCall() throws Exception {
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExamCountPort slow = limiter.guard(ExamCountPort.class, DatabaseType.MONGO, new FixedCountPort(() -> {
+            inside.countDown();
+            await(release);
+        }));
+
+        Thread holder = Thread.ofVirtual().start(() -> slow.exactCount(ExamFilter.none()));
+        inside.await();
+
+        assertThat(slow.store()).isEqualTo(DatabaseType.MONGO);
+        assertThat(limiter.inUse(DatabaseType.MONGO)).isEqualTo(1);
+        assertThatThrownBy(() -> slow.estimatedCount(ExamFilter.none()))
+                .isInstanceOf(StoreSaturatedException.class);
+        assertThat(limiter.rejected(DatabaseType.MONGO)).isEqualTo(1);
+
+        release.countDown();
+        holder.join();
+        assertThat(limiter.inUse(DatabaseType.MONGO)).isZero();
+    }
+
+    @Test
+    void propagatesAdapterExceptionsUnwrapped() {
+        ExamCountPort failing = limiter.guard(ExamCountPort.class, DatabaseType.POSTGRES, new FixedCountPort(() -> {
+            throw new InvalidPaginationRequestException("filtro inválido");
+        }));
+
+        assertThatThrownBy(() -> failing.exactCount(ExamFilter.none()))
+                .isInstanceOf(InvalidPaginationRequestException.class);
+        assertThat(limiter.inUse(DatabaseType.POSTGRES)).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record FixedCountPort(Runnable onCall) implements ExamCountPort {
+
+        @Override
+        public DatabaseType store() {
+            return DatabaseType.MONGO;
+        }
+
+        @Override
+        public long estimatedCount(ExamFilter filter) {
+            onCall.run();
+            return 0;
+        }
+
+        @Override
+        public long exactCount(ExamFilter filter) {
+            onCall.run();
+            return 0;
+        }
+    }
+}
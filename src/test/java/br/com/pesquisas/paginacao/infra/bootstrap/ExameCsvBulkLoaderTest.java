@@ -0,0 +1,71 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import br.com.pesquisas.paginacao.domain.model.DatabaseType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ExameCsvBulkLoaderTest {
+
+    @TempDir
+    Path dir;
+
+    private final AtomicInteger writes = new AtomicInteger();
+    private final AtomicInteger completions = new AtomicInteger();
+
+    @Test
+    void malformedHeaderStillStopsTheWorkers() throws Exception {
+        Path csv = Files.writeString(dir.resolve("exames.csv"), "id;paciente\n1;P-1\n");
+        ExameCsvBulkLoader loader = loader(csv);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), loader::load);
+
+        assertThat(Thread.getAllStackTraces().keySet())
+                .noneMatch(thread -> thread.getName().startsWith("bulk-load-postgres-") && thread.isAlive());
+        assertThat(writes).hasValue(0);
+        assertThat(completions).hasValue(1);
+    }
+
+    private ExameCsvBulkLoader loader(Path csv) {
+        BulkLoadSink sink = new BulkLoadSink() {
+            @Override
+            public DatabaseType store() {
+                return DatabaseType.POSTGRES;
+            }
+
+            @Override
+            public int parallelism() {
+                return 3;
+            }
+
+            @Override
+            public void write(CsvBatch batch) {
+                writes.incrementAndGet();
+            }
+
+            @Override
+            public void complete() {
+                completions.incrementAndGet();
+            }
+        };
+        ExameCsvBulkLoader loader = new ExameCsvBulkLoader(List.of(sink), event -> { });
+        ReflectionTestUtils.setField(loader, "csvFile", csv);
+        ReflectionTestUtils.setField(loader, "stores", Set.of("postgres"));
+        ReflectionTestUtils.setField(loader, "batchSize", 100);
+        ReflectionTestUtils.setField(loader, "queueCapacity", 1);
+        ReflectionTestUtils.setField(loader, "checkpointDir", dir.resolve("checkpoint"));
+        ReflectionTestUtils.setField(loader, "resume", false);
+        ReflectionTestUtils.setField(loader, "maxRetries", 0);
+        return loader;
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.pesquisas.paginacao.infra.bootstrap;
+
+import br.com.pesquisas.paginacao.infra.bootstrap.SqlScriptParser.SqlStatement;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SqlScriptParserTest {
+
+    @Test
+    void semicolonsInsideQuotesDollarBodiesAndCommentsDoNotSplit() throws IOException {
+        List<SqlStatement> statements = parse("""
+                -- cabeçalho; com ponto e vírgula
+                CREATE TABLE t (v TEXT DEFAULT 'a;b', "c;d" INT);
+                /* bloco; /* aninhado; */ ainda comentário; */
+                CREATE FUNCTION f() RETURNS trigger AS $$
+                BEGIN
+                    RAISE NOTICE 'x;y';
+                    RETURN NEW;
+                END;
+                $$ LANGUAGE plpgsql;
+                DO $body$ BEGIN PERFORM 1; END $body$;
+                INSERT INTO t VALUES ('it''s;'), (E'\\';'), ($1);
+                """);
+
+        assertThat(statements).extracting(SqlStatement::line).containsExactly(2, 4, 10, 11);
+        assertThat(statements.get(0).sql()).isEqualTo("CREATE TABLE t (v TEXT DEFAULT 'a;b', \"c;d\" INT)");
+        assertThat(statements.get(1).sql()).startsWith("CREATE FUNCTION f()").contains("RETURN NEW;\nEND;\n$$ LANGUAGE plpgsql");
+        assertThat(statements.get(2).sql()).isEqualTo("DO $body$ BEGIN PERFORM 1; END $body$");
+        assertThat(statements.get(3).sql()).isEqualTo("INSERT INTO t VALUES ('it''s;'), (E'\\';'), ($1)");
+    }
+
+    @Test
+    void lastStatementWithoutSemicolonIsKeptAndCommentOnlyTailIsDropped() throws IOException {
+        assertThat(parse("SELECT 1;\n;\nSELECT 2 -- fim")).extracting(SqlStatement::sql)
+                .containsExactly("SELECT 1", "SELECT 2");
+        assertThat(parse("SELECT 1;\n-- só comentário\n")).hasSize(1);
+    }
+
+    @Test
+    void unterminatedDollarQuoteFails() {
+        assertThatThrownBy(() -> parse("DO $$ BEGIN PERFORM 1; END;"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("$$");
+    }
+
+    private static List<SqlStatement> parse(String script) throws IOException {
+        SqlScriptParser parser = new SqlScriptParser(new StringReader(script));
+        List<SqlStatement> statements = new ArrayList<>();
+        for (SqlStatement statement = parser.next(); statement != null; statement = parser.next()) {
+            statements.add(statement);
+        }
+        return statements;
+    }
+}